@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# /todos 서블릿 버전과 논블로킹 버전(todo-reactive) 부하 비교
+#
+# 두 서버에 같은 부하(wrk)를 차례로 걸고 처리량(req/s)과 연결당 메모리를 출력합니다.
+# 연결당 메모리는 Native Memory Tracking 기준 committed 메모리의 부하 전/중 차이를 동시 연결 수로 나눈 값입니다.
+#
+# 준비
+#   - wrk, jcmd(JDK) 필요
+#   - 두 서버를 -XX:NativeMemoryTracking=summary 옵션으로 실행
+#   - DB 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size, spring.r2dbc.pool.max-size)는 같은 값으로 맞춤
+#   - 요청 속도 제한에 걸리지 않도록 조회(GET /todos)만 사용
+#
+# 사용법
+#   ACCESS_TOKEN={AT} SERVLET_PID={PID} REACTIVE_PID={PID} ./loadtest/todos-compare.sh
+#
+# 환경 변수
+#   SERVLET_URL   서블릿 서버 주소 (기본 http://127.0.0.1:8080)
+#   REACTIVE_URL  논블로킹 서버 주소 (기본 http://127.0.0.1:8081)
+#   CONNECTIONS   동시 연결 수 목록 (기본 "100 1000 4000")
+#   DURATION      연결 수별 측정 시간, 초 단위 (기본 60s)
+#   THREADS       wrk 스레드 수 (기본 4)
+
+set -euo pipefail
+
+: "${ACCESS_TOKEN:?ACCESS_TOKEN is required}"
+: "${SERVLET_PID:?SERVLET_PID is required}"
+: "${REACTIVE_PID:?REACTIVE_PID is required}"
+
+SERVLET_URL="${SERVLET_URL:-http://127.0.0.1:8080}"
+REACTIVE_URL="${REACTIVE_URL:-http://127.0.0.1:8081}"
+CONNECTIONS="${CONNECTIONS:-100 1000 4000}"
+DURATION="${DURATION:-60s}"
+THREADS="${THREADS:-4}"
+REQUEST_PATH="/todos?page=1&size=10"
+
+# NMT committed 합계(KB)
+committed_kb() {
+    jcmd "$1" VM.native_memory summary | awk '/^Total:/ { for (i = 1; i <= NF; i++) if ($i ~ /^committed=/) { sub("committed=", "", $i); sub("KB", "", $i); print $i } }'
+}
+
+# 부하 중간 시점의 committed 메모리(KB)를 기록
+sample_during_load() {
+    local pid="$1" delay="$2" out="$3"
+    sleep "$delay"
+    committed_kb "$pid" > "$out"
+}
+
+run() {
+    local name="$1" url="$2" pid="$3" connections="$4"
+    local before during sample rps
+
+    before=$(committed_kb "$pid")
+    sample=$(mktemp)
+
+    # 측정 시간의 절반이 지났을 때 메모리 측정
+    sample_during_load "$pid" "$(( ${DURATION%s} / 2 ))" "$sample" &
+    rps=$(wrk -t"$THREADS" -c"$connections" -d"$DURATION" --latency \
+            -H "Authorization: Bearer $ACCESS_TOKEN" "$url$REQUEST_PATH" \
+        | awk '/^Requests\/sec:/ { print $2 }')
+    wait
+
+    during=$(cat "$sample")
+    rm -f "$sample"
+
+    printf "%-9s %11s %12s %14s\n" "$name" "$connections" "$rps" \
+        "$(( (during - before) / connections ))"
+}
+
+printf "%-9s %11s %12s %14s\n" "server" "connections" "req/s" "KB/connection"
+for connections in $CONNECTIONS; do
+    run servlet "$SERVLET_URL" "$SERVLET_PID" "$connections"
+    run reactive "$REACTIVE_URL" "$REACTIVE_PID" "$connections"
+done
@@ -0,0 +1,97 @@
+package com.example.test_project.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+
+/**
+ * {@link OsDetectorUtil} 벤치마크 (./gradlew jmh)
+ * 
+ * <p>실제 브라우저/앱 User-Agent 모음을 차례로 판정합니다.
+ * {@code detect}는 캐시를 거친 경로, {@code detectUncached}는 캐시 없이 한 번 훑는 경로를 측정합니다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OsDetectorUtilBenchmark {
+
+    private static final List<String> USER_AGENTS = List.of(
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36",
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:125.0) Gecko/20100101 Firefox/125.0",
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36 Edg/124.0.2478.80",
+        "Mozilla/5.0 (Windows NT 6.1; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/109.0.0.0 Safari/537.36",
+        "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.4.1 Safari/605.1.15",
+        "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36",
+        "Mozilla/5.0 (Macintosh; Intel Mac OS X 14.4; rv:125.0) Gecko/20100101 Firefox/125.0",
+        "Mozilla/5.0 (iPhone; CPU iPhone OS 17_4_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.4.1 Mobile/15E148 Safari/604.1",
+        "Mozilla/5.0 (iPhone; CPU iPhone OS 16_7_8 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) CriOS/124.0.6367.88 Mobile/15E148 Safari/604.1",
+        "Mozilla/5.0 (iPad; CPU OS 17_4 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.4 Mobile/15E148 Safari/604.1",
+        "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.4 Mobile/15E148 Safari/604.1",
+        "Mozilla/5.0 (Linux; Android 14; SM-S918N Build/UP1A.231005.007; wv) AppleWebKit/537.36 (KHTML, like Gecko) Version/4.0 Chrome/124.0.6367.82 Mobile Safari/537.36 KAKAOTALK 10.6.5",
+        "Mozilla/5.0 (Linux; Android 13; SM-A536N) AppleWebKit/537.36 (KHTML, like Gecko) SamsungBrowser/24.0 Chrome/117.0.0.0 Mobile Safari/537.36",
+        "Mozilla/5.0 (Linux; Android 10; K) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Mobile Safari/537.36",
+        "Mozilla/5.0 (X11; CrOS x86_64 14541.0.0) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36",
+        "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36",
+        "Mozilla/5.0 (X11; Ubuntu; Linux x86_64; rv:125.0) Gecko/20100101 Firefox/125.0",
+        "okhttp/4.12.0",
+        "PostmanRuntime/7.37.3",
+        "curl/8.7.1");
+
+    private HttpServletRequest[] requests;
+    private MethodHandle detectUncached;
+    private int index;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        requests = new HttpServletRequest[USER_AGENTS.size() + 1];
+        for (int i = 0; i < USER_AGENTS.size(); i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("user-agent", USER_AGENTS.get(i));
+            requests[i] = request;
+        }
+
+        // Client Hints를 보내는 Chromium 계열 요청
+        MockHttpServletRequest clientHints = new MockHttpServletRequest();
+        clientHints.addHeader("user-agent", USER_AGENTS.get(0));
+        clientHints.addHeader("sec-ch-ua-platform", "\"Windows\"");
+        clientHints.addHeader("sec-ch-ua-platform-version", "\"15.0.0\"");
+        requests[USER_AGENTS.size()] = clientHints;
+
+        detectUncached = MethodHandles.privateLookupIn(OsDetectorUtil.class, MethodHandles.lookup())
+            .findStatic(OsDetectorUtil.class, "detectUncached", MethodType.methodType(String.class, HttpServletRequest.class));
+    }
+
+
+    @Benchmark
+    public String detect() {
+        return OsDetectorUtil.detect(next());
+    }
+
+
+    @Benchmark
+    public String detectUncached() throws Throwable {
+        return (String) detectUncached.invokeExact(next());
+    }
+
+
+    private HttpServletRequest next() {
+        HttpServletRequest request = requests[index];
+        index = index + 1 == requests.length ? 0 : index + 1;
+        return request;
+    }
+
+}
@@ -2,9 +2,11 @@ package com.example.test_project.config;
 
 import com.example.test_project.config.properties.AppProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @Configuration
+@EnableScheduling
 @EnableConfigurationProperties(AppProperties.class)
 public class AppConfig {
 }
\ No newline at end of file
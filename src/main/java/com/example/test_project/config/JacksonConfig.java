@@ -0,0 +1,30 @@
+package com.example.test_project.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Blackbird 모듈 (Spring Boot가 ObjectMapper에 자동 등록)
+     * 
+     * <p>리플렉션 대신 LambdaMetafactory로 만든 접근자로 getter/setter/생성자를 호출합니다.
+     * TO-DO 목록/상세 응답은 전용 직렬화기({@code dto.response.json})로 쓰고, 그 외 DTO에 적용됩니다.</p>
+     * 
+     * <p>네이티브 이미지에서는 실행 중 클래스를 만들 수 없으므로 빈 모듈로 대체합니다.</p>
+     */
+    @Bean
+    public Module blackbirdModule() {
+        if (NativeDetector.inNativeImage()) {
+            return new SimpleModule("blackbird-disabled");
+        }
+        return new BlackbirdModule();
+    }
+
+}
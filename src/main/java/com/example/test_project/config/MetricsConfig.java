@@ -0,0 +1,60 @@
+package com.example.test_project.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+
+/**
+ * 메트릭 설정
+ * 
+ * <p>HTTP 요청 메트릭({@code http.server.requests})에 요청을 처리한 컨트롤러 메서드를
+ * {@code handler} 태그({@code TodoController.getTodos} 형식)로 추가합니다.
+ * 같은 URI 패턴을 여러 메서드가 나눠 처리해도 메서드별 지연 시간 히스토그램을 볼 수 있습니다.
+ * 컨트롤러에 도달하지 않은 요청(보안 필터 거부, 정적 리소스 등)은 {@code none}입니다.</p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new HandlerServerRequestObservationConvention();
+    }
+
+
+    /**
+     * 기본 태그에 컨트롤러 메서드 태그를 더하는 관측 규칙
+     */
+    static class HandlerServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+        private static final KeyValue HANDLER_NONE = KeyValue.of("handler", "none");
+
+        // 요청마다 문자열을 만들지 않도록 메서드별 태그를 캐시 (컨트롤러 메서드 수만큼만 생성)
+        private final ConcurrentHashMap<Method, KeyValue> handlerKeyValues = new ConcurrentHashMap<>();
+
+        @Override
+        public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+            return super.getLowCardinalityKeyValues(context).and(handler(context));
+        }
+
+        private KeyValue handler(ServerRequestObservationContext context) {
+            Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+            if (!(handler instanceof HandlerMethod handlerMethod)) {
+                return HANDLER_NONE;
+            }
+            return handlerKeyValues.computeIfAbsent(handlerMethod.getMethod(),
+                    method -> KeyValue.of("handler", handlerMethod.getBeanType().getSimpleName() + "." + method.getName()));
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.test_project.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import com.example.test_project.repository.TokenWithLastUsedAt;
+import com.example.test_project.repository.TokenWithUser;
+import com.example.test_project.util.SessionRegistryUtil;
+
+/**
+ * GraalVM 네이티브 이미지용 런타임 힌트
+ * 
+ * <p>빌드 시(AOT 처리) 한 번 실행되어 리플렉션/리소스 접근 대상을 등록합니다.
+ * JVM 실행에는 영향이 없습니다.</p>
+ * <ul>
+ *   <li>jOOQ 생성 클래스: {@code fetchInto(Todos.class)} 등이 리플렉션으로 매핑하는 POJO와 레코드</li>
+ *   <li>DTO와 Redis에 JSON으로 저장하는 값: Jackson 직렬화/역직렬화</li>
+ *   <li>JJWT: 구현 클래스(jjwt-impl)를 이름으로 생성하므로 생성자와 정적 메서드</li>
+ *   <li>MariaDB 드라이버 버전 정보, 메일 템플릿 리소스</li>
+ * </ul>
+ * 
+ * <p>Lettuce/Netty, Hikari, Caffeine은 Spring Boot와 GraalVM reachability metadata가 제공하는 힌트를 사용합니다.</p>
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.AppRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class AppRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String JOOQ_PACKAGE = "com.example.jooq.tables";
+        private static final String DTO_PACKAGE = "com.example.test_project.dto";
+
+        private static final String[] JJWT_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // jOOQ POJO/레코드: 생성자, 필드, setter를 리플렉션으로 사용
+            for (Class<?> type : scan(JOOQ_PACKAGE, classLoader)) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            for (Class<?> type : List.of(TokenWithUser.class, TokenWithLastUsedAt.class)) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            // Jackson 직렬화 대상 (필드 타입과 @JsonSerialize 직렬화기 포함)
+            BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+            bindingHints.registerReflectionHints(hints.reflection(), scan(DTO_PACKAGE, classLoader).toArray(Class<?>[]::new));
+            bindingHints.registerReflectionHints(hints.reflection(), SessionRegistryUtil.Session.class);
+
+            // JJWT (jjwt-impl, jjwt-jackson은 runtimeOnly라 이름으로 등록)
+            for (String typeName : JJWT_TYPES) {
+                hints.reflection().registerTypeIfPresent(classLoader, typeName,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            // MariaDB 드라이버
+            hints.reflection().registerTypeIfPresent(classLoader, "org.mariadb.jdbc.Driver", MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerPattern("mariadb.properties");
+
+            // 메일 템플릿
+            hints.resources().registerPattern("templates/mail/*.html");
+        }
+
+        /**
+         * 패키지 아래의 모든 최상위 클래스를 찾습니다. (빌드 시에만 실행)
+         */
+        private static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+            List<Class<?>> types = new ArrayList<>();
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+            return types;
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.example.test_project.config.crac;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.config.security.provider.JwtTokenProvider;
+import com.example.test_project.repository.UsersRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * CRaC 체크포인트 전 워밍업 ({@code app.crac-warmup-iterations > 0})
+ * 
+ * <p>애플리케이션이 준비되면 자주 호출되는 엔드포인트를 자기 자신에게 반복 요청해
+ * 필터 체인, JWT 검증, 컨트롤러, jOOQ, JSON 직렬화, 오류 응답 경로를 JIT 컴파일된 상태로 만듭니다.
+ * 워밍업용 사용자 번호({@code app.crac-warmup-user-no}, 기본 -1)로 USER 토큰을 만들어 호출하므로,
+ * 실제 사용자의 토큰이 만들어지지 않도록 음수이거나 DB에 없는 번호일 때만 워밍업합니다.
+ * 존재하는 번호이거나 확인할 수 없으면 워밍업을 건너뜁니다.</p>
+ * 
+ * <p>체크포인트에는 힙이 그대로 저장되므로 설정의 비밀값(JWT 서명 키, DB/Redis/SMTP 비밀번호)과
+ * 유효 기간이 남은 워밍업 토큰이 들어 있습니다. 체크포인트 파일은 비밀값과 같은 수준으로 보호해야 합니다.</p>
+ * 
+ * <p>{@code app.crac-checkpoint-after-warmup=true}이면 워밍업 직후 체크포인트를 요청합니다.
+ * 체크포인트 전후의 연결 정리는 컨텍스트 생명주기(Hikari 풀, Redis 연결 팩토리, 웹 서버,
+ * 이메일 대기열 워커와 SMTP 연결)가 맡습니다. CRaC를 지원하지 않는 JVM에서는 경고만 남기고 계속 실행합니다.</p>
+ */
+@Slf4j
+@Component
+public class CheckpointWarmup {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UsersRepository usersRepository;
+    private final AppProperties appProperties;
+
+    public CheckpointWarmup(JwtTokenProvider jwtTokenProvider, UsersRepository usersRepository, AppProperties appProperties) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.usersRepository = usersRepository;
+        this.appProperties = appProperties;
+    }
+
+
+    /**
+     * 워밍업을 실행하고, 설정된 경우 체크포인트를 요청합니다.
+     * 
+     * <p>워밍업 사용자 번호를 쓸 수 없어 워밍업을 건너뛴 경우에도 체크포인트는 요청합니다.</p>
+     * 
+     * @param event 준비 완료 이벤트
+     */
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        int iterations = appProperties.getCracWarmupIterations();
+        if (iterations <= 0 || !(event.getApplicationContext() instanceof WebServerApplicationContext context)) {
+            return;
+        }
+
+        int userNo = appProperties.getCracWarmupUserNo();
+        if (isUnusedUserNo(userNo)) {
+            long startNanos = System.nanoTime();
+            int failures = warmUp(context.getWebServer().getPort(), userNo, iterations);
+            log.info("워밍업 완료 - iterations: {}, failures: {}, elapsedMs: {}",
+                    iterations, failures, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        }
+
+        if (appProperties.isCracCheckpointAfterWarmup()) {
+            checkpoint();
+        }
+    }
+
+
+    /**
+     * 워밍업 토큰에 쓸 수 있는 사용자 번호인지 확인합니다. (음수이거나 DB에 없는 번호)
+     */
+    private boolean isUnusedUserNo(int userNo) {
+        if (userNo < 0) {
+            return true;
+        }
+
+        try {
+            if (usersRepository.find(userNo).isPresent()) {
+                log.warn("워밍업 건너뜀, 존재하는 사용자 번호 - userNo: {}", userNo);
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // 확인할 수 없으면 실제 사용자일 수 있으므로 건너뜀
+            log.warn("워밍업 건너뜀, 사용자 번호 확인 실패 - userNo: {}, error: {}", userNo, e.getMessage());
+            return false;
+        }
+    }
+
+    private int warmUp(int port, int userNo, int iterations) {
+        String baseUrl = "http://localhost:" + port;
+        String token = jwtTokenProvider.generateAccessToken(userNo, "warmup@localhost", "USER");
+        String missingTodoId = UUID.randomUUID().toString();
+
+        int failures = 0;
+        // 체크포인트에 열린 소켓이 남지 않도록 워밍업이 끝나면 클라이언트를 닫음
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build()) {
+            for (int i = 0; i < iterations; i++) {
+                jwtTokenProvider.isValid(token);
+                failures += send(client, baseUrl + "/todos?page=1&size=10", token);
+                failures += send(client, baseUrl + "/todos/statistics", token);
+                failures += send(client, baseUrl + "/todos/" + missingTodoId, token);
+                failures += send(client, baseUrl + "/user", token);
+                // 인증 실패(401) 경로
+                failures += send(client, baseUrl + "/todos", null);
+            }
+            failures += send(client, baseUrl + "/v3/api-docs", null);
+        }
+        return failures;
+    }
+
+    /**
+     * GET 요청을 보냅니다. 응답 상태와 관계없이 응답을 받으면 성공으로 봅니다.
+     * 
+     * @return 실패하면 1, 아니면 0
+     */
+    private int send(HttpClient client, String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+        if (token != null) {
+            builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+
+        try {
+            client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+            return 0;
+        } catch (IOException e) {
+            log.debug("워밍업 요청 실패 - url: {}, error: {}", url, e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private void checkpoint() {
+        try {
+            log.info("체크포인트 요청");
+            Core.checkpointRestore();
+            log.info("체크포인트에서 복원됨");
+        } catch (UnsupportedOperationException e) {
+            log.warn("체크포인트 건너뜀, CRaC를 지원하지 않는 JVM");
+        } catch (CheckpointException | RestoreException e) {
+            log.error("체크포인트 실패", e);
+        }
+    }
+
+}
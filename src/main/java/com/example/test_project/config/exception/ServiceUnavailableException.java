@@ -0,0 +1,27 @@
+package com.example.test_project.config.exception;
+
+// 503 Service Unavailable - 의존 서비스(Redis 등) 장애로 일시적으로 처리 불가
+// 메시지는 오류 응답 캐시 키로 쓰이므로 상수만 사용
+public class ServiceUnavailableException extends RuntimeException {
+
+    // 다시 시도할 수 있을 때까지 남은 시간(초), 알 수 없으면 0
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message) {
+        this(message, 0);
+    }
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
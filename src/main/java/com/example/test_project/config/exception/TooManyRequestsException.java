@@ -1,7 +1,22 @@
 package com.example.test_project.config.exception;
 
+// 429 Too Many Requests - 요청 속도 제한 초과
+// 거부 때마다 생성되므로 스택 트레이스를 만들지 않으며, 메시지는 오류 응답 캐시 키로 쓰이므로 상수만 사용
 public class TooManyRequestsException extends RuntimeException {
+
+    // 다시 시도할 수 있을 때까지 남은 시간(초), 알 수 없으면 0
+    private final long retryAfterSeconds;
+
     public TooManyRequestsException(String message) {
-        super(message);
+        this(message, 0);
+    }
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
     }
 }
\ No newline at end of file
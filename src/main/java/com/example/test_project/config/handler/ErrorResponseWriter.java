@@ -0,0 +1,184 @@
+package com.example.test_project.config.handler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.dto.response.ErrorResponse;
+import com.example.test_project.util.DateTimeFormatUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+
+/**
+ * 오류 응답({@link ErrorResponse}) JSON을 응답 스트림에 직접 쓰는 공통 렌더러
+ * 
+ * <p>보안 핸들러(401/403)와 {@link GlobalExceptionHandler}가 함께 사용합니다.
+ * 핸들러가 정한 고정 메시지({@link #writeConstant})는 상태 코드/메시지 조합마다 고정 부분을
+ * 한 번만 UTF-8 바이트로 인코딩해 두고, 요청마다 바뀌는 timestamp와 path만 이어 붙여 씁니다.
+ * 예외 메시지처럼 요청 값이 들어갈 수 있는 메시지({@link #write})는 캐시하지 않고 매번 인코딩합니다.
+ * timestamp 바이트는 밀리초 단위로 캐시합니다.</p>
+ * 
+ * <p>출력 형식은 ObjectMapper로 {@link ErrorResponse}를 직렬화한 결과와 같습니다.
+ * (필드 순서, validation이 없으면 {@code null})</p>
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final byte[] HEAD = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TAIL = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    // 고정 메시지 템플릿 (키는 코드에 정의된 메시지뿐이므로 개수가 한정됨)
+    private final Map<TemplateKey, byte[]> templates = new ConcurrentHashMap<>();
+
+    private volatile CachedTimestamp timestamp;
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+
+    /**
+     * 핸들러가 정한 고정 메시지로 오류 응답을 씁니다. (인코딩 결과를 캐시)
+     * 
+     * <p>메시지는 코드에 정의된 상수여야 합니다. 예외 메시지나 요청 값이 들어간 메시지는
+     * 캐시가 계속 커지므로 {@link #write(HttpServletRequest, HttpServletResponse, HttpStatus, String)}를 사용합니다.</p>
+     * 
+     * @param request 요청
+     * @param response 응답
+     * @param status 상태 코드
+     * @param message 고정 오류 메시지
+     * @throws IOException 쓰기 실패 시
+     */
+    public void writeConstant(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        byte[] middle = templates.computeIfAbsent(new TemplateKey(status.value(), message),
+                key -> encodeMiddle(status.value(), status.getReasonPhrase(), message, null));
+        writeBody(request, response, status, middle);
+    }
+
+
+    /**
+     * 오류 응답을 씁니다. (메시지가 요청마다 다를 수 있어 캐시하지 않음)
+     * 
+     * @param request 요청
+     * @param response 응답
+     * @param status 상태 코드
+     * @param message 오류 메시지
+     * @throws IOException 쓰기 실패 시
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        writeBody(request, response, status, encodeMiddle(status.value(), status.getReasonPhrase(), message, null));
+    }
+
+
+    /**
+     * Retry-After 헤더와 함께 고정 메시지로 오류 응답을 씁니다. (인코딩 결과를 캐시)
+     * 
+     * <p>헤더만 따로 설정하므로 재시도 시간이 요청마다 달라도 본문 템플릿은 메시지별로 하나만 캐시됩니다.</p>
+     * 
+     * @param request 요청
+     * @param response 응답
+     * @param status 상태 코드
+     * @param message 고정 오류 메시지
+     * @param retryAfterSeconds 재시도까지 남은 시간(초), 0 이하면 헤더 생략
+     * @throws IOException 쓰기 실패 시
+     */
+    public void writeConstant(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message, long retryAfterSeconds) throws IOException {
+        if (retryAfterSeconds > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        }
+        writeConstant(request, response, status, message);
+    }
+
+
+    /**
+     * 입력값 검증 오류 응답을 씁니다. (검증 결과는 요청마다 달라 캐시하지 않음)
+     * 
+     * @param request 요청
+     * @param response 응답
+     * @param status 상태 코드
+     * @param error 오류 이름
+     * @param message 오류 메시지
+     * @param validation 필드별 검증 메시지
+     * @throws IOException 쓰기 실패 시
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String error, String message,
+            Map<String, String> validation) throws IOException {
+        writeBody(request, response, status, encodeMiddle(status.value(), error, message, validation));
+    }
+
+
+    private void writeBody(HttpServletRequest request, HttpServletResponse response, HttpStatus status, byte[] middle) throws IOException {
+        byte[] timestampBytes = timestampBytes();
+        byte[] pathBytes = JsonStringEncoder.getInstance().quoteAsUTF8(request.getRequestURI());
+
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(HEAD.length + timestampBytes.length + middle.length + pathBytes.length + TAIL.length);
+
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(HEAD);
+        outputStream.write(timestampBytes);
+        outputStream.write(middle);
+        outputStream.write(pathBytes);
+        outputStream.write(TAIL);
+        outputStream.flush();
+    }
+
+    /**
+     * timestamp 값 뒤부터 path 값 앞까지의 고정 부분을 인코딩합니다.
+     */
+    private byte[] encodeMiddle(int status, String error, String message, Map<String, String> validation) {
+        try {
+            String middle = "\",\"status\":" + status
+                    + ",\"error\":" + objectMapper.writeValueAsString(error)
+                    + ",\"message\":" + objectMapper.writeValueAsString(message)
+                    + ",\"validation\":" + objectMapper.writeValueAsString(validation)
+                    + ",\"path\":\"";
+            return middle.getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error response encoding failed", e);
+        }
+    }
+
+    /**
+     * 현재 시각을 ISO-8601 형식 바이트로 반환합니다. (같은 밀리초 안에서는 재사용)
+     */
+    private byte[] timestampBytes() {
+        long now = System.currentTimeMillis();
+        CachedTimestamp cached = timestamp;
+        if (cached != null && cached.millis() == now) {
+            return cached.bytes();
+        }
+
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+        byte[] bytes = DateTimeFormatUtil.formatDateTime(dateTime).getBytes(StandardCharsets.US_ASCII);
+        timestamp = new CachedTimestamp(now, bytes);
+        return bytes;
+    }
+
+
+    private record TemplateKey(int status, String message) {
+    }
+
+
+    private record CachedTimestamp(long millis, byte[] bytes) {
+    }
+
+}
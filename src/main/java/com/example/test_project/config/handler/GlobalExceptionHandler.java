@@ -1,12 +1,11 @@
 package com.example.test_project.config.handler;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.jooq.exception.DataAccessException;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -16,7 +15,6 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
@@ -24,151 +22,114 @@ import com.example.test_project.config.exception.*;
 import com.example.test_project.dto.response.ErrorResponse;
 
 import io.jsonwebtoken.JwtException;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.mail.MessagingException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 전역 예외 처리
+ * 
+ * <p>오류 응답은 {@link ErrorResponseWriter}로 응답 스트림에 직접 씁니다.
+ * 핸들러에 고정된 메시지와 상수 메시지만 쓰는 예외(429, 503)는 {@code writeConstant}로 캐시하고,
+ * 그 외 예외 메시지는 {@code write}로 매번 인코딩합니다.
+ * 반환 타입이 없으므로 API 문서의 오류 응답 스키마는 {@code @ApiResponse}로 지정합니다.</p>
+ */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     // 400 Bad Request
     @ExceptionHandler(BadRequestException.class)
-    public ResponseEntity<ErrorResponse> handleBadRequest(BadRequestException e, WebRequest request) {
+    @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleBadRequest(BadRequestException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("BadRequestException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.BAD_REQUEST)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.BAD_REQUEST, e.getMessage());
     }
 
     // 401 Unauthorized
     @ExceptionHandler({UnauthorizedException.class, AuthenticationException.class, JwtException.class})
-    public ResponseEntity<ErrorResponse> handleUnauthorized(RuntimeException e, WebRequest request) {
+    @ApiResponse(responseCode = "401", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleUnauthorized(RuntimeException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("UnauthorizedException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.UNAUTHORIZED)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .error(HttpStatus.UNAUTHORIZED.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.UNAUTHORIZED, e.getMessage());
     }
 
     // 403 Forbidden
     @ExceptionHandler(ForbiddenException.class)
-    public ResponseEntity<ErrorResponse> handleForbidden(ForbiddenException e, WebRequest request) {
+    @ApiResponse(responseCode = "403", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleForbidden(ForbiddenException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("ForbiddenException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.FORBIDDEN)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.FORBIDDEN.value())
-                .error(HttpStatus.FORBIDDEN.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.FORBIDDEN, e.getMessage());
     }
 
     // AuthorizationDeniedException
     @ExceptionHandler(AuthorizationDeniedException.class)
-    public ResponseEntity<ErrorResponse> handleForbidden(AuthorizationDeniedException e, WebRequest request) {
+    @ApiResponse(responseCode = "403", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleForbidden(AuthorizationDeniedException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("AuthorizationDeniedException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.FORBIDDEN)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.FORBIDDEN.value())
-                .error(HttpStatus.FORBIDDEN.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.FORBIDDEN, e.getMessage());
     }
 
     // 404 Not Found
     @ExceptionHandler(NotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleNotFound(NotFoundException e, WebRequest request) {
+    @ApiResponse(responseCode = "404", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleNotFound(NotFoundException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("NotFoundException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.NOT_FOUND)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.NOT_FOUND.value())
-                .error(HttpStatus.NOT_FOUND.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.NOT_FOUND, e.getMessage());
     }
 
     // 404 Not Found
     @ExceptionHandler(NoResourceFoundException.class)
-    public ResponseEntity<ErrorResponse> handleNotFound(NoResourceFoundException e, WebRequest request) {
+    @ApiResponse(responseCode = "404", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleNotFound(NoResourceFoundException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("NoResourceFoundException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.NOT_FOUND)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.NOT_FOUND.value())
-                .error(HttpStatus.NOT_FOUND.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.NOT_FOUND, e.getMessage());
     }
 
     // 409 Conflict
     @ExceptionHandler(ConflictException.class)
-    public ResponseEntity<ErrorResponse> handleConflict(ConflictException e, WebRequest request) {
+    @ApiResponse(responseCode = "409", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleConflict(ConflictException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("ConflictException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.CONFLICT)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.CONFLICT.value())
-                .error(HttpStatus.CONFLICT.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.CONFLICT, e.getMessage());
     }
 
     // 429 Too Many Request
     @ExceptionHandler(TooManyRequestsException.class)
-    public ResponseEntity<ErrorResponse> handleMessageNotReadable(TooManyRequestsException e, WebRequest request) {
+    @ApiResponse(responseCode = "429", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleMessageNotReadable(TooManyRequestsException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("TooManyRequestsException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.TOO_MANY_REQUESTS)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.TOO_MANY_REQUESTS.value())
-                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.writeConstant(request, response, HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), e.getRetryAfterSeconds());
     }
 
     // 500 Internal Server Error
     @ExceptionHandler(InternalServerException.class)
-    public ResponseEntity<ErrorResponse> handleInternalServer(InternalServerException e, WebRequest request) {
+    @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleInternalServer(InternalServerException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.error("InternalServerException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
-                .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+    }
+
+    // 503 Service Unavailable
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ApiResponse(responseCode = "503", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleServiceUnavailable(ServiceUnavailableException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.warn("ServiceUnavailableException: {}", e.getMessage());
+        errorResponseWriter.writeConstant(request, response, HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e.getRetryAfterSeconds());
     }
 
     // Validation 에러 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e, WebRequest request) {
+    @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleValidationException(MethodArgumentNotValidException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         Map<String, String> errors = new HashMap<>();
         e.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
@@ -177,123 +138,65 @@ public class GlobalExceptionHandler {
         });
 
         log.debug("ValidationException: {}", errors);
-        return ResponseEntity
-            .status(HttpStatus.BAD_REQUEST)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Validation Failed")
-                .message("입력값이 올바르지 않습니다.")
-                .validation(errors)
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.BAD_REQUEST, "Validation Failed", "입력값이 올바르지 않습니다.", errors);
     }
 
     // 필수 파라미터 누락 (400)
     @ExceptionHandler(MissingServletRequestParameterException.class)
-    public ResponseEntity<ErrorResponse> handleMissingParams(MissingServletRequestParameterException e, WebRequest request) {
+    @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleMissingParams(MissingServletRequestParameterException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         String message = String.format("필수 파라미터 '%s'가 누락되었습니다.", e.getParameterName());
         log.debug("MissingServletRequestParameterException: {}", message);
-        return ResponseEntity
-            .status(HttpStatus.BAD_REQUEST)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message(message)
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.BAD_REQUEST, message);
     }
 
     // 타입 변환 실패 (400)
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException e, WebRequest request) {
+    @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleTypeMismatch(MethodArgumentTypeMismatchException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         String message = String.format("파라미터 '%s'의 타입이 올바르지 않습니다.", e.getName());
         log.debug("MethodArgumentTypeMismatchException: {}", message);
-        return ResponseEntity
-            .status(HttpStatus.BAD_REQUEST)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message(message)
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.BAD_REQUEST, message);
     }
 
     // JSON 파싱 실패 (400)
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ErrorResponse> handleMessageNotReadable(HttpMessageNotReadableException e, WebRequest request) {
+    @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleMessageNotReadable(HttpMessageNotReadableException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.debug("HttpMessageNotReadableException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.BAD_REQUEST)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message("요청 본문을 읽을 수 없습니다. JSON 형식을 확인해주세요.")
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.writeConstant(request, response, HttpStatus.BAD_REQUEST, "요청 본문을 읽을 수 없습니다. JSON 형식을 확인해주세요.");
     }
 
     // 지원하지 않는 HTTP 메서드 (405)
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-    public ResponseEntity<ErrorResponse> handleMethodNotSupported(HttpRequestMethodNotSupportedException e, WebRequest request) {
+    @ApiResponse(responseCode = "405", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleMethodNotSupported(HttpRequestMethodNotSupportedException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         String message = String.format("HTTP 메서드 '%s'는 지원되지 않습니다.", e.getMethod());
         log.debug("HttpRequestMethodNotSupportedException: {}", message);
-        return ResponseEntity
-            .status(HttpStatus.METHOD_NOT_ALLOWED)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.METHOD_NOT_ALLOWED.value())
-                .error(HttpStatus.METHOD_NOT_ALLOWED.getReasonPhrase())
-                .message(message)
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.write(request, response, HttpStatus.METHOD_NOT_ALLOWED, message);
     }
 
     // 메일 전송 실패 (500)
     @ExceptionHandler(MessagingException.class)
-    public ResponseEntity<ErrorResponse> handleMessagingException(MessagingException e, WebRequest request) {
+    @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleMessagingException(MessagingException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.error("MessagingException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
-                .message("이메일 발송에 실패했습니다.")
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.writeConstant(request, response, HttpStatus.INTERNAL_SERVER_ERROR, "이메일 발송에 실패했습니다.");
     }
 
     // JOOQ 데이터베이스 에러 (500)
     @ExceptionHandler(DataAccessException.class)
-    public ResponseEntity<ErrorResponse> handleDataAccessException(DataAccessException e, WebRequest request) {
+    @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleDataAccessException(DataAccessException e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.error("DataAccessException: {}", e.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
-                .message("데이터베이스 처리 중 오류가 발생했습니다.")
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.writeConstant(request, response, HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 처리 중 오류가 발생했습니다.");
     }
 
     // 기타 예외 처리
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGenericException(Exception e, WebRequest request) {
+    @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public void handleGenericException(Exception e, HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.error("Unexpected error occurred", e);
-        return ResponseEntity
-            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-            .body(ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
-                .message("서버 오류가 발생했습니다.")
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build());
+        errorResponseWriter.writeConstant(request, response, HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
     }
 }
\ No newline at end of file
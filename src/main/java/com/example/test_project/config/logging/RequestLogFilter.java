@@ -0,0 +1,105 @@
+package com.example.test_project.config.logging;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.test_project.config.properties.AppProperties;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 표본 요청 로그 필터
+ * 
+ * <p>엔드포인트(HTTP 메서드 + 매핑 패턴)마다 N건 중 1건만 구조화 로그로 남깁니다.
+ * 매핑되지 않았거나 표준이 아닌 메서드의 요청은 하나의 엔드포인트로 묶으므로,
+ * 요청 값으로 카운터가 늘어나지 않고 카운터 수는 핸들러 매핑 수로 제한됩니다.
+ * 5xx 응답과 {@code app.request-log-slow-millis} 이상 걸린 요청은 항상 남깁니다.</p>
+ * 
+ * <p>로거 이름은 {@code http.request}이며, 실행 중 {@code /actuator/loggers/http.request}로
+ * 레벨을 WARN 이상으로 바꾸면 요청 로그를 끌 수 있습니다.</p>
+ */
+@Slf4j(topic = "http.request")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    // 매핑되지 않은 요청(보안 필터 거부, 404)과 표준이 아닌 메서드의 요청이 함께 쓰는 엔드포인트
+    private static final String UNMATCHED = "UNMATCHED";
+    private static final Set<String> KNOWN_METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private final AppProperties appProperties;
+    private final ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    public RequestLogFilter(AppProperties appProperties) {
+        this.appProperties = appProperties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        if (!log.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            logSampled(request, status, durationMillis);
+        }
+    }
+
+
+    private void logSampled(HttpServletRequest request, int status, long durationMillis) {
+        String endpoint = endpoint(request);
+
+        int sampleRate = appProperties.getRequestLogSampleRate();
+        long slowMillis = appProperties.getRequestLogSlowMillis();
+        boolean always = status >= 500 || (slowMillis > 0 && durationMillis >= slowMillis);
+        boolean sampled = sampleRate > 0
+                && counters.computeIfAbsent(endpoint, key -> new AtomicLong()).getAndIncrement() % sampleRate == 0;
+
+        if (!always && !sampled) {
+            return;
+        }
+
+        log.atInfo()
+                .addKeyValue("endpoint", endpoint)
+                .addKeyValue("uri", request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("durationMs", durationMillis)
+                .addKeyValue("sampleRate", always ? 1 : sampleRate)
+                .log("request");
+    }
+
+    /**
+     * 카운터 키로 쓸 엔드포인트를 반환합니다. (메서드와 패턴이 모두 확인된 경우에만 구분)
+     */
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        if (pattern == null || !KNOWN_METHODS.contains(method)) {
+            return UNMATCHED;
+        }
+        return method + " " + pattern;
+    }
+
+}
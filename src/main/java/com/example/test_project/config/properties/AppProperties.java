@@ -1,7 +1,11 @@
 package com.example.test_project.config.properties;
 
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import com.example.test_project.util.RateLimitAlgorithm;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,30 +14,151 @@ import lombok.Setter;
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
 
-    // 비밀키
+    // 비밀키 (기본값 없음, 반드시 설정)
     private String jwtSecret;
 
     // 쿠키이름
-    private String jwtRefreshTokenCookieName;
+    private String jwtRefreshTokenCookieName = "refreshToken";
 
     // AT 만료(분)
-    private int jwtAccessExpirationMinutes;
+    private int jwtAccessExpirationMinutes = 15;
 
     // RT 만료(분, 30일)
-    private int jwtRefreshExpirationMinutes;
+    private int jwtRefreshExpirationMinutes = 43200;
 
     // AT 재발급 가능한 임계 시점
-    private int jwtAccessTokenReissueThresholdMinutes;
+    private int jwtAccessTokenReissueThresholdMinutes = 3;
 
     // redis 회원가입 인증 코드 TTL, 5분
-    private int redisTtlSignup;
+    private int redisTtlSignup = 300;
+
+    // redis 비밀번호 찾기 인증 코드 TTL, 10분
+    private int redisTtlResetPassword = 600;
+
+    // 키-값 저장소 (redis: Redis, memory: 단일 노드용 프로세스 내 저장소)
+    private String kvStore = "redis";
+    // 프로세스 내 저장소 만료 정리 간격(ms)
+    private long kvStoreMemoryTickMillis = 100;
+
+    // 키-값 저장소 Redis 명령 타임아웃(ms)
+    private long redisKvCommandTimeoutMillis = 200;
 
-    // redis 비밀번호 찾기 인증 코드 TTL, 5분
-    private int redisTtlResetPassword;
+    // Redis 회로 차단기
+    // 최근 호출 기록 수
+    private int redisCircuitWindowSize = 20;
+    // 판정에 필요한 최소 호출 수
+    private int redisCircuitMinCalls = 10;
+    // 회로를 여는 실패 비율
+    private double redisCircuitFailureRateThreshold = 0.5;
+    // 열린 상태 유지 시간(ms)
+    private long redisCircuitOpenMillis = 5000;
+    // 시험 호출 수
+    private int redisCircuitHalfOpenCalls = 3;
+
+    // 가입 이메일 블룸 필터
+    private boolean emailBloomEnabled = true;
+    // 예상 이메일 수
+    private long emailBloomExpectedInsertions = 1000000;
+    // 오탐률
+    private double emailBloomFalsePositiveRate = 0.01;
+    // DB에서 다시 만드는 주기(ms)
+    private long emailBloomRebuildMillis = 600000;
+    // 다른 노드의 최근 가입 반영 주기(ms)
+    private long emailBloomSyncMillis = 2000;
+    // 재구성 시 한 번에 읽을 행 수
+    private int emailBloomFetchSize = 1000;
+
+    // Redis 클라이언트 측 캐시 (RESP3 CLIENT TRACKING)
+    private boolean redisNearCacheEnabled = false;
+    // 최대 항목 수
+    private long redisNearCacheMaxSize = 10000;
+    // 무효화 누락 대비 최대 보관 시간(초)
+    private long redisNearCacheTtlSeconds = 300;
 
     // rate limit
     // 5회 허용
-    private int redisRatelimitMaxRequests;
+    private int redisRatelimitMaxRequests = 5;
     // 10초 동안
-    private int redisRatelimitWindowSeconds;
+    private int redisRatelimitWindowSeconds = 10;
+    // 알고리즘 (fixed-window, gcra, sliding-window-log)
+    private RateLimitAlgorithm redisRatelimitAlgorithm = RateLimitAlgorithm.GCRA;
+
+    // rate limit 로컬 1차 판정
+    private boolean ratelimitLocalEnabled = true;
+    // 추정치가 허용 횟수 x 이 비율 미만이면 로컬 허용
+    private double ratelimitLocalSyncRatio = 0.5;
+    // 허용 횟수가 이보다 작은 정책은 로컬 판정 안 함 (노드마다 반영 전까지 초과 허용될 수 있으므로)
+    private int ratelimitLocalMinLimit = 20;
+    // 로컬 거부 대상 최대 보관 수
+    private long ratelimitLocalMaxBlocked = 100000;
+    // 로컬 허용 수 Redis 반영 주기(ms)
+    private long ratelimitLocalSyncMillis = 1000;
+
+    // 인증 코드 최대 실패 횟수 (초과 시 코드 폐기)
+    private int redisVerifyMaxAttempts = 5;
+
+    // 만료 토큰 정리
+    // 실행 주기(cron)
+    private String tokenPurgeCron = "0 */10 * * * *";
+    // 1회 삭제 건수
+    private int tokenPurgeBatchSize = 1000;
+    // 배치 사이 대기(ms)
+    private long tokenPurgeThrottleMillis = 200;
+    // 1회 실행당 최대 배치 수
+    private int tokenPurgeMaxBatches = 50;
+
+    // 사용자 인증 정보 캐시
+    // TTL(초)
+    private int userCacheTtlSeconds = 60;
+    // 최대 항목 수
+    private long userCacheMaxSize = 10000;
+
+    // 로그인/세션 활동 DB 반영 주기(ms)
+    private long activityFlushIntervalMillis = 30000;
+
+    // 세션 레지스트리 TTL(초)
+    private long sessionRegistryTtlSeconds = 86400;
+
+    // 이메일 발송 대기열
+    // 워커 수
+    private int mailOutboxWorkers = 2;
+    // 최대 시도 횟수
+    private int mailOutboxMaxAttempts = 5;
+    // 첫 재시도 대기(ms, 이후 2배씩)
+    private long mailOutboxBackoffMillis = 1000;
+    // 최대 재시도 대기(ms)
+    private long mailOutboxMaxBackoffMillis = 60000;
+    // 재시도 대기열 확인 주기(ms)
+    private long mailOutboxRetryPollMillis = 1000;
+    // 처리 중 메시지 회수 기준(ms, 발송 1건의 최대 시간보다 짧으면 그 시간 사용)
+    private long mailOutboxClaimIdleMillis = 120000;
+
+    // SMTP 연결 풀
+    // 최대 연결 수
+    private int mailSmtpPoolSize = 2;
+    // 유휴 연결 최대 보관 시간(ms)
+    private long mailSmtpMaxIdleMillis = 60000;
+    // 연결당 최대 발송 건수
+    private int mailSmtpMaxMessagesPerConnection = 100;
+    // 연결 대기 시간(ms)
+    private long mailSmtpBorrowTimeoutMillis = 10000;
+
+    // 표본 요청 로그
+    // 엔드포인트별 N건 중 1건 기록 (0이면 5xx, 느린 요청만 기록)
+    private int requestLogSampleRate = 100;
+    // 이 시간(ms) 이상 걸린 요청은 항상 기록 (0이면 사용 안 함)
+    private long requestLogSlowMillis = 1000;
+    // 비동기 로그 큐 크기 (logback-spring.xml에서 사용)
+    private int logAsyncQueueSize = 8192;
+
+    // CRaC 체크포인트 전 워밍업
+    // 자기 자신에게 보내는 워밍업 요청 반복 횟수 (0이면 사용 안 함)
+    private int cracWarmupIterations = 0;
+    // 워밍업 토큰에 사용할 사용자 번호 (음수이거나 DB에 없는 번호여야 하며, 존재하는 번호면 워밍업을 건너뜀)
+    private int cracWarmupUserNo = -1;
+    // 워밍업 직후 체크포인트 요청 여부 (CRaC 지원 JVM 필요)
+    private boolean cracCheckpointAfterWarmup = false;
+
+    // 인증 없이 /actuator/prometheus 수집을 허용할 IP 대역 (그 외에는 ADMIN 권한 필요)
+    private List<String> metricsScrapeAllowedIps = List.of("127.0.0.1/32", "::1/128");
 }
@@ -0,0 +1,156 @@
+package com.example.test_project.config.ratelimit;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.example.test_project.config.exception.TooManyRequestsException;
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.util.AuthUtil;
+import com.example.test_project.util.RateLimitBucket;
+import com.example.test_project.util.RateLimitResult;
+import com.example.test_project.util.RateLimitUtil;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * {@link RateLimited} 정책을 적용하는 인터셉터
+ * 
+ * <p>핸들러 메서드(없으면 컨트롤러 클래스)에 선언된 정책을 메서드별로 한 번만 해석해 두고,
+ * 요청마다 정책별 버킷을 만들어 {@link RateLimitUtil#checkAll}로 함께 판정합니다.</p>
+ * 
+ * <p>모든 버킷이 허용할 때만 차감하며, 가장 제한에 가까운 버킷 기준으로 {@code RateLimit-Limit}, {@code RateLimit-Remaining},
+ * {@code RateLimit-Reset}(초기화까지 남은 시간) 헤더를 응답에 추가하고, 거부된 경우 {@link TooManyRequestsException}을
+ * 발생시켜 {@code Retry-After} 헤더와 함께 429 응답을 반환합니다.
+ * 거부 예외는 스택 트레이스를 만들지 않고, 응답 본문은 고정 메시지 템플릿으로 씁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String HEADER_LIMIT = "RateLimit-Limit";
+    private static final String HEADER_REMAINING = "RateLimit-Remaining";
+    private static final String HEADER_RESET = "RateLimit-Reset";
+    private static final String REJECTED_MESSAGE = "요청 횟수 제한을 초과했습니다.";
+
+    private final RateLimitUtil rateLimitUtil;
+    private final AppProperties appProperties;
+
+    // 핸들러 메서드별 해석된 정책
+    private final Map<Method, List<Policy>> policies = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        List<Policy> methodPolicies = policies.computeIfAbsent(handlerMethod.getMethod(), method -> resolvePolicies(handlerMethod));
+        if (methodPolicies.isEmpty()) {
+            return true;
+        }
+
+        String clientIp = rateLimitUtil.resolveClientIp(request);
+        Integer userNo = AuthUtil.getCurrentUserNo();
+
+        List<RateLimitBucket> buckets = new ArrayList<>(methodPolicies.size());
+        for (Policy policy : methodPolicies) {
+            String identifier = policy.key() == RateLimitKey.USER && userNo != null
+                    ? "user:" + userNo
+                    : "ip:" + clientIp;
+            buckets.add(new RateLimitBucket(policy.prefix() + identifier, policy.limit(), policy.windowMillis(), policy.cost()));
+        }
+
+        List<RateLimitResult> results = rateLimitUtil.checkAll(buckets);
+        int index = mostRestrictive(results);
+        RateLimitResult result = results.get(index);
+
+        response.setHeader(HEADER_LIMIT, String.valueOf(result.limit()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(result.remaining()));
+        response.setHeader(HEADER_RESET, String.valueOf(result.allowed() ? result.resetSeconds() : result.retryAfterSeconds()));
+
+        if (!result.allowed()) {
+            log.warn("요청 속도 제한 초과 - bucket: {}", buckets.get(index).identifier());
+            throw new TooManyRequestsException(REJECTED_MESSAGE, result.retryAfterSeconds());
+        }
+
+        return true;
+    }
+
+
+    /**
+     * 메서드와 컨트롤러 클래스에 선언된 정책을 해석합니다.
+     */
+    private List<Policy> resolvePolicies(HandlerMethod handlerMethod) {
+        Set<RateLimited> annotations = AnnotatedElementUtils.findMergedRepeatableAnnotations(handlerMethod.getMethod(), RateLimited.class);
+        if (annotations.isEmpty()) {
+            annotations = AnnotatedElementUtils.findMergedRepeatableAnnotations(handlerMethod.getBeanType(), RateLimited.class);
+        }
+
+        String defaultName = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        List<Policy> resolved = new ArrayList<>(annotations.size());
+        for (RateLimited annotation : annotations) {
+            int limit = annotation.limit() > 0 ? annotation.limit() : appProperties.getRedisRatelimitMaxRequests();
+            int window = annotation.window() > 0 ? annotation.window() : appProperties.getRedisRatelimitWindowSeconds();
+            if (annotation.cost() < 1 || annotation.cost() > limit) {
+                throw new IllegalStateException("Invalid rate limit cost on " + defaultName + ": " + annotation.cost());
+            }
+
+            String name = annotation.name().isBlank() ? defaultName : annotation.name();
+            resolved.add(new Policy(name + ":" + window + "s:", annotation.key(), limit, window * 1000L, annotation.cost()));
+        }
+        return List.copyOf(resolved);
+    }
+
+
+    /**
+     * 거부된 결과 중 가장 오래 기다려야 하는 것, 모두 허용이면 남은 횟수가 가장 적은 것의 위치를 반환합니다.
+     * 
+     * <p>다른 버킷이 먼저 거부되어 판정하지 않은 버킷({@code null})은 건너뜁니다.</p>
+     */
+    private int mostRestrictive(List<RateLimitResult> results) {
+        int index = -1;
+        for (int i = 0; i < results.size(); i++) {
+            RateLimitResult candidate = results.get(i);
+            if (candidate == null) {
+                continue;
+            }
+            if (index < 0) {
+                index = i;
+                continue;
+            }
+            RateLimitResult current = results.get(index);
+
+            if (candidate.allowed() != current.allowed()) {
+                if (!candidate.allowed()) {
+                    index = i;
+                }
+            } else if (!candidate.allowed()
+                    ? candidate.retryAfterMillis() > current.retryAfterMillis()
+                    : candidate.remaining() < current.remaining()) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+
+    private record Policy(String prefix, RateLimitKey key, int limit, long windowMillis, int cost) {
+    }
+
+}
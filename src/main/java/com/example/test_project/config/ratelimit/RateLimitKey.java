@@ -0,0 +1,18 @@
+package com.example.test_project.config.ratelimit;
+
+/**
+ * 요청 속도 제한 기준
+ */
+public enum RateLimitKey {
+
+    /**
+     * 클라이언트 IP 기준
+     */
+    IP,
+
+    /**
+     * 인증된 사용자 기준 (인증되지 않은 요청은 IP 기준)
+     */
+    USER
+
+}
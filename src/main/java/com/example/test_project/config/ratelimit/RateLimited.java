@@ -0,0 +1,69 @@
+package com.example.test_project.config.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * 컨트롤러 메서드의 요청 속도 제한 정책
+ * 
+ * <p>{@link RateLimitInterceptor}가 핸들러 실행 전에 적용합니다.
+ * 버킷은 정책 이름, 윈도우 길이, IP/사용자 식별자 조합으로 만들어지므로 라우트마다 허용량이 따로 계산되며,
+ * 여러 라우트가 같은 {@link #name()}과 윈도우를 쓰면 허용량을 공유합니다.</p>
+ * 
+ * <p>한 메서드에 여러 정책을 선언할 수 있으며, 모든 정책을 Redis 호출 한 번으로 함께 판정합니다.</p>
+ * 
+ * <pre>
+ * &#64;RateLimited(key = RateLimitKey.IP, limit = 5, window = 10)
+ * &#64;RateLimited(key = RateLimitKey.USER, limit = 30, window = 60)
+ * </pre>
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RateLimited.List.class)
+public @interface RateLimited {
+
+    /**
+     * 제한 기준
+     */
+    RateLimitKey key() default RateLimitKey.IP;
+
+    /**
+     * 윈도우당 허용 횟수 (0 이하이면 {@code app.redis-ratelimit-max-requests})
+     */
+    int limit() default 0;
+
+    /**
+     * 윈도우 길이(초) (0 이하이면 {@code app.redis-ratelimit-window-seconds})
+     */
+    int window() default 0;
+
+    /**
+     * 요청 1건의 비용
+     */
+    int cost() default 1;
+
+    /**
+     * 버킷 이름 (비어 있으면 "컨트롤러명.메서드명")
+     */
+    String name() default "";
+
+
+    /**
+     * {@link RateLimited} 반복 선언용 컨테이너
+     */
+    @Documented
+    @Target({ElementType.METHOD, ElementType.TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+
+        RateLimited[] value();
+
+    }
+
+}
@@ -5,23 +5,20 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import com.example.jooq.tables.pojos.Users;
-import com.example.test_project.repository.UsersRepository;
-
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UsersRepository usersRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Users users = usersRepository.findByEmail(email).orElseThrow(() ->
-            new UsernameNotFoundException("User not found: " + email)
-        );
+        UserPrincipal principal = userPrincipalCache.findByEmail(email)
+            .filter(p -> !p.isDeleted())
+            .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
-        return new CustomUserDetails(users.getUserNo(), users.getEmail(), users.getPassword(), users.getRole());
+        return new CustomUserDetails(principal.getUserNo(), principal.getEmail(), principal.getPassword(), principal.getRole());
     }
 }
@@ -11,6 +11,10 @@ import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -20,11 +24,14 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.example.test_project.config.properties.AppProperties;
 import com.example.test_project.config.security.filter.JwtAuthenticationFilter;
 import com.example.test_project.config.security.handler.CustomAccessDeniedHandler;
 import com.example.test_project.config.security.handler.CustomAuthenticationEntryPointHandler;
@@ -41,6 +48,7 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final CustomAuthenticationEntryPointHandler customAuthenticationEntryPointHandler;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final AppProperties appProperties;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -51,6 +59,8 @@ public class SecurityConfig {
                 .requestMatchers("/tokens/refresh").permitAll()
                 .requestMatchers("/swagger-ui", "/swagger-ui/**").permitAll()
                 .requestMatchers("/v3/api-docs", "/v3/api-docs/**").permitAll()
+                .requestMatchers("/actuator/loggers", "/actuator/loggers/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/prometheus").access(prometheusScrapeAuthorization(appProperties.getMetricsScrapeAllowedIps()))
                 .anyRequest().authenticated()
         );
 
@@ -88,6 +98,23 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 프로메테우스 수집 권한: 허용 대역({@code app.metrics-scrape-allowed-ips})에서 온 요청 또는 ADMIN
+     * 
+     * <p>대역은 {@link IpAddressMatcher}로 미리 만들어 두므로 잘못된 값은 시작 시 오류가 납니다.</p>
+     */
+    static AuthorizationManager<RequestAuthorizationContext> prometheusScrapeAuthorization(List<String> allowedIps) {
+        List<IpAddressMatcher> matchers = allowedIps.stream()
+                .map(String::trim)
+                .filter(ip -> !ip.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+
+        AuthorizationManager<RequestAuthorizationContext> allowedIp = (authentication, context) -> new AuthorizationDecision(
+                matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+        return AuthorizationManagers.anyOf(allowedIp, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
+
     @Bean
     public DaoAuthenticationProvider daoAuthenticationProvider() {
         DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider(userDetailsService);
@@ -0,0 +1,25 @@
+package com.example.test_project.config.security;
+
+import com.example.jooq.tables.pojos.Users;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시용 사용자 인증 정보
+ * 
+ * <p>로그인과 토큰 갱신에 필요한 최소한의 사용자 정보만 보관합니다.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipal {
+    private final int userNo;
+    private final String email;
+    private final String password;
+    private final String role;
+    private final boolean deleted;
+
+    public static UserPrincipal from(Users users) {
+        return new UserPrincipal(users.getUserNo(), users.getEmail(), users.getPassword(), users.getRole(), users.getDeletedAt() != null);
+    }
+}
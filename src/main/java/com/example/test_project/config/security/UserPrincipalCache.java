@@ -0,0 +1,95 @@
+package com.example.test_project.config.security;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.repository.UsersRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 사용자 인증 정보 캐시
+ * 
+ * <p>로그인({@link CustomUserDetailsService}) 시 매번 users 테이블을 조회하지 않도록
+ * 이메일 기준으로 {@link UserPrincipal}을 캐싱합니다.
+ * 토큰 갱신은 토큰과 사용자 정보를 조인 1회로 함께 읽으므로 이 캐시를 사용하지 않습니다.</p>
+ * 
+ * <p>비밀번호, 권한 등이 변경되면 {@link #evict(int, String)}로 명시적으로 무효화해야 합니다.
+ * 노드 간 무효화는 전파되지 않으므로 다른 노드의 캐시는 TTL 이내에 갱신됩니다.
+ * 존재하지 않는 사용자는 캐싱하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    private final UsersRepository usersRepository;
+    private final Cache<String, UserPrincipal> byEmail;
+
+    public UserPrincipalCache(UsersRepository usersRepository, AppProperties appProperties) {
+        this.usersRepository = usersRepository;
+
+        Duration ttl = Duration.ofSeconds(appProperties.getUserCacheTtlSeconds());
+        long maxSize = appProperties.getUserCacheMaxSize();
+
+        this.byEmail = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    }
+
+
+    /**
+     * 이메일로 사용자 인증 정보를 조회합니다.
+     * 
+     * @param email 사용자 이메일
+     * @return 사용자 인증 정보, 존재하지 않을 경우 Optional.empty()
+     */
+    public Optional<UserPrincipal> findByEmail(String email) {
+        UserPrincipal cached = byEmail.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return usersRepository.findByEmail(email).map(UserPrincipal::from).map(principal -> {
+            byEmail.put(principal.getEmail(), principal);
+            return principal;
+        });
+    }
+
+
+    /**
+     * 사용자 인증 정보 캐시를 무효화합니다.
+     * 
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐싱하는 경우를 막습니다.</p>
+     * 
+     * @param userNo 사용자 번호
+     * @param email 사용자 이메일
+     */
+    public void evict(int userNo, String email) {
+        invalidate(userNo, email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userNo, email);
+                }
+            });
+        }
+    }
+
+
+    private void invalidate(int userNo, String email) {
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+        log.debug("사용자 인증 정보 캐시 무효화 - userNo: {}", userNo);
+    }
+
+}
@@ -1,21 +1,18 @@
 package com.example.test_project.config.security.handler;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
-import com.example.test_project.dto.response.ErrorResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.example.test_project.config.handler.ErrorResponseWriter;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -23,31 +20,17 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException {
-        log.info("[CustomAccessDeniedHandler] :: {}", accessDeniedException.getMessage());
-        log.info("[CustomAccessDeniedHandler] :: {}", request.getRequestURL());
-        log.info("[CustomAccessDeniedHandler] :: 토근 정보가 만료되었거나 존재하지 않음");
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .error(HttpStatus.UNAUTHORIZED.getReasonPhrase())
-                .message("인증되지 않은 요청입니다.")
-                .path(request.getRequestURI())
-                .build();
-
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.setCharacterEncoding("UTF-8");
-        response.setContentType("application/json; charset=UTF-8");
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        response.getWriter().write(mapper.writeValueAsString(errorResponse));
+        // 공격 시 거부 응답이 대부분이므로 debug로만 기록
+        log.debug("[CustomAccessDeniedHandler] :: 토근 정보가 만료되었거나 존재하지 않음 - uri: {}, message: {}", request.getRequestURI(), accessDeniedException.getMessage());
+
+        errorResponseWriter.writeConstant(request, response, HttpStatus.UNAUTHORIZED, "인증되지 않은 요청입니다.");
     }
 
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.config.ratelimit.RateLimited;
 import com.example.test_project.dto.request.*;
 import com.example.test_project.dto.response.*;
 import com.example.test_project.service.AuthService;
@@ -38,7 +39,6 @@ import org.springframework.web.bind.annotation.RequestBody;
 public class AuthController {
 
     private final AuthService authService;
-    private final RateLimitUtil rateLimitUtil;
     private final AppProperties appProperties;
 
     /**
@@ -48,14 +48,13 @@ public class AuthController {
      * Rate limiting이 적용되어 무차별 대입 공격을 방지합니다.</p>
      * 
      * @param emailRequest 확인할 이메일 정보
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 이메일 존재 여부
      */
+    @RateLimited
     @PostMapping("/email/exist")
     @PreAuthorize("!isAuthenticated()")
-    public ResponseEntity<EmailExistResponse> checkEmailExist(@Valid @RequestBody EmailRequest emailRequest, HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
-        log.info("이메일 중복 확인 요청 - email: {}", emailRequest.getEmail());
+    public ResponseEntity<EmailExistResponse> checkEmailExist(@Valid @RequestBody EmailRequest emailRequest) {
+        log.debug("이메일 중복 확인 요청 - email: {}", emailRequest.getEmail());
 
         EmailExistResponse emailExistResponse = authService.existsByEmail(emailRequest);
         log.debug("이메일 중복 확인 완료 - email: {}, exists: {}", emailRequest.getEmail(), emailExistResponse.isExists());
@@ -72,20 +71,19 @@ public class AuthController {
      * 
      * @param loginRequest 로그인 요청 정보 (이메일, 비밀번호)
      * @param req HTTP 요청 객체 (OS 감지용)
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return Access Token과 Refresh Token
      */
+    @RateLimited
     @PostMapping("/login")
     @PreAuthorize("!isAuthenticated()")
     public ResponseEntity<AccessTokenResponse> login(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
         String clientOs = OsDetectorUtil.detect(request);
-        log.info("로그인 시도 - email: {}, clientOs: {}", loginRequest.getEmail(), clientOs);
+        log.debug("로그인 시도 - email: {}, clientOs: {}", loginRequest.getEmail(), clientOs);
 
         AccessTokenResponse accessTokenResponse = authService.login(loginRequest, clientOs);
         ResponseCookie tokenCookie = generateRefreshTokenCookie(accessTokenResponse.getRefreshToken());
 
-        log.info("로그인 성공 - email: {}", loginRequest.getEmail());
+        log.debug("로그인 성공 - email: {}", loginRequest.getEmail());
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, tokenCookie.toString())
@@ -100,17 +98,17 @@ public class AuthController {
      * 인증 코드는 Redis에 임시 저장됩니다.</p>
      * 
      * @param signupCodeSendRequest 인증 코드를 받을 이메일 정보
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 204 No Content
      */
+    @RateLimited
+    @RateLimited(name = "auth.mail", limit = 5, window = 600)
     @PostMapping("/signup/code")
     @PreAuthorize("!isAuthenticated()")
-    public ResponseEntity<Void> sendSignupCode(@Valid @RequestBody SignupCodeSendRequest signupCodeSendRequest, HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
-        log.info("회원가입 인증 코드 발송 요청 - email: {}", signupCodeSendRequest.getEmail());
+    public ResponseEntity<Void> sendSignupCode(@Valid @RequestBody SignupCodeSendRequest signupCodeSendRequest) {
+        log.debug("회원가입 인증 코드 발송 요청 - email: {}", signupCodeSendRequest.getEmail());
 
         authService.sendSignupCode(signupCodeSendRequest);
-        log.info("회원가입 인증 코드 발송 완료 - email: {}", signupCodeSendRequest.getEmail());
+        log.debug("회원가입 인증 코드 발송 완료 - email: {}", signupCodeSendRequest.getEmail());
 
         return ResponseEntity.noContent().build();
     }
@@ -122,17 +120,16 @@ public class AuthController {
      * <p>이메일로 발송된 인증 코드가 올바른지 확인합니다.</p>
      * 
      * @param signupCodeVerifyRequest 이메일과 인증 코드 정보
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 204 No Content
      */
+    @RateLimited
     @PostMapping("/signup/verify")
     @PreAuthorize("!isAuthenticated()")
-    public ResponseEntity<Void> verifySignupCode(@Valid @RequestBody SignupCodeVerifyRequest signupCodeVerifyRequest, HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
-        log.info("회원가입 인증 코드 검증 요청 - email: {}", signupCodeVerifyRequest.getEmail());
+    public ResponseEntity<Void> verifySignupCode(@Valid @RequestBody SignupCodeVerifyRequest signupCodeVerifyRequest) {
+        log.debug("회원가입 인증 코드 검증 요청 - email: {}", signupCodeVerifyRequest.getEmail());
 
         authService.verifySignupCode(signupCodeVerifyRequest);
-        log.info("회원가입 인증 코드 검증 성공 - email: {}", signupCodeVerifyRequest.getEmail());
+        log.debug("회원가입 인증 코드 검증 성공 - email: {}", signupCodeVerifyRequest.getEmail());
 
         return ResponseEntity.noContent().build();
     }
@@ -145,17 +142,16 @@ public class AuthController {
      * 비밀번호는 bcrypt로 해싱하여 저장됩니다.</p>
      * 
      * @param signupRequest 회원가입 정보 (이메일, 비밀번호, 사용자명, 인증코드)
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 204 No Content
      */
+    @RateLimited
     @PostMapping("/signup")
     @PreAuthorize("!isAuthenticated()")
-    public ResponseEntity<Void> signup(@Valid @RequestBody SignupRequest signupRequest,  HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
-        log.info("회원가입 요청 - email: {}, userName: {}", signupRequest.getEmail(), signupRequest.getUserName());
+    public ResponseEntity<Void> signup(@Valid @RequestBody SignupRequest signupRequest) {
+        log.debug("회원가입 요청 - email: {}, userName: {}", signupRequest.getEmail(), signupRequest.getUserName());
 
         authService.signup(signupRequest);
-        log.info("회원가입 완료 - email: {}", signupRequest.getEmail());
+        log.debug("회원가입 완료 - email: {}", signupRequest.getEmail());
 
         return ResponseEntity.noContent().build();
     }
@@ -167,17 +163,17 @@ public class AuthController {
      * <p>등록된 이메일로 6자리 인증 코드를 전송합니다.</p>
      * 
      * @param resetPasswordCodeSendRequest 인증 코드를 받을 이메일 정보
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 204 No Content
      */
+    @RateLimited
+    @RateLimited(name = "auth.mail", limit = 5, window = 600)
     @PostMapping("/reset-password/code")
     @PreAuthorize("!isAuthenticated()")
-    public ResponseEntity<Void> sendResetPasswordCode(@Valid @RequestBody ResetPasswordCodeSendRequest resetPasswordCodeSendRequest,  HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
-        log.info("비밀번호 재설정 인증 코드 발송 요청 - email: {}", resetPasswordCodeSendRequest.getEmail());
+    public ResponseEntity<Void> sendResetPasswordCode(@Valid @RequestBody ResetPasswordCodeSendRequest resetPasswordCodeSendRequest) {
+        log.debug("비밀번호 재설정 인증 코드 발송 요청 - email: {}", resetPasswordCodeSendRequest.getEmail());
 
         authService.sendResetPasswordCode(resetPasswordCodeSendRequest);
-        log.info("비밀번호 재설정 인증 코드 발송 완료 - email: {}", resetPasswordCodeSendRequest.getEmail());
+        log.debug("비밀번호 재설정 인증 코드 발송 완료 - email: {}", resetPasswordCodeSendRequest.getEmail());
 
         return ResponseEntity.noContent().build();
     }
@@ -187,17 +183,16 @@ public class AuthController {
      * 비밀번호 재설정용 인증 코드를 검증합니다.
      * 
      * @param resetPasswordCodeVerifyRequest 이메일과 인증 코드 정보
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 204 No Content
      */
+    @RateLimited
     @PostMapping("/reset-password/verify")
     @PreAuthorize("!isAuthenticated()")
-    public ResponseEntity<Void> verifyResetPasswordCode(@Valid @RequestBody ResetPasswordCodeVerifyRequest resetPasswordCodeVerifyRequest, HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
-        log.info("비밀번호 재설정 인증 코드 검증 요청 - email: {}", resetPasswordCodeVerifyRequest.getEmail());
+    public ResponseEntity<Void> verifyResetPasswordCode(@Valid @RequestBody ResetPasswordCodeVerifyRequest resetPasswordCodeVerifyRequest) {
+        log.debug("비밀번호 재설정 인증 코드 검증 요청 - email: {}", resetPasswordCodeVerifyRequest.getEmail());
 
         authService.verifyResetPasswordCode(resetPasswordCodeVerifyRequest);
-        log.info("비밀번호 재설정 인증 코드 검증 성공 - email: {}", resetPasswordCodeVerifyRequest.getEmail());
+        log.debug("비밀번호 재설정 인증 코드 검증 성공 - email: {}", resetPasswordCodeVerifyRequest.getEmail());
 
         return ResponseEntity.noContent().build();
     }
@@ -209,17 +204,16 @@ public class AuthController {
      * <p>인증 코드 검증 후 새로운 비밀번호로 변경합니다.</p>
      * 
      * @param resetPasswordRequest 비밀번호 재설정 정보 (이메일, 새 비밀번호, 인증코드)
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 204 No Content
      */
+    @RateLimited
     @PostMapping("/reset-password")
     @PreAuthorize("!isAuthenticated()")
-    public ResponseEntity<Void> resetPassword(@Valid @RequestBody ResetPasswordRequest resetPasswordRequest, HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
-        log.info("비밀번호 재설정 요청 - email: {}", resetPasswordRequest.getEmail());
+    public ResponseEntity<Void> resetPassword(@Valid @RequestBody ResetPasswordRequest resetPasswordRequest) {
+        log.debug("비밀번호 재설정 요청 - email: {}", resetPasswordRequest.getEmail());
 
         authService.resetPassword(resetPasswordRequest);
-        log.info("비밀번호 재설정 완료 - email: {}", resetPasswordRequest.getEmail());
+        log.debug("비밀번호 재설정 완료 - email: {}", resetPasswordRequest.getEmail());
 
         return ResponseEntity.noContent().build();
     }
@@ -14,12 +14,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.test_project.config.exception.UnauthorizedException;
+import com.example.test_project.config.ratelimit.RateLimitKey;
+import com.example.test_project.config.ratelimit.RateLimited;
 import com.example.test_project.dto.request.*;
 import com.example.test_project.dto.response.*;
 import com.example.test_project.service.TodoService;
 import com.example.test_project.util.*;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,7 +40,6 @@ import lombok.extern.slf4j.Slf4j;
 public class TodoController {
 
     private final TodoService todoService;
-    private final RateLimitUtil rateLimitUtil;
 
     /**
      * TO-DO 목록을 페이징하여 조회합니다.
@@ -54,10 +54,10 @@ public class TodoController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("TO-DO 목록 조회 요청 - userNo: {}, page: {}, size: {}", userNo, todoListRequest.getPage(), todoListRequest.getSize());
+        log.debug("TO-DO 목록 조회 요청 - userNo: {}, page: {}, size: {}", userNo, todoListRequest.getPage(), todoListRequest.getSize());
 
         TodoListResponse todoListResponse = todoService.getTodos(userNo, todoListRequest);
-        log.debug("TO-DO 목록 조회 완료 - userNo: {}, 조회된 항목 수: {}", userNo, todoListResponse.getList().size());
+        log.debug("TO-DO 목록 조회 완료 - userNo: {}, 조회된 항목 수: {}", userNo, todoListResponse.getItemCount());
 
         return ResponseEntity.ok().body(todoListResponse);
     }
@@ -76,7 +76,7 @@ public class TodoController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("TO-DO 상세 조회 요청 - userNo: {}, todoId: {}", userNo, todoId);
+        log.debug("TO-DO 상세 조회 요청 - userNo: {}, todoId: {}", userNo, todoId);
         TodoDetailResponse todoDetailResponse = todoService.getTodo(userNo, todoId);
         log.debug("TO-DO 상세 조회 완료 - userNo: {}, todoId: {}", userNo, todoId);
 
@@ -87,23 +87,23 @@ public class TodoController {
     /**
      * 새로운 TO-DO 항목을 생성합니다.
      * 
-     * <p>Rate limiting이 적용되어 있어 과도한 요청이 제한됩니다.</p>
+     * <p>Rate limiting이 적용되어 있어 과도한 요청이 제한됩니다.
+     * 논블로킹 버전(todo-reactive)과 같은 버킷 이름을 써서 허용량을 공유합니다.</p>
      * 
      * @param todoCreateRequest TO-DO 생성 요청 정보
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 생성된 TODO의 ID를 포함한 응답
      */
+    @RateLimited(name = "todo.create", key = RateLimitKey.USER, limit = 30, window = 60)
     @PostMapping("")
-    public ResponseEntity<TodoCreateResponse> createTodo(@Valid @RequestBody TodoCreateRequest todoCreateRequest, HttpServletRequest request) {
-        rateLimitUtil.checkRateLimit(request);
+    public ResponseEntity<TodoCreateResponse> createTodo(@Valid @RequestBody TodoCreateRequest todoCreateRequest) {
         Integer userNo = AuthUtil.getCurrentUserNo();
         if (userNo == null) {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("TO-DO 생성 요청 - userNo: {}, title: {}", userNo, todoCreateRequest.getTitle());
+        log.debug("TO-DO 생성 요청 - userNo: {}, title: {}", userNo, todoCreateRequest.getTitle());
         TodoCreateResponse todoCreateResponse = todoService.createTodo(userNo, todoCreateRequest);
-        log.info("TO-DO 생성 완료 - userNo: {}, todoId: {}", userNo, todoCreateResponse.getTodoId());
+        log.debug("TO-DO 생성 완료 - userNo: {}, todoId: {}", userNo, todoCreateResponse.getTodoId());
 
         return ResponseEntity.ok().body(todoCreateResponse);
     }
@@ -125,9 +125,9 @@ public class TodoController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("TO-DO 수정 요청 - userNo: {}, todoId: {}", userNo, todoId);
+        log.debug("TO-DO 수정 요청 - userNo: {}, todoId: {}", userNo, todoId);
         todoService.updateTodo(userNo, todoId, todoUpdateRequest);
-        log.info("TO-DO 수정 완료 - userNo: {}, todoId: {}", userNo, todoId);
+        log.debug("TO-DO 수정 완료 - userNo: {}, todoId: {}", userNo, todoId);
 
         return ResponseEntity.noContent().build();
     }
@@ -149,9 +149,9 @@ public class TodoController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("TO-DO 부분 수정 요청 - userNo: {}, todoId: {}, sequence: {}, completed: {}", userNo, todoId, todoPatchRequest.getSequence(), todoPatchRequest.getCompleted());
+        log.debug("TO-DO 부분 수정 요청 - userNo: {}, todoId: {}, sequence: {}, completed: {}", userNo, todoId, todoPatchRequest.getSequence(), todoPatchRequest.getCompleted());
         todoService.patchTodo(userNo, todoId, todoPatchRequest);
-        log.info("TO-DO 부분 수정 완료 - userNo: {}, todoId: {}", userNo, todoId);
+        log.debug("TO-DO 부분 수정 완료 - userNo: {}, todoId: {}", userNo, todoId);
 
         return ResponseEntity.noContent().build();
     }
@@ -170,9 +170,9 @@ public class TodoController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("TO-DO 삭제 요청 - userNo: {}, todoId: {}", userNo, todoId);
+        log.debug("TO-DO 삭제 요청 - userNo: {}, todoId: {}", userNo, todoId);
         todoService.deleteTodo(userNo, todoId);
-        log.info("TO-DO 삭제 완료 - userNo: {}, todoId: {}", userNo, todoId);
+        log.debug("TO-DO 삭제 완료 - userNo: {}, todoId: {}", userNo, todoId);
 
         return ResponseEntity.noContent().build();
     }
@@ -192,7 +192,7 @@ public class TodoController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("TO-DO 통계 조회 요청 - userNo: {}", userNo);
+        log.debug("TO-DO 통계 조회 요청 - userNo: {}", userNo);
         TodoStatisticsResponse todoStatisticsResponse = todoService.getTodoStatistics(userNo);
         log.debug("TO-DO 통계 조회 완료 - userNo: {}, total: {}, completed: {}, todayCompleted: {}",
                 userNo, todoStatisticsResponse.getTotalCount(),
@@ -1,7 +1,5 @@
 package com.example.test_project.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +7,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,11 +16,13 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.test_project.config.exception.BadRequestException;
 import com.example.test_project.config.exception.UnauthorizedException;
 import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.config.ratelimit.RateLimited;
+import com.example.test_project.dto.request.TokenListRequest;
 import com.example.test_project.dto.response.*;
 import com.example.test_project.service.AuthService;
 import com.example.test_project.util.*;
 
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,29 +40,30 @@ import lombok.extern.slf4j.Slf4j;
 public class TokenController {
 
     private final AuthService authService;
-    private final RateLimitUtil rateLimitUtil;
     private final AppProperties appProperties;
 
     /**
-     * 현재 사용자의 모든 활성 토큰 목록을 조회합니다.
+     * 현재 사용자의 토큰 목록을 조회합니다.
      * 
-     * <p>여러 기기에서 로그인한 경우 각 기기별 토큰 정보를 확인할 수 있습니다.</p>
+     * <p>여러 기기에서 로그인한 경우 각 기기별 토큰 정보를 확인할 수 있습니다.
+     * 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.</p>
      * 
-     * @return 활성 Refresh Token 목록
+     * @param tokenListRequest 커서, 페이지 크기, 활성 토큰 필터
+     * @return Refresh Token 목록과 다음 페이지 커서
      */
     @GetMapping("")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<List<RefreshTokenDetailResponse>> getTokens() {
+    public ResponseEntity<RefreshTokenListResponse> getTokens(@Valid @ModelAttribute TokenListRequest tokenListRequest) {
         Integer userNo = AuthUtil.getCurrentUserNo();
         if (userNo == null) {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
-        log.info("토큰 목록 조회 요청 - userNo: {}", userNo);
+        log.debug("토큰 목록 조회 요청 - userNo: {}", userNo);
 
-        List<RefreshTokenDetailResponse> list = authService.getTokens(userNo);
-        log.debug("토큰 목록 조회 완료 - userNo: {}, 토큰 수: {}", userNo, list.size());
+        RefreshTokenListResponse refreshTokenListResponse = authService.getTokens(userNo, tokenListRequest);
+        log.debug("토큰 목록 조회 완료 - userNo: {}, 토큰 수: {}", userNo, refreshTokenListResponse.getList().size());
 
-        return ResponseEntity.ok().body(list);
+        return ResponseEntity.ok().body(refreshTokenListResponse);
     }
 
 
@@ -72,17 +74,14 @@ public class TokenController {
      * Rate limiting이 적용되어 과도한 갱신 요청이 제한됩니다.</p>
      * 
      * @param refreshToken 쿠키에서 읽은 Refresh Token
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 새로운 Access Token
      * @throws BadRequestException Refresh Token이 없거나 유효하지 않은 경우
      */
+    @RateLimited
     @PostMapping("/refresh")
     public ResponseEntity<AccessTokenResponse> refreshAccessToken(
-            @CookieValue(name = "${app.jwt-refresh-token-cookie-name}", required = false) String refreshToken, 
-            HttpServletRequest request) {
-
-        rateLimitUtil.checkRateLimit(request);
-        log.info("Access Token 갱신 요청");
+            @CookieValue(name = "${app.jwt-refresh-token-cookie-name:refreshToken}", required = false) String refreshToken) {
+        log.debug("Access Token 갱신 요청");
 
         if (refreshToken == null || refreshToken.isBlank()) {
             log.warn("Access Token 갱신 실패 - Refresh Token이 없음");
@@ -91,7 +90,7 @@ public class TokenController {
 
         log.debug("Access Token 갱신 시도 - refreshToken: {}", refreshToken);
         AccessTokenResponse accessTokenResponse = authService.refreshAccessToken(refreshToken);
-        log.info("Access Token 갱신 성공");
+        log.debug("Access Token 갱신 성공");
 
         return ResponseEntity.ok().body(accessTokenResponse);
     }
@@ -113,9 +112,9 @@ public class TokenController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("토큰 삭제 요청 - userNo: {}, refreshToken: {}", userNo, refreshToken);
+        log.debug("토큰 삭제 요청 - userNo: {}, refreshToken: {}", userNo, refreshToken);
         authService.deleteToken(userNo, refreshToken);
-        log.info("토큰 삭제 완료 - userNo: {}", userNo);
+        log.debug("토큰 삭제 완료 - userNo: {}", userNo);
 
         return ResponseEntity.noContent().build();
     }
@@ -132,15 +131,15 @@ public class TokenController {
      */
     @DeleteMapping("/current")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<Void> deleteCurrentToken(@CookieValue("${app.jwt-refresh-token-cookie-name}") String refreshToken) {
+    public ResponseEntity<Void> deleteCurrentToken(@CookieValue("${app.jwt-refresh-token-cookie-name:refreshToken}") String refreshToken) {
         Integer userNo = AuthUtil.getCurrentUserNo();
         if (userNo == null) {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("현재 토큰 삭제(로그아웃) 요청 - userNo: {}", userNo);
+        log.debug("현재 토큰 삭제(로그아웃) 요청 - userNo: {}", userNo);
         authService.deleteToken(userNo, refreshToken);
-        log.info("현재 토큰 삭제 완료 - userNo: {}", userNo);
+        log.debug("현재 토큰 삭제 완료 - userNo: {}", userNo);
 
         return ResponseEntity.noContent()
                 .header(HttpHeaders.SET_COOKIE, removeRefreshTokenCookie().toString())
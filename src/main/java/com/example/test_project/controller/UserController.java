@@ -9,13 +9,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.test_project.config.exception.UnauthorizedException;
+import com.example.test_project.config.ratelimit.RateLimitKey;
+import com.example.test_project.config.ratelimit.RateLimited;
 import com.example.test_project.dto.request.*;
 import com.example.test_project.dto.response.*;
 import com.example.test_project.service.UserService;
 import com.example.test_project.util.AuthUtil;
-import com.example.test_project.util.RateLimitUtil;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,7 +35,6 @@ import lombok.extern.slf4j.Slf4j;
 public class UserController {
 
     private final UserService userService;
-    private final RateLimitUtil rateLimitUtil;
 
     /**
      * 현재 로그인한 사용자의 상세 정보를 조회합니다.
@@ -51,7 +50,7 @@ public class UserController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("사용자 정보 조회 요청 - userNo: {}", userNo);
+        log.debug("사용자 정보 조회 요청 - userNo: {}", userNo);
         UserDetailResponse userDetailResponse = userService.getUserDetail(userNo);
         log.debug("사용자 정보 조회 완료 - userNo: {}, email: {}", userNo, userDetailResponse.getEmail());
 
@@ -75,9 +74,9 @@ public class UserController {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("사용자 정보 수정 요청 - userNo: {}, userName: {}", userNo, userPatchRequest.getUserName());
+        log.debug("사용자 정보 수정 요청 - userNo: {}, userName: {}", userNo, userPatchRequest.getUserName());
         userService.updateUser(userNo, userPatchRequest);
-        log.info("사용자 정보 수정 완료 - userNo: {}", userNo);
+        log.debug("사용자 정보 수정 완료 - userNo: {}", userNo);
 
         return ResponseEntity.noContent().build();
     }
@@ -90,23 +89,20 @@ public class UserController {
      * Rate limiting이 적용되어 무차별 대입 공격을 방지합니다.</p>
      * 
      * @param userChangePasswordRequest 비밀번호 변경 요청 (현재 비밀번호, 새 비밀번호)
-     * @param request HTTP 요청 객체 (rate limiting용)
      * @return 204 No Content
      */
+    @RateLimited(key = RateLimitKey.USER)
     @PatchMapping("/change-password")
     public ResponseEntity<Void> changePassword(
-            @Valid @RequestBody UserChangePasswordRequest userChangePasswordRequest,
-            HttpServletRequest request) {
-
-        rateLimitUtil.checkRateLimit(request);
+            @Valid @RequestBody UserChangePasswordRequest userChangePasswordRequest) {
         Integer userNo = AuthUtil.getCurrentUserNo();
         if (userNo == null) {
             throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
         }
 
-        log.info("비밀번호 변경 요청 - userNo: {}", userNo);
+        log.debug("비밀번호 변경 요청 - userNo: {}", userNo);
         userService.changePassword(userNo, userChangePasswordRequest);
-        log.info("비밀번호 변경 완료 - userNo: {}", userNo);
+        log.debug("비밀번호 변경 완료 - userNo: {}", userNo);
 
         return ResponseEntity.noContent().build();
     }
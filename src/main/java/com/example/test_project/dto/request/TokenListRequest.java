@@ -0,0 +1,27 @@
+package com.example.test_project.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// @ModelAttribute 바인딩은 빌더를 거치지 않으므로 생략된 파라미터가 필드 기본값을 유지하도록 setter로 바인딩
+@Getter
+@Setter
+@NoArgsConstructor
+public class TokenListRequest {
+
+    // 이전 페이지의 nextCursor
+    @Size(max = 100, message = "커서는 100자 이하여야 합니다.")
+    private String cursor;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "페이지 크기는 50 이하이어야 합니다.")
+    private int size = 20;
+
+    // true: 만료되지 않은 토큰만, false: 전체
+    private boolean active = true;
+
+}
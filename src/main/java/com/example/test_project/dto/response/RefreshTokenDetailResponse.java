@@ -23,4 +23,7 @@ public class RefreshTokenDetailResponse {
 
     // 토큰 발급 시각
     private LocalDateTime createdAt;
+
+    // 마지막 사용 시각
+    private LocalDateTime lastUsedAt;
 }
@@ -0,0 +1,27 @@
+package com.example.test_project.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RefreshTokenListResponse {
+
+    // 페이지 크기
+    private int size;
+
+    // 다음 페이지 커서 (마지막 페이지면 없음)
+    private String nextCursor;
+
+    // 목록
+    private List<RefreshTokenDetailResponse> list;
+}
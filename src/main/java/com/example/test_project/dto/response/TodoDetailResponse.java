@@ -3,7 +3,9 @@ package com.example.test_project.dto.response;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.example.test_project.dto.response.json.TodoDetailResponseSerializer;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +17,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = TodoDetailResponseSerializer.class)
 public class TodoDetailResponse {
 
     // TO-DO ID
@@ -2,7 +2,10 @@ package com.example.test_project.dto.response;
 
 import java.util.List;
 
+import com.example.test_project.dto.response.json.TodoListResponseSerializer;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +17,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = TodoListResponseSerializer.class)
 public class TodoListResponse {
 
     // 현재 페이지
@@ -27,4 +31,13 @@ public class TodoListResponse {
 
     // 목록
     private List<TodoDetailResponse> list;
+
+
+    /**
+     * 조회된 항목 수를 반환합니다.
+     */
+    @JsonIgnore
+    public int getItemCount() {
+        return list != null ? list.size() : 0;
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.test_project.dto.response.json;
+
+import java.io.IOException;
+
+import com.example.test_project.dto.response.TodoDetailResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+
+/**
+ * TO-DO 상세 응답 직렬화기
+ */
+public class TodoDetailResponseSerializer extends StdSerializer<TodoDetailResponse> {
+
+    public TodoDetailResponseSerializer() {
+        super(TodoDetailResponse.class);
+    }
+
+    @Override
+    public void serialize(TodoDetailResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        TodoJsonWriter.writeTodo(gen, value);
+    }
+
+}
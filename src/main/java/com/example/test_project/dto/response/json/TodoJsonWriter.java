@@ -0,0 +1,121 @@
+package com.example.test_project.dto.response.json;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.example.jooq.tables.records.TodosRecord;
+import com.example.test_project.dto.response.TodoDetailResponse;
+import com.example.test_project.util.DateTimeFormatUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+
+/**
+ * TO-DO 응답 JSON을 {@link JsonGenerator}로 직접 쓰는 유틸리티 클래스
+ * 
+ * <p>필드 이름은 미리 인코딩한 {@link SerializedString}을 사용하고,
+ * 날짜는 {@link DateTimeFormatUtil}로 포맷합니다.
+ * 목록 응답은 jOOQ 레코드에서 바로 쓰므로 행마다 POJO와 DTO를 만들지 않습니다.</p>
+ * 
+ * <p>출력은 Jackson 기본 직렬화와 같습니다. (필드 순서, null 필드 생략, ISO-8601 날짜)</p>
+ */
+public final class TodoJsonWriter {
+
+    static final SerializableString PAGE = new SerializedString("page");
+    static final SerializableString SIZE = new SerializedString("size");
+    static final SerializableString TOTAL_COUNT = new SerializedString("totalCount");
+    static final SerializableString LIST = new SerializedString("list");
+
+    private static final SerializableString TODO_ID = new SerializedString("todoId");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString COLOR = new SerializedString("color");
+    private static final SerializableString SEQUENCE = new SerializedString("sequence");
+    private static final SerializableString DUE_AT = new SerializedString("dueAt");
+    private static final SerializableString COMPLETED_AT = new SerializedString("completedAt");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    private TodoJsonWriter() {
+    }
+
+
+    /**
+     * jOOQ 레코드 한 건을 TO-DO 상세 JSON 객체로 씁니다.
+     * 
+     * @param gen JSON 생성기
+     * @param record TO-DO 레코드
+     * @throws IOException 쓰기 실패 시
+     */
+    public static void writeTodo(JsonGenerator gen, TodosRecord record) throws IOException {
+        Integer sequence = record.getSequence();
+        writeTodo(gen,
+                record.getTodoId(),
+                record.getTitle(),
+                record.getContent(),
+                record.getColor(),
+                sequence != null ? sequence : 0,
+                record.getDueAt(),
+                record.getCompletedAt(),
+                record.getCreatedAt(),
+                record.getUpdatedAt());
+    }
+
+
+    /**
+     * TO-DO 상세 DTO를 JSON 객체로 씁니다.
+     * 
+     * @param gen JSON 생성기
+     * @param todo TO-DO 상세 응답
+     * @throws IOException 쓰기 실패 시
+     */
+    public static void writeTodo(JsonGenerator gen, TodoDetailResponse todo) throws IOException {
+        writeTodo(gen,
+                todo.getTodoId(),
+                todo.getTitle(),
+                todo.getContent(),
+                todo.getColor(),
+                todo.getSequence(),
+                todo.getDueAt(),
+                todo.getCompletedAt(),
+                todo.getCreatedAt(),
+                todo.getUpdatedAt());
+    }
+
+
+    private static void writeTodo(JsonGenerator gen, String todoId, String title, String content, String color, int sequence,
+            LocalDate dueAt, LocalDateTime completedAt, LocalDateTime createdAt, LocalDateTime updatedAt) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, TODO_ID, todoId);
+        writeString(gen, TITLE, title);
+        writeString(gen, CONTENT, content);
+        writeString(gen, COLOR, color);
+        gen.writeFieldName(SEQUENCE);
+        gen.writeNumber(sequence);
+        if (dueAt != null) {
+            gen.writeFieldName(DUE_AT);
+            gen.writeString(DateTimeFormatUtil.formatDate(dueAt));
+        }
+        writeDateTime(gen, COMPLETED_AT, completedAt);
+        writeDateTime(gen, CREATED_AT, createdAt);
+        writeDateTime(gen, UPDATED_AT, updatedAt);
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, SerializableString name, LocalDateTime value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(DateTimeFormatUtil.formatDateTime(value));
+        }
+    }
+
+}
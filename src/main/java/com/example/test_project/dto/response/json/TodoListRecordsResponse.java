@@ -0,0 +1,43 @@
+package com.example.test_project.dto.response.json;
+
+import java.util.List;
+
+import com.example.jooq.tables.records.TodosRecord;
+import com.example.test_project.dto.response.TodoListResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+
+/**
+ * jOOQ 레코드를 그대로 담은 TO-DO 목록 응답
+ * 
+ * <p>응답 형식은 {@link TodoListResponse}와 같으며, 직렬화기가 목록을 DTO로 바꾸지 않고 레코드에서 바로 씁니다.
+ * 레코드는 서비스와 직렬화기 사이에서만 쓰이고 API 문서와 DTO에는 드러나지 않습니다.</p>
+ */
+@JsonSerialize(using = TodoListResponseSerializer.class)
+public class TodoListRecordsResponse extends TodoListResponse {
+
+    private final List<TodosRecord> records;
+
+    public TodoListRecordsResponse(int page, int size, int totalCount, List<TodosRecord> records) {
+        super(page, size, totalCount, null);
+        this.records = records;
+    }
+
+
+    /**
+     * 목록 원본 레코드를 반환합니다.
+     */
+    @JsonIgnore
+    public List<TodosRecord> getRecords() {
+        return records;
+    }
+
+
+    @Override
+    @JsonIgnore
+    public int getItemCount() {
+        return records.size();
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.example.test_project.dto.response.json;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.example.jooq.tables.records.TodosRecord;
+import com.example.test_project.dto.response.TodoDetailResponse;
+import com.example.test_project.dto.response.TodoListResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+
+/**
+ * TO-DO 목록 응답 직렬화기
+ * 
+ * <p>{@link TodoListRecordsResponse}이면 jOOQ 레코드에서 바로 쓰고, 그 외에는 DTO 목록을 씁니다.</p>
+ */
+public class TodoListResponseSerializer extends StdSerializer<TodoListResponse> {
+
+    public TodoListResponseSerializer() {
+        super(TodoListResponse.class);
+    }
+
+    @Override
+    public void serialize(TodoListResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(TodoJsonWriter.PAGE);
+        gen.writeNumber(value.getPage());
+        gen.writeFieldName(TodoJsonWriter.SIZE);
+        gen.writeNumber(value.getSize());
+        gen.writeFieldName(TodoJsonWriter.TOTAL_COUNT);
+        gen.writeNumber(value.getTotalCount());
+
+        List<TodoDetailResponse> list = value.getList();
+        if (value instanceof TodoListRecordsResponse recordsResponse) {
+            gen.writeFieldName(TodoJsonWriter.LIST);
+            gen.writeStartArray();
+            for (TodosRecord record : recordsResponse.getRecords()) {
+                TodoJsonWriter.writeTodo(gen, record);
+            }
+            gen.writeEndArray();
+        } else if (list != null) {
+            gen.writeFieldName(TodoJsonWriter.LIST);
+            gen.writeStartArray();
+            for (TodoDetailResponse todo : list) {
+                TodoJsonWriter.writeTodo(gen, todo);
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeEndObject();
+    }
+
+}
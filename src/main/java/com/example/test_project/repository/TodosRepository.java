@@ -3,11 +3,11 @@ package com.example.test_project.repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
 import java.util.Optional;
 
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Result;
 import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
@@ -16,9 +16,11 @@ import com.example.jooq.tables.JTodos;
 import com.example.jooq.tables.pojos.Todos;
 import com.example.jooq.tables.records.TodosRecord;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Repository
+@Timed("db.repository")
 @RequiredArgsConstructor
 public class TodosRepository {
 
@@ -71,16 +73,16 @@ public class TodosRepository {
      * @param status  조회할 상태(complete|incomplete)
      * @param searchType  검색할 대상(title|content)
      * @param keyword  검색어
-     * @return Todo 목록
+     * @return Todo 레코드 목록 (응답 JSON을 레코드에서 바로 쓰도록 POJO로 변환하지 않음)
      */
-    public List<Todos> findPageByUserNo(int userNo, int offset, int limit, String status, String searchType, String keyword) {
+    public Result<TodosRecord> findPageByUserNo(int userNo, int offset, int limit, String status, String searchType, String keyword) {
         Condition condition = buildFilter(userNo, status, searchType, keyword);
 
         return dslContext.selectFrom(TODOS)
                 .where(condition)
                 .orderBy(TODOS.SEQUENCE.asc(), TODOS.CREATED_AT.asc())
                 .limit(offset * limit, limit)
-                .fetchInto(Todos.class);
+                .fetch();
     }
 
 
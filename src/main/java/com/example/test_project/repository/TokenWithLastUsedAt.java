@@ -0,0 +1,22 @@
+package com.example.test_project.repository;
+
+import java.time.LocalDateTime;
+
+import com.example.jooq.tables.pojos.Tokens;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 토큰과 마지막 사용 일시를 함께 담는 조회 결과
+ * 
+ * <p>{@link TokensRepository#findAllByUserNo(int)}에서 tokens 컬럼과 {@code last_used_at}을 함께 채웁니다.
+ * {@code last_used_at}은 생성 코드에 없는 컬럼이므로 {@link Tokens}를 확장해 따로 담습니다.</p>
+ */
+@Getter
+@Setter
+public class TokenWithLastUsedAt extends Tokens {
+
+    // tokens.last_used_at (한 번도 갱신되지 않았으면 null)
+    private LocalDateTime lastUsedAt;
+}
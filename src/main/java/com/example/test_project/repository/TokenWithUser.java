@@ -0,0 +1,29 @@
+package com.example.test_project.repository;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 토큰과 소유 사용자 정보를 함께 담는 조회 결과
+ * 
+ * <p>{@link TokensRepository#findWithUserByRefreshToken(String)}에서 tokens와 users를 조인하여 채웁니다.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TokenWithUser {
+
+    // tokens
+    private Integer tokenNo;
+    private Integer userNo;
+    private LocalDateTime accessTokenExpiresAt;
+    private LocalDateTime refreshTokenExpiresAt;
+
+    // users
+    private String email;
+    private String role;
+    private LocalDateTime deletedAt;
+}
@@ -1,24 +1,37 @@
 package com.example.test_project.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import com.example.jooq.tables.JTokens;
+import com.example.jooq.tables.JUsers;
 import com.example.jooq.tables.pojos.Tokens;
 import com.example.jooq.tables.records.TokensRecord;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Repository
+@Timed("db.repository")
 @RequiredArgsConstructor
 public class TokensRepository {
 
     private final DSLContext dslContext;
     private final JTokens TOKENS = JTokens.TOKENS;
+    private final JUsers USERS = JUsers.USERS;
+
+    // tokens.last_used_at (src/main/resources/db/migration/V2__add_tokens_last_used_at.sql)
+    // 생성 코드에 넣지 않고 이 컬럼을 쓰는 쿼리에서만 명시적으로 사용 (selectFrom(TOKENS)는 이 컬럼을 조회하지 않음)
+    private final Field<LocalDateTime> LAST_USED_AT = DSL.field(TOKENS.getQualifiedName().append("last_used_at"), SQLDataType.LOCALDATETIME(0));
 
     /**
      * 토큰 번호로 토큰 정보를 조회합니다.
@@ -46,11 +59,42 @@ public class TokensRepository {
     }
 
 
-    public List<Tokens> findAllActiveTokensByUserNo(int userNo) {
-        return dslContext.selectFrom(TOKENS)
+    /**
+     * Refresh Token으로 토큰과 소유 사용자 정보를 한 번의 조인 쿼리로 조회합니다.
+     * 토큰 갱신 시 사용자 테이블을 따로 조회하지 않기 위해 사용됩니다.
+     * 
+     * @param refreshToken 조회할 Refresh Token
+     * @return 토큰과 사용자 정보를 담은 Optional 객체, 존재하지 않을 경우 Optional.empty()
+     */
+    public Optional<TokenWithUser> findWithUserByRefreshToken(String refreshToken) {
+        return dslContext.select(
+                    TOKENS.TOKEN_NO,
+                    TOKENS.USER_NO,
+                    TOKENS.ACCESS_TOKEN_EXPIRES_AT,
+                    TOKENS.REFRESH_TOKEN_EXPIRES_AT,
+                    USERS.EMAIL,
+                    USERS.ROLE,
+                    USERS.DELETED_AT)
+                .from(TOKENS)
+                .join(USERS).on(USERS.USER_NO.eq(TOKENS.USER_NO))
+                .where(TOKENS.REFRESH_TOKEN.eq(refreshToken))
+                .fetchOptionalInto(TokenWithUser.class);
+    }
+
+
+    /**
+     * 특정 사용자의 토큰 목록을 마지막 사용 일시와 함께 조회합니다.
+     * 아직 정리되지 않은 만료 토큰도 포함되며, 세션 레지스트리 적재에 사용됩니다.
+     * 
+     * @param userNo 조회할 사용자 번호
+     * @return 토큰 목록 (생성일 내림차순)
+     */
+    public List<TokenWithLastUsedAt> findAllByUserNo(int userNo) {
+        return dslContext.select(TOKENS.asterisk(), LAST_USED_AT)
+                .from(TOKENS)
                 .where(TOKENS.USER_NO.eq(userNo))
                 .orderBy(TOKENS.CREATED_AT.desc())
-                .fetchInto(Tokens.class);
+                .fetchInto(TokenWithLastUsedAt.class);
     }
 
     /**
@@ -124,6 +168,48 @@ public class TokensRepository {
     }
 
 
+    /**
+     * 재발급 조건을 만족하는 경우에만 Access Token 만료 일시를 갱신합니다.
+     * 갱신 가능 시점과 Refresh Token 만료 여부를 UPDATE 조건으로 검사하므로
+     * 동시에 여러 요청이 들어와도 한 요청만 성공합니다.
+     * 
+     * @param tokenNo 갱신할 토큰 번호
+     * @param now 기준 일시 (Refresh Token이 이 시각 이후에 만료되어야 함)
+     * @param reissuableUntil 갱신 가능 기준 (Access Token 만료 일시가 이 시각 이전이어야 함)
+     * @param accessTokenExpiresAt 새로운 Access Token 만료 일시
+     * @return 업데이트된 레코드 수 (0: 갱신 조건 불만족, 1: 갱신 성공)
+     * @throws org.jooq.exception.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    public int updateAccessTokenExpiresAtIfReissuable(int tokenNo, LocalDateTime now, LocalDateTime reissuableUntil, LocalDateTime accessTokenExpiresAt) {
+        return dslContext.update(TOKENS)
+                .set(TOKENS.ACCESS_TOKEN_EXPIRES_AT, accessTokenExpiresAt)
+                .where(TOKENS.TOKEN_NO.eq(tokenNo))
+                .and(TOKENS.REFRESH_TOKEN_EXPIRES_AT.gt(now))
+                .and(TOKENS.ACCESS_TOKEN_EXPIRES_AT.le(reissuableUntil))
+                .execute();
+    }
+
+
+    /**
+     * 여러 토큰의 마지막 사용 일시를 하나의 UPDATE 문으로 갱신합니다.
+     * {@code UPDATE tokens SET last_used_at = CASE token_no WHEN ? THEN ? ... END WHERE token_no IN (...)}
+     * 
+     * @param lastUsedAtByTokenNo 토큰 번호별 마지막 사용 일시
+     * @return 업데이트된 레코드 수
+     * @throws org.jooq.exception.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    public int updateLastUsedAt(Map<Integer, LocalDateTime> lastUsedAtByTokenNo) {
+        if (lastUsedAtByTokenNo.isEmpty()) {
+            return 0;
+        }
+
+        return dslContext.update(TOKENS)
+                .set(LAST_USED_AT, DSL.case_(TOKENS.TOKEN_NO).mapValues(lastUsedAtByTokenNo).else_(LAST_USED_AT))
+                .where(TOKENS.TOKEN_NO.in(lastUsedAtByTokenNo.keySet()))
+                .execute();
+    }
+
+
     /**
      * 토큰 정보를 물리적으로 삭제합니다.
      * 로그아웃 시 또는 토큰 무효화 시 호출됩니다.
@@ -153,4 +239,26 @@ public class TokensRepository {
                 .execute();
     }
 
+
+
+    /**
+     * 만료된 토큰을 최대 limit 건까지 물리적으로 삭제합니다.
+     * refresh_token_expires_at 인덱스 순서로 잘라서 삭제하므로 한 번에 오래 잠금을 잡지 않습니다.
+     * 
+     * {@code DELETE ... RETURNING}으로 삭제된 토큰의 사용자 번호와 Refresh Token을 함께 반환합니다.
+     * 
+     * @param now 기준 일시 (이 시각 이전에 만료된 토큰 삭제)
+     * @param limit 1회에 삭제할 최대 건수
+     * @return 삭제된 토큰 목록 (userNo, refreshToken만 채워짐, limit보다 작으면 더 이상 삭제할 토큰 없음)
+     * @throws org.jooq.exception.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    public List<Tokens> deleteExpired(LocalDateTime now, int limit) {
+        return dslContext.deleteFrom(TOKENS)
+                .where(TOKENS.REFRESH_TOKEN_EXPIRES_AT.lt(now))
+                .orderBy(TOKENS.REFRESH_TOKEN_EXPIRES_AT.asc())
+                .limit(limit)
+                .returning(TOKENS.USER_NO, TOKENS.REFRESH_TOKEN)
+                .fetchInto(Tokens.class);
+    }
+
 }
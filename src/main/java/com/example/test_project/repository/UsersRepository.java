@@ -1,8 +1,15 @@
 package com.example.test_project.repository;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -10,11 +17,13 @@ import com.example.jooq.tables.JUsers;
 import com.example.jooq.tables.pojos.Users;
 import com.example.jooq.tables.records.UsersRecord;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Repository
+@Timed("db.repository")
 @RequiredArgsConstructor
 public class UsersRepository {
 
@@ -47,6 +56,35 @@ public class UsersRepository {
     }
 
 
+    /**
+     * 모든 사용자 이메일을 스트리밍으로 읽어 전달합니다.
+     * 
+     * <p>전체 결과를 메모리에 올리지 않도록 {@code fetchSize} 단위로 커서에서 읽습니다.</p>
+     * 
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param action 이메일마다 실행할 작업
+     * @return 읽은 이메일 수
+     * @throws org.jooq.exception.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    public long forEachEmail(int fetchSize, Consumer<String> action) {
+        long count = 0;
+
+        try (Stream<String> emails = dslContext.select(USERS.EMAIL)
+                .from(USERS)
+                .fetchSize(fetchSize)
+                .fetchStream()
+                .map(Record1::value1)) {
+            Iterator<String> iterator = emails.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+
     /**
      * 새로운 사용자 정보를 저장합니다.
      * 
@@ -131,6 +169,26 @@ public class UsersRepository {
     }
 
 
+    /**
+     * 여러 사용자의 마지막 로그인 일시를 하나의 UPDATE 문으로 갱신합니다.
+     * {@code UPDATE users SET last_login_at = CASE user_no WHEN ? THEN ? ... END WHERE user_no IN (...)}
+     * 
+     * @param lastLoginAtByUserNo 사용자 번호별 마지막 로그인 일시
+     * @return 업데이트된 레코드 수
+     * @throws org.jooq.exception.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    public int updateLastLoginAt(Map<Integer, LocalDateTime> lastLoginAtByUserNo) {
+        if (lastLoginAtByUserNo.isEmpty()) {
+            return 0;
+        }
+
+        return dslContext.update(USERS)
+                .set(USERS.LAST_LOGIN_AT, DSL.case_(USERS.USER_NO).mapValues(lastLoginAtByUserNo).else_(USERS.LAST_LOGIN_AT))
+                .where(USERS.USER_NO.in(lastLoginAtByUserNo.keySet()))
+                .execute();
+    }
+
+
     /**
      * 사용자 정보를 삭제합니다.
      * 
@@ -0,0 +1,357 @@
+package com.example.test_project.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.util.EmailOutboxUtil;
+import com.example.test_project.util.EmailUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 이메일 발송 대기열 처리 워커
+ * 
+ * <p>{@link EmailOutboxUtil}이 Redis Stream에 적재한 이메일을 컨슈머 그룹으로 읽어 발송합니다.
+ * {@code app.mail-outbox-workers}개의 컨슈머가 동시에 처리하며, 처리한 메시지는 ACK 후 삭제합니다.</p>
+ * 
+ * <p>발송에 실패하면 지수 백오프 후 재시도 대기열(Sorted Set)에 넣고,
+ * 최대 시도 횟수를 넘기면 실패 대기열(dead-letter Stream)로 옮깁니다.
+ * 처리 중 종료된 컨슈머의 메시지는 일정 시간이 지나면 다시 대기열로 돌려보냅니다.
+ * 이 시간은 발송 1건의 최대 시간({@link EmailUtil#maxSendMillis()})보다 짧아지지 않으므로
+ * 느린 발송 중인 메시지를 다른 워커가 회수해 두 번 보내지 않습니다.</p>
+ * 
+ * <p>본문(인증 코드 포함)은 메시지가 가리키는 키에서 읽고, 발송에 성공하거나 최종 실패하면 삭제합니다.
+ * 본문 키가 만료되었으면(인증 코드 유효 시간 경과) 발송하지 않고 실패 대기열로 옮깁니다.</p>
+ * 
+ * <p>컨텍스트 생명주기를 따르므로 CRaC 체크포인트 전에 멈췄다가 복원 후 새 컨테이너로 다시 시작합니다.</p>
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker implements SmartLifecycle {
+
+    private static final String GROUP = "mail-workers";
+    private static final int RETRY_MOVE_LIMIT = 100;
+    private static final int RECLAIM_LIMIT = 100;
+    private static final long DEAD_LETTER_MAX_LENGTH = 10_000;
+
+    // 재시도 시각이 된 메시지를 대기열로 이동
+    private static final RedisScript<Long> MOVE_DUE_RETRIES_SCRIPT = RedisScript.of("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, value in ipairs(due) do
+                redis.call('ZREM', KEYS[1], value)
+                local message = cjson.decode(value)
+                redis.call('XADD', KEYS[2], '*',
+                    'to', message['to'], 'subject', message['subject'], 'contentKey', message['contentKey'],
+                    'attempt', message['attempt'], 'enqueuedAt', message['enqueuedAt'])
+            end
+            return #due
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final EmailUtil emailUtil;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+
+    private final String consumerPrefix = "worker-" + UUID.randomUUID();
+    private volatile StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final Timer lagTimer;
+
+    public EmailOutboxWorker(StringRedisTemplate redisTemplate, RedisConnectionFactory redisConnectionFactory,
+            EmailUtil emailUtil, ObjectMapper objectMapper, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.emailUtil = emailUtil;
+        this.objectMapper = objectMapper;
+        this.appProperties = appProperties;
+        this.sentCounter = Counter.builder("mail.outbox.sent")
+                .description("발송 완료된 이메일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed")
+                .description("발송 시도 실패 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("mail.outbox.retried")
+                .description("재시도 대기열에 넣은 이메일 수")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("mail.outbox.dead")
+                .description("최대 시도 횟수를 넘겨 실패 처리된 이메일 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("mail.outbox.lag")
+                .description("대기열 적재부터 발송 시도까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.queued", this, worker -> worker.size(EmailOutboxUtil.OUTBOX_KEY))
+                .description("대기열에 남은 이메일 수 (처리 중 포함)")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.retry.queued", this, worker -> worker.retrySize())
+                .description("재시도 대기 중인 이메일 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 컨슈머 그룹을 만들고 워커를 시작합니다.
+     */
+    @Override
+    public void start() {
+        createGroupIfAbsent();
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(2))
+                        .batchSize(10)
+                        // SMTP 발송(Transport.sendMessage)은 synchronized 안에서 소켓 I/O를 하므로
+                        // 가상 스레드 모드에서도 캐리어 스레드를 점유하지 않도록 플랫폼 스레드 사용
+                        .executor(new SimpleAsyncTaskExecutor("mail-worker-"))
+                        .errorHandler(e -> log.warn("이메일 대기열 읽기 실패 - error: {}", e.getMessage()))
+                        .build();
+        container = StreamMessageListenerContainer.create(redisConnectionFactory, options);
+
+        for (int i = 0; i < appProperties.getMailOutboxWorkers(); i++) {
+            StreamReadRequest<String> readRequest = StreamReadRequest.builder(StreamOffset.create(EmailOutboxUtil.OUTBOX_KEY, ReadOffset.lastConsumed()))
+                    .consumer(Consumer.from(GROUP, consumerPrefix + "-" + i))
+                    .autoAcknowledge(false)
+                    .cancelOnError(e -> false)
+                    .build();
+            container.register(readRequest, this::process);
+        }
+
+        container.start();
+        log.info("이메일 대기열 워커 시작 - workers: {}", appProperties.getMailOutboxWorkers());
+    }
+
+
+    /**
+     * 워커를 중지합니다. 처리 중이던 메시지는 재시작 후 회수됩니다.
+     */
+    @Override
+    public void stop() {
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> current = container;
+        container = null;
+        if (current != null) {
+            current.stop();
+        }
+    }
+
+
+    @Override
+    public boolean isRunning() {
+        return container != null;
+    }
+
+
+    /**
+     * 재시도 시각이 된 메시지를 대기열로 옮기고, 오래 처리되지 않은 메시지를 회수합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.mail-outbox-retry-poll-millis:1000}")
+    public void maintain() {
+        try {
+            Long moved = redisTemplate.execute(MOVE_DUE_RETRIES_SCRIPT, List.of(EmailOutboxUtil.RETRY_KEY, EmailOutboxUtil.OUTBOX_KEY),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(RETRY_MOVE_LIMIT));
+            if (moved != null && moved > 0) {
+                log.debug("이메일 재시도 대기열 이동 - count: {}", moved);
+            }
+
+            reclaimStalled();
+        } catch (DataAccessException e) {
+            log.warn("이메일 대기열 유지 작업 실패 - error: {}", e.getMessage());
+        }
+    }
+
+
+    /**
+     * 메시지 1건을 발송합니다. 성공/실패와 관계없이 처리 후 ACK 및 삭제합니다.
+     */
+    private void process(MapRecord<String, String, String> record) {
+        Map<String, String> message = record.getValue();
+        String to = message.get(EmailOutboxUtil.FIELD_TO);
+        int attempt = Integer.parseInt(message.getOrDefault(EmailOutboxUtil.FIELD_ATTEMPT, "1"));
+
+        if (attempt == 1) {
+            long enqueuedAt = Long.parseLong(message.getOrDefault(EmailOutboxUtil.FIELD_ENQUEUED_AT, "0"));
+            lagTimer.record(Math.max(0, System.currentTimeMillis() - enqueuedAt), TimeUnit.MILLISECONDS);
+        }
+
+        String contentKey = message.get(EmailOutboxUtil.FIELD_CONTENT_KEY);
+        try {
+            String content = contentKey != null ? redisTemplate.opsForValue().get(contentKey) : null;
+            if (content == null) {
+                deadLetter(message, attempt, "content expired");
+            } else {
+                emailUtil.sendEmail(to, message.get(EmailOutboxUtil.FIELD_SUBJECT), content);
+                sentCounter.increment();
+                redisTemplate.delete(contentKey);
+            }
+        } catch (MessagingException | RuntimeException e) {
+            failedCounter.increment();
+            handleFailure(message, attempt, e);
+        }
+
+        try {
+            redisTemplate.opsForStream().acknowledge(EmailOutboxUtil.OUTBOX_KEY, GROUP, record.getId());
+            redisTemplate.opsForStream().delete(EmailOutboxUtil.OUTBOX_KEY, record.getId());
+        } catch (DataAccessException e) {
+            log.warn("이메일 대기열 ACK 실패 - id: {}, error: {}", record.getId(), e.getMessage());
+        }
+    }
+
+
+    /**
+     * 발송 실패 메시지를 재시도 대기열 또는 실패 대기열로 옮깁니다.
+     */
+    private void handleFailure(Map<String, String> message, int attempt, Exception e) {
+        String to = message.get(EmailOutboxUtil.FIELD_TO);
+
+        if (attempt >= appProperties.getMailOutboxMaxAttempts()) {
+            redisTemplate.delete(message.get(EmailOutboxUtil.FIELD_CONTENT_KEY));
+            deadLetter(message, attempt, String.valueOf(e.getMessage()));
+            return;
+        }
+
+        long backoff = Math.min(
+                appProperties.getMailOutboxBackoffMillis() << Math.min(attempt - 1, 20),
+                appProperties.getMailOutboxMaxBackoffMillis());
+
+        Map<String, String> retry = new HashMap<>(message);
+        retry.put(EmailOutboxUtil.FIELD_ATTEMPT, String.valueOf(attempt + 1));
+        // 같은 내용의 메시지가 Sorted Set에서 합쳐지지 않도록 고유 ID 추가
+        retry.put("retryId", UUID.randomUUID().toString());
+
+        redisTemplate.opsForZSet().add(EmailOutboxUtil.RETRY_KEY, toJson(retry), System.currentTimeMillis() + backoff);
+        retriedCounter.increment();
+        log.warn("이메일 발송 실패, 재시도 예약 - to: {}, attempt: {}, backoff: {}ms, error: {}", to, attempt, backoff, e.getMessage());
+    }
+
+
+    /**
+     * 메시지를 실패 대기열로 옮깁니다. 메시지에는 본문 키만 있으므로 인증 코드는 남지 않습니다.
+     */
+    private void deadLetter(Map<String, String> message, int attempt, String error) {
+        Map<String, String> dead = new HashMap<>(message);
+        dead.remove(EmailOutboxUtil.FIELD_CONTENT_KEY);
+        dead.put("error", error);
+        dead.put("failedAt", String.valueOf(System.currentTimeMillis()));
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(EmailOutboxUtil.DEAD_KEY).ofMap(dead));
+        redisTemplate.opsForStream().trim(EmailOutboxUtil.DEAD_KEY, DEAD_LETTER_MAX_LENGTH, true);
+        deadCounter.increment();
+        log.error("이메일 발송 최종 실패 - to: {}, attempt: {}, error: {}", message.get(EmailOutboxUtil.FIELD_TO), attempt, error);
+    }
+
+
+    /**
+     * 처리 중 종료된 컨슈머가 잡고 있는 메시지를 다시 대기열에 넣습니다.
+     * 
+     * <p>회수 기준 시간은 설정값과 발송 1건의 최대 시간 중 큰 값입니다.</p>
+     */
+    private void reclaimStalled() {
+        Duration minIdle = Duration.ofMillis(Math.max(appProperties.getMailOutboxClaimIdleMillis(), emailUtil.maxSendMillis()));
+        PendingMessages pendingMessages = redisTemplate.opsForStream().pending(EmailOutboxUtil.OUTBOX_KEY, GROUP, Range.unbounded(), RECLAIM_LIMIT);
+
+        List<RecordId> stalled = new ArrayList<>();
+        for (PendingMessage pendingMessage : pendingMessages) {
+            if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                stalled.add(pendingMessage.getId());
+            }
+        }
+        if (stalled.isEmpty()) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                .claim(EmailOutboxUtil.OUTBOX_KEY, GROUP, consumerPrefix + "-reclaim", minIdle, stalled.toArray(RecordId[]::new));
+
+        for (MapRecord<String, Object, Object> record : claimed) {
+            Map<String, String> message = new HashMap<>();
+            record.getValue().forEach((field, value) -> message.put(String.valueOf(field), String.valueOf(value)));
+
+            redisTemplate.opsForStream().add(StreamRecords.newRecord().in(EmailOutboxUtil.OUTBOX_KEY).ofMap(message));
+            redisTemplate.opsForStream().acknowledge(EmailOutboxUtil.OUTBOX_KEY, GROUP, record.getId());
+            redisTemplate.opsForStream().delete(EmailOutboxUtil.OUTBOX_KEY, record.getId());
+        }
+
+        log.warn("처리되지 않은 이메일 회수 - count: {}", claimed.size());
+    }
+
+
+    /**
+     * 컨슈머 그룹이 없으면 생성합니다. (스트림이 없으면 함께 생성)
+     */
+    private void createGroupIfAbsent() {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    ((StringRedisConnection) connection).xGroupCreate(EmailOutboxUtil.OUTBOX_KEY, ReadOffset.from("0"), GROUP, true));
+        } catch (DataAccessException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                log.error("이메일 대기열 컨슈머 그룹 생성 실패 - error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private double size(String key) {
+        try {
+            Long size = redisTemplate.opsForStream().size(key);
+            return size != null ? size : 0;
+        } catch (DataAccessException e) {
+            return Double.NaN;
+        }
+    }
+
+    private double retrySize() {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(EmailOutboxUtil.RETRY_KEY);
+            return size != null ? size : 0;
+        } catch (DataAccessException e) {
+            return Double.NaN;
+        }
+    }
+
+    private String toJson(Map<String, String> message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Email message serialization failed", e);
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.example.test_project.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.jooq.tables.pojos.Tokens;
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.repository.TokensRepository;
+import com.example.test_project.util.SessionRegistryUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 만료 토큰 정리 스케줄러
+ * 
+ * <p>Refresh Token 만료 일시가 지난 토큰을 주기적으로 삭제합니다.
+ * 한 번에 {@code DELETE ... LIMIT n} 단위로 잘라서 삭제하고 배치 사이에 대기하여
+ * 긴 잠금 없이 tokens 테이블 크기를 유지합니다.</p>
+ * 
+ * <p>배치마다 별도 트랜잭션(auto-commit)으로 실행되며,
+ * 여러 노드에서 동시에 실행되어도 같은 행을 한 번만 삭제하므로 안전합니다.</p>
+ * 
+ * <p>삭제된 토큰은 세션 레지스트리에서도 함께 제거합니다.</p>
+ */
+@Slf4j
+@Component
+public class ExpiredTokenPurgeScheduler {
+
+    private final TokensRepository tokensRepository;
+    private final SessionRegistryUtil sessionRegistryUtil;
+    private final AppProperties appProperties;
+
+    private final Counter deletedCounter;
+    private final Counter batchCounter;
+    private final Timer purgeTimer;
+    private final AtomicLong lastDeletedCount = new AtomicLong();
+
+    public ExpiredTokenPurgeScheduler(TokensRepository tokensRepository, SessionRegistryUtil sessionRegistryUtil, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.tokensRepository = tokensRepository;
+        this.sessionRegistryUtil = sessionRegistryUtil;
+        this.appProperties = appProperties;
+        this.deletedCounter = Counter.builder("tokens.purge.deleted")
+                .description("삭제된 만료 토큰 수")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("tokens.purge.batches")
+                .description("실행된 삭제 배치 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("tokens.purge.duration")
+                .description("만료 토큰 정리 1회 실행 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("tokens.purge.last.deleted", lastDeletedCount);
+    }
+
+
+    /**
+     * 만료된 토큰을 배치 단위로 삭제합니다.
+     * 
+     * <p>삭제 건수가 배치 크기보다 작거나 최대 배치 수에 도달하면 종료합니다.
+     * 남은 토큰은 다음 실행에서 이어서 삭제됩니다.</p>
+     */
+    @Scheduled(cron = "${app.token-purge-cron:0 */10 * * * *}")
+    public void purgeExpiredTokens() {
+        long startNanos = System.nanoTime();
+        long total = purge();
+        purgeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        lastDeletedCount.set(total);
+
+        if (total > 0) {
+            log.info("만료 토큰 정리 완료 - 삭제된 토큰 수: {}", total);
+        }
+    }
+
+
+    /**
+     * 기준 시각 이전에 만료된 토큰을 배치 단위로 삭제합니다.
+     * 
+     * @return 삭제된 토큰 수
+     */
+    private long purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = appProperties.getTokenPurgeBatchSize();
+        long total = 0;
+
+        for (int batch = 0; batch < appProperties.getTokenPurgeMaxBatches(); batch++) {
+            List<Tokens> deletedTokens = tokensRepository.deleteExpired(now, batchSize);
+            int deleted = deletedTokens.size();
+            batchCounter.increment();
+            deletedCounter.increment(deleted);
+            total += deleted;
+
+            log.debug("만료 토큰 배치 삭제 - batch: {}, deleted: {}", batch + 1, deleted);
+
+            Map<String, Integer> userNoByRefreshToken = new HashMap<>();
+            deletedTokens.forEach(token -> userNoByRefreshToken.put(token.getRefreshToken(), token.getUserNo()));
+            sessionRegistryUtil.removeAll(userNoByRefreshToken);
+
+            if (deleted < batchSize || !throttle()) {
+                break;
+            }
+        }
+
+        return total;
+    }
+
+
+    /**
+     * 다음 배치 전까지 대기합니다.
+     * 
+     * @return 인터럽트 없이 대기를 마친 경우 {@code true}
+     */
+    private boolean throttle() {
+        try {
+            Thread.sleep(appProperties.getTokenPurgeThrottleMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("만료 토큰 정리 중단 - 인터럽트 발생");
+            return false;
+        }
+    }
+
+}
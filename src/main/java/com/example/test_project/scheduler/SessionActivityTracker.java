@@ -0,0 +1,155 @@
+package com.example.test_project.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.repository.TokensRepository;
+import com.example.test_project.repository.UsersRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 로그인/세션 활동 기록기 (write-behind)
+ * 
+ * <p>로그인과 토큰 갱신 시점을 메모리에만 기록하고, 주기적으로 모아서
+ * 하나의 다중 행 UPDATE로 반영합니다. 같은 사용자/토큰의 활동이 한 주기 안에
+ * 여러 번 발생하면 가장 최근 값 하나로 합쳐집니다.</p>
+ * 
+ * <p>로그인/갱신 요청 경로에서는 DB에 쓰지 않으므로 지연이 추가되지 않습니다.
+ * 아직 반영되지 않은 값은 {@link #getPendingLastUsedAt(int)}로 조회할 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+public class SessionActivityTracker {
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final UsersRepository usersRepository;
+    private final TokensRepository tokensRepository;
+
+    private final ConcurrentHashMap<Integer, LocalDateTime> pendingLastLoginAt = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, LocalDateTime> pendingLastUsedAt = new ConcurrentHashMap<>();
+
+    private final Counter recordedCounter;
+    private final Counter flushedCounter;
+
+    public SessionActivityTracker(UsersRepository usersRepository, TokensRepository tokensRepository, MeterRegistry meterRegistry) {
+        this.usersRepository = usersRepository;
+        this.tokensRepository = tokensRepository;
+        this.recordedCounter = Counter.builder("session.activity.recorded")
+                .description("기록된 로그인/세션 활동 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("session.activity.flushed")
+                .description("DB에 반영된 로그인/세션 활동 행 수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("session.activity.pending.users", List.of(), pendingLastLoginAt);
+        meterRegistry.gaugeMapSize("session.activity.pending.tokens", List.of(), pendingLastUsedAt);
+    }
+
+
+    /**
+     * 로그인 활동을 기록합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @param at 로그인 일시
+     */
+    public void recordLogin(int userNo, LocalDateTime at) {
+        pendingLastLoginAt.merge(userNo, at, SessionActivityTracker::latest);
+        recordedCounter.increment();
+    }
+
+
+    /**
+     * 토큰 사용(갱신) 활동을 기록합니다.
+     * 
+     * @param tokenNo 토큰 번호
+     * @param at 사용 일시
+     */
+    public void recordTokenUse(int tokenNo, LocalDateTime at) {
+        pendingLastUsedAt.merge(tokenNo, at, SessionActivityTracker::latest);
+        recordedCounter.increment();
+    }
+
+
+    /**
+     * 아직 DB에 반영되지 않은 토큰의 마지막 사용 일시를 조회합니다.
+     * 
+     * @param tokenNo 토큰 번호
+     * @return 반영 대기 중인 마지막 사용 일시, 없으면 {@code null}
+     */
+    public LocalDateTime getPendingLastUsedAt(int tokenNo) {
+        return pendingLastUsedAt.get(tokenNo);
+    }
+
+
+    /**
+     * 기록된 활동을 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.activity-flush-interval-millis:30000}")
+    public void flush() {
+        flush(pendingLastLoginAt, usersRepository::updateLastLoginAt);
+        flush(pendingLastUsedAt, tokensRepository::updateLastUsedAt);
+    }
+
+
+    /**
+     * 종료 시 남은 활동을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+
+    /**
+     * 대기 중인 값을 청크 단위로 반영하고, 반영된 값만 제거합니다.
+     * 
+     * <p>반영 도중 같은 키에 새 활동이 기록되면 값이 달라지므로 제거되지 않고 다음 주기에 반영됩니다.
+     * 반영에 실패한 청크는 그대로 남아 다음 주기에 재시도됩니다.</p>
+     */
+    private void flush(ConcurrentHashMap<Integer, LocalDateTime> pending, Consumer<Map<Integer, LocalDateTime>> writer) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map<Integer, LocalDateTime>> chunks = new ArrayList<>();
+        Map<Integer, LocalDateTime> chunk = new HashMap<>();
+        for (Map.Entry<Integer, LocalDateTime> entry : pending.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == FLUSH_CHUNK_SIZE) {
+                chunks.add(chunk);
+                chunk = new HashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        for (Map<Integer, LocalDateTime> values : chunks) {
+            try {
+                writer.accept(values);
+                values.forEach(pending::remove);
+                flushedCounter.increment(values.size());
+            } catch (RuntimeException e) {
+                log.error("세션 활동 반영 실패 - 건수: {}, error: {}", values.size(), e.getMessage());
+            }
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+}
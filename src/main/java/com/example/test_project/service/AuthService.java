@@ -1,9 +1,12 @@
 package com.example.test_project.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,14 +20,16 @@ import com.example.jooq.tables.pojos.Users;
 import com.example.test_project.config.exception.*;
 import com.example.test_project.config.properties.AppProperties;
 import com.example.test_project.config.security.CustomUserDetails;
+import com.example.test_project.config.security.UserPrincipalCache;
 import com.example.test_project.config.security.provider.JwtTokenProvider;
 import com.example.test_project.dto.request.*;
 import com.example.test_project.dto.response.*;
+import com.example.test_project.repository.TokenWithUser;
 import com.example.test_project.repository.TokensRepository;
 import com.example.test_project.repository.UsersRepository;
+import com.example.test_project.scheduler.SessionActivityTracker;
 import com.example.test_project.util.*;
 
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,7 +51,12 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwt;
     private final EmailUtil emailUtil;
+    private final EmailOutboxUtil emailOutboxUtil;
     private final RedisUtil redisUtil;
+    private final UserPrincipalCache userPrincipalCache;
+    private final SessionActivityTracker sessionActivityTracker;
+    private final SessionRegistryUtil sessionRegistryUtil;
+    private final EmailBloomFilter emailBloomFilter;
     private final AppProperties appProperties;
 
 
@@ -60,7 +70,9 @@ public class AuthService {
     public EmailExistResponse existsByEmail(EmailRequest emailRequest) {
         log.debug("이메일 존재 여부 확인 시작 - email: {}", emailRequest.getEmail());
 
-        boolean result = usersRepository.findByEmail(emailRequest.getEmail()).isPresent();
+        // 블룸 필터에 없으면 가입되지 않은 이메일이므로 DB 조회 생략
+        boolean result = emailBloomFilter.mightContain(emailRequest.getEmail())
+                && usersRepository.findByEmail(emailRequest.getEmail()).isPresent();
 
         log.debug("이메일 존재 여부 확인 완료 - email: {}, exists: {}", emailRequest.getEmail(), result);
 
@@ -109,12 +121,23 @@ public class AuthService {
             tokenPojo.setRefreshTokenExpiresAt(LocalDateTime.now().plus(appProperties.getJwtRefreshExpirationMinutes(), ChronoUnit.MINUTES));
             tokenPojo.setCreatedAt(LocalDateTime.now());
 
-            if (tokensRepository.save(tokenPojo) == null) {
+            Integer tokenNo = tokensRepository.save(tokenPojo);
+            if (tokenNo == null) {
                 log.error("토큰 저장 실패 - userNo: {}", customUserDetails.getUserNo());
                 throw new InternalServerException("토큰 생성에 실패했습니다.");
             }
+            tokenPojo.setTokenNo(tokenNo);
 
-            log.info("로그인 성공 - userNo: {}, email: {}", customUserDetails.getUserNo(), customUserDetails.getEmail());
+            // 세션 레지스트리 반영 (커밋 이후)
+            sessionRegistryUtil.add(customUserDetails.getUserNo(), toSession(tokenPojo, null));
+
+            // 마지막 로그인 일시 기록 (비동기 반영)
+            sessionActivityTracker.recordLogin(customUserDetails.getUserNo(), tokenPojo.getCreatedAt());
+
+            log.atInfo()
+                    .addKeyValue("userNo", customUserDetails.getUserNo())
+                    .addKeyValue("email", customUserDetails.getEmail())
+                    .log("로그인 성공");
 
             return AccessTokenResponse.builder()
                     .accessToken(accessToken)
@@ -130,20 +153,20 @@ public class AuthService {
     /**
      * 회원가입용 인증 코드를 생성하고 이메일로 발송합니다.
      * 
-     * <p>6자리 인증 코드를 생성하여 이메일로 발송하고,
-     * Redis에 5분간 임시 저장합니다.</p>
+     * <p>6자리 인증 코드를 생성하여 Redis에 5분간 임시 저장하고,
+     * 이메일 발송 대기열에 적재한 뒤 바로 반환합니다.</p>
      * 
      * @param signupCodeSendRequest 인증 코드를 받을 이메일 정보
      * @throws ConflictException 이미 사용 중인 이메일인 경우
-     * @throws InternalServerException 이메일 발송에 실패한 경우
+     * @throws InternalServerException 이메일 발송 요청에 실패한 경우
      */
     @Transactional(readOnly = true)
     public void sendSignupCode(SignupCodeSendRequest signupCodeSendRequest) {
         String email = signupCodeSendRequest.getEmail();
         log.debug("회원가입 인증 코드 발송 시작 - email: {}", email);
 
-        // 이메일 중복 확인
-        if (!usersRepository.findByEmail(email).isEmpty()) {
+        // 이메일 중복 확인 (블룸 필터에 있을 수 있는 경우만 DB 조회)
+        if (emailBloomFilter.mightContain(email) && usersRepository.findByEmail(email).isPresent()) {
             log.warn("회원가입 인증 코드 발송 실패 - 이미 사용 중인 이메일 - email: {}", email);
             throw new ConflictException("이미 사용 중인 이메일입니다.");
         }
@@ -152,18 +175,22 @@ public class AuthService {
         String code = AuthUtil.generateSixDigitCode();
         log.debug("인증 코드 생성 완료 - email: {}", email);
 
-        // 이메일 발송
+        // Redis에 저장
+        redisUtil.saveSignupKey(email, code);
+
+        // 이메일 발송 대기열에 적재 (발송은 EmailOutboxWorker가 비동기로 처리)
         try {
-            emailUtil.sendEmail(email, "회원가입 이메일 인증", code);
-            log.debug("인증 코드 이메일 발송 완료 - email: {}", email);
-        } catch (MessagingException e) {
-            log.error("인증 코드 이메일 발송 실패 - email: {}, error: {}", email, e.getMessage());
+            String subject = "회원가입 이메일 인증";
+            emailOutboxUtil.enqueue(email, subject, emailUtil.renderVerificationCode(subject, code, appProperties.getRedisTtlSignup()),
+                    Duration.ofSeconds(appProperties.getRedisTtlSignup()));
+            log.debug("인증 코드 이메일 발송 요청 완료 - email: {}", email);
+        } catch (DataAccessException e) {
+            log.error("인증 코드 이메일 발송 요청 실패 - email: {}, error: {}", email, e.getMessage());
             throw new InternalServerException("이메일 발송에 실패했습니다.");
         }
-
-        // Redis에 저장
-        redisUtil.saveSignupKey(email, code);
-        log.info("회원가입 인증 코드 발송 성공 - email: {}", email);
+        log.atInfo()
+                .addKeyValue("email", email)
+                .log("회원가입 인증 코드 발송 성공");
     }
 
 
@@ -172,18 +199,22 @@ public class AuthService {
      * 
      * @param signupCodeVerifyRequest 이메일과 인증 코드 정보
      * @throws BadRequestException 인증 코드가 올바르지 않은 경우
+     * @throws TooManyRequestsException 인증 코드 입력 횟수를 초과한 경우
      */
     @Transactional(readOnly = true)
     public void verifySignupCode(SignupCodeVerifyRequest signupCodeVerifyRequest) {
         String email = signupCodeVerifyRequest.getEmail();
         log.debug("회원가입 인증 코드 검증 시작 - email: {}", email);
 
-        if (!redisUtil.verifySignupKey(email, signupCodeVerifyRequest.getCode())) {
-            log.warn("회원가입 인증 코드 검증 실패 - email: {}", email);
-            throw new BadRequestException("인증번호가 올바르지 않습니다.");
+        RedisUtil.VerificationResult verificationResult = redisUtil.verifySignupKey(email, signupCodeVerifyRequest.getCode());
+        if (verificationResult != RedisUtil.VerificationResult.VERIFIED) {
+            log.warn("회원가입 인증 코드 검증 실패 - email: {}, result: {}", email, verificationResult);
+            throw verificationFailure(verificationResult);
         }
 
-        log.info("회원가입 인증 코드 검증 성공 - email: {}", email);
+        log.atInfo()
+                .addKeyValue("email", email)
+                .log("회원가입 인증 코드 검증 성공");
     }
 
 
@@ -196,6 +227,7 @@ public class AuthService {
      * @param signupRequest 회원가입 정보
      * @throws ConflictException 이미 사용 중인 이메일인 경우
      * @throws BadRequestException 인증 코드가 올바르지 않은 경우
+     * @throws TooManyRequestsException 인증 코드 입력 횟수를 초과한 경우
      * @throws InternalServerException 회원가입에 실패한 경우
      */
     @Transactional
@@ -203,21 +235,19 @@ public class AuthService {
         String email = signupRequest.getEmail();
         log.debug("회원가입 처리 시작 - email: {}, userName: {}", email, signupRequest.getUserName());
 
-        // 이메일 중복 확인
-        if (!usersRepository.findByEmail(email).isEmpty()) {
+        // 이메일 중복 확인 (블룸 필터에 있을 수 있는 경우만 DB 조회)
+        if (emailBloomFilter.mightContain(email) && usersRepository.findByEmail(email).isPresent()) {
             log.warn("회원가입 실패 - 이미 사용 중인 이메일 - email: {}", email);
             throw new ConflictException("이미 사용 중인 이메일입니다.");
         }
 
-        // 인증 코드 검증
-        if (!redisUtil.verifySignupKey(email, signupRequest.getCode())) {
-            log.warn("회원가입 실패 - 잘못된 인증 코드 - email: {}", email);
-            throw new BadRequestException("인증번호가 올바르지 않습니다.");
+        // 인증 코드 검증 + 삭제 (스크립트 1회 호출, 동시 요청 중 하나만 성공)
+        RedisUtil.VerificationResult verificationResult = redisUtil.consumeSignupKey(email, signupRequest.getCode());
+        if (verificationResult != RedisUtil.VerificationResult.VERIFIED) {
+            log.warn("회원가입 실패 - 잘못된 인증 코드 - email: {}, result: {}", email, verificationResult);
+            throw verificationFailure(verificationResult);
         }
 
-        // Redis 검증 삭제
-        redisUtil.deleteSignupKey(email);
-
         // 비밀번호 해싱
         String hashPassword = passwordEncoder.encode(signupRequest.getPassword());
         log.debug("비밀번호 해싱 완료 - email: {}", email);
@@ -230,21 +260,33 @@ public class AuthService {
         userPojo.setRole("USER");
         userPojo.setCreatedAt(LocalDateTime.now());
 
-        if (usersRepository.save(userPojo) == null) {
-            log.error("회원 저장 실패 - email: {}", email);
-            throw new InternalServerException("회원가입에 실패했습니다.");
+        // 다른 노드의 블룸 필터에 아직 반영되지 않은 경우 unique 제약으로 중복 판정
+        try {
+            if (usersRepository.save(userPojo) == null) {
+                log.error("회원 저장 실패 - email: {}", email);
+                throw new InternalServerException("회원가입에 실패했습니다.");
+            }
+        } catch (DuplicateKeyException e) {
+            log.warn("회원가입 실패 - 이미 사용 중인 이메일 - email: {}", email);
+            throw new ConflictException("이미 사용 중인 이메일입니다.");
         }
+        emailBloomFilter.add(email);
 
-        log.info("회원가입 성공 - email: {}, userName: {}", email, signupRequest.getUserName());
+        log.atInfo()
+                .addKeyValue("email", email)
+                .addKeyValue("userName", signupRequest.getUserName())
+                .log("회원가입 성공");
     }
 
 
     /**
      * 비밀번호 재설정용 인증 코드를 생성하고 이메일로 발송합니다.
      * 
+     * <p>이메일은 발송 대기열에 적재한 뒤 바로 반환하며, 실제 발송은 비동기로 처리됩니다.</p>
+     * 
      * @param resetPasswordCodeSendRequest 인증 코드를 받을 이메일 정보
      * @throws NotFoundException 존재하지 않는 이메일인 경우
-     * @throws InternalServerException 이메일 발송에 실패한 경우
+     * @throws InternalServerException 이메일 발송 요청에 실패한 경우
      */
     @Transactional(readOnly = true)
     public void sendResetPasswordCode(ResetPasswordCodeSendRequest resetPasswordCodeSendRequest) {
@@ -261,18 +303,22 @@ public class AuthService {
         String code = AuthUtil.generateSixDigitCode();
         log.debug("인증 코드 생성 완료 - email: {}", email);
 
-        // 이메일 발송
+        // Redis에 저장
+        redisUtil.saveResetPasswordKey(email, code);
+
+        // 이메일 발송 대기열에 적재 (발송은 EmailOutboxWorker가 비동기로 처리)
         try {
-            emailUtil.sendEmail(email, "비밀번호 찾기 이메일 인증", code);
-            log.debug("인증 코드 이메일 발송 완료 - email: {}", email);
-        } catch (MessagingException e) {
-            log.error("인증 코드 이메일 발송 실패 - email: {}, error: {}", email, e.getMessage());
+            String subject = "비밀번호 찾기 이메일 인증";
+            emailOutboxUtil.enqueue(email, subject, emailUtil.renderVerificationCode(subject, code, appProperties.getRedisTtlResetPassword()),
+                    Duration.ofSeconds(appProperties.getRedisTtlResetPassword()));
+            log.debug("인증 코드 이메일 발송 요청 완료 - email: {}", email);
+        } catch (DataAccessException e) {
+            log.error("인증 코드 이메일 발송 요청 실패 - email: {}, error: {}", email, e.getMessage());
             throw new InternalServerException("이메일 발송에 실패했습니다.");
         }
-
-        // Redis에 저장
-        redisUtil.saveResetPasswordKey(email, code);
-        log.info("비밀번호 재설정 인증 코드 발송 성공 - email: {}", email);
+        log.atInfo()
+                .addKeyValue("email", email)
+                .log("비밀번호 재설정 인증 코드 발송 성공");
     }
 
 
@@ -281,18 +327,22 @@ public class AuthService {
      * 
      * @param resetPasswordCodeVerifyRequest 이메일과 인증 코드 정보
      * @throws BadRequestException 인증 코드가 올바르지 않은 경우
+     * @throws TooManyRequestsException 인증 코드 입력 횟수를 초과한 경우
      */
     @Transactional(readOnly = true)
     public void verifyResetPasswordCode(ResetPasswordCodeVerifyRequest resetPasswordCodeVerifyRequest) {
         String email = resetPasswordCodeVerifyRequest.getEmail();
         log.debug("비밀번호 재설정 인증 코드 검증 시작 - email: {}", email);
 
-        if (!redisUtil.verifyResetPasswordKey(email, resetPasswordCodeVerifyRequest.getCode())) {
-            log.warn("비밀번호 재설정 인증 코드 검증 실패 - email: {}", email);
-            throw new BadRequestException("인증번호가 올바르지 않습니다.");
+        RedisUtil.VerificationResult verificationResult = redisUtil.verifyResetPasswordKey(email, resetPasswordCodeVerifyRequest.getCode());
+        if (verificationResult != RedisUtil.VerificationResult.VERIFIED) {
+            log.warn("비밀번호 재설정 인증 코드 검증 실패 - email: {}, result: {}", email, verificationResult);
+            throw verificationFailure(verificationResult);
         }
 
-        log.info("비밀번호 재설정 인증 코드 검증 성공 - email: {}", email);
+        log.atInfo()
+                .addKeyValue("email", email)
+                .log("비밀번호 재설정 인증 코드 검증 성공");
     }
 
 
@@ -304,6 +354,7 @@ public class AuthService {
      * @param resetPasswordRequest 비밀번호 재설정 정보
      * @throws NotFoundException 존재하지 않는 이메일인 경우
      * @throws BadRequestException 인증 코드가 올바르지 않은 경우
+     * @throws TooManyRequestsException 인증 코드 입력 횟수를 초과한 경우
      * @throws InternalServerException 비밀번호 재설정에 실패한 경우
      */
     @Transactional
@@ -317,15 +368,13 @@ public class AuthService {
             return new NotFoundException("존재하지 않는 이메일입니다.");
         });
 
-        // 인증 코드 검증
-        if (!redisUtil.verifyResetPasswordKey(email, resetPasswordRequest.getCode())) {
-            log.warn("비밀번호 재설정 실패 - 잘못된 인증 코드 - email: {}", email);
-            throw new BadRequestException("인증번호가 올바르지 않습니다.");
+        // 인증 코드 검증 + 삭제 (스크립트 1회 호출, 동시 요청 중 하나만 성공)
+        RedisUtil.VerificationResult verificationResult = redisUtil.consumeResetPasswordKey(email, resetPasswordRequest.getCode());
+        if (verificationResult != RedisUtil.VerificationResult.VERIFIED) {
+            log.warn("비밀번호 재설정 실패 - 잘못된 인증 코드 - email: {}, result: {}", email, verificationResult);
+            throw verificationFailure(verificationResult);
         }
 
-        // Redis 검증 삭제
-        redisUtil.deleteResetPasswordKey(email);
-
         // 새로운 비밀번호 해싱
         String hashPassword = passwordEncoder.encode(resetPasswordRequest.getPassword());
         log.debug("새 비밀번호 해싱 완료 - email: {}", email);
@@ -339,35 +388,64 @@ public class AuthService {
             throw new InternalServerException("비밀번호 재설정에 실패했습니다.");
         }
 
-        log.info("비밀번호 재설정 성공 - email: {}", email);
+        // 인증 정보 캐시 무효화
+        userPrincipalCache.evict(userPojo.getUserNo(), email);
+
+        log.atInfo()
+                .addKeyValue("email", email)
+                .log("비밀번호 재설정 성공");
     }
 
 
     /**
-     * 사용자의 활성 토큰 목록을 조회합니다.
+     * 사용자의 토큰 목록을 커서 기반으로 조회합니다.
      * 
-     * <p>여러 기기에서 로그인한 경우 각 기기별 토큰 정보를 반환합니다.</p>
+     * <p>여러 기기에서 로그인한 경우 각 기기별 토큰 정보를 발급 시각 내림차순으로 반환합니다.
+     * Redis 세션 레지스트리에서 조회하며, 레지스트리가 없으면 DB에서 적재한 뒤 조회합니다.</p>
      * 
      * @param userNo 사용자 번호
-     * @return 활성 Refresh Token 목록
+     * @param tokenListRequest 커서, 페이지 크기, 활성 토큰 필터
+     * @return Refresh Token 목록과 다음 페이지 커서
+     * @throws BadRequestException 커서 형식이 올바르지 않은 경우
      */
     @Transactional(readOnly = true)
-    public List<RefreshTokenDetailResponse> getTokens(int userNo) {
-        log.debug("토큰 목록 조회 시작 - userNo: {}", userNo);
+    public RefreshTokenListResponse getTokens(int userNo, TokenListRequest tokenListRequest) {
+        log.debug("토큰 목록 조회 시작 - userNo: {}, cursor: {}", userNo, tokenListRequest.getCursor());
+
+        // 레지스트리가 없으면 DB에서 적재
+        if (!sessionRegistryUtil.isLoaded(userNo)) {
+            List<SessionRegistryUtil.Session> sessions = tokensRepository.findAllByUserNo(userNo).stream()
+                .map(token -> toSession(token, token.getLastUsedAt()))
+                .toList();
+            sessionRegistryUtil.load(userNo, sessions);
+            log.debug("세션 레지스트리 적재 - userNo: {}, 토큰 수: {}", userNo, sessions.size());
+        }
 
-        List<Tokens> tokensPojo = tokensRepository.findAllActiveTokensByUserNo(userNo);
+        SessionRegistryUtil.SessionPage sessionPage;
+        try {
+            sessionPage = sessionRegistryUtil.findPage(userNo, tokenListRequest.getCursor(), tokenListRequest.getSize(),
+                tokenListRequest.isActive(), LocalDateTime.now());
+        } catch (IllegalArgumentException e) {
+            log.warn("토큰 목록 조회 실패 - 잘못된 커서 - userNo: {}, cursor: {}", userNo, tokenListRequest.getCursor());
+            throw new BadRequestException("올바르지 않은 커서입니다.");
+        }
 
-        List<RefreshTokenDetailResponse> result = tokensPojo.stream()
-            .map(row -> RefreshTokenDetailResponse.builder()
-                .refreshToken(row.getRefreshToken())
-                .clientOs(row.getClientOs())
-                .createdAt(row.getCreatedAt())
+        List<RefreshTokenDetailResponse> list = sessionPage.sessions().stream()
+            .map(session -> RefreshTokenDetailResponse.builder()
+                .refreshToken(session.getRefreshToken())
+                .clientOs(session.getClientOs())
+                .createdAt(session.getCreatedAt())
+                .lastUsedAt(session.getLastUsedAt())
                 .build()
             ).toList();
 
-        log.debug("토큰 목록 조회 완료 - userNo: {}, 토큰 수: {}", userNo, result.size());
+        log.debug("토큰 목록 조회 완료 - userNo: {}, 토큰 수: {}", userNo, list.size());
 
-        return result;
+        return RefreshTokenListResponse.builder()
+                .size(tokenListRequest.getSize())
+                .nextCursor(sessionPage.nextCursor())
+                .list(list)
+                .build();
     }
 
 
@@ -377,56 +455,55 @@ public class AuthService {
      * <p>Access Token 만료 임박 시 Refresh Token으로 새로운 Access Token을 발급합니다.
      * 갱신 임계값 이전에는 갱신이 제한됩니다.</p>
      * 
+     * <p>토큰/사용자 조인 조회 1회와 조건부 UPDATE 1회로 처리하며,
+     * 갱신 가능 여부는 UPDATE 조건에서 원자적으로 검사됩니다.</p>
+     * 
      * @param refreshToken Refresh Token
      * @return 새로운 Access Token
      * @throws NotFoundException 유효하지 않은 토큰이거나 사용자를 찾을 수 없는 경우
      * @throws ConflictException 아직 갱신할 수 없는 경우
      * @throws BadRequestException Refresh Token이 만료된 경우
-     * @throws InternalServerException 토큰 갱신에 실패한 경우
      */
     @Transactional
     public AccessTokenResponse refreshAccessToken(String refreshToken) {
         log.debug("Access Token 갱신 시작 - refreshToken: {}", refreshToken);
 
-        // Refresh Token 확인
-        Tokens tokenPojo = tokensRepository.findByRefreshToken(refreshToken).orElseThrow(() -> {
+        // Refresh Token + 사용자 정보 확인 (조인 1회)
+        TokenWithUser tokenPojo = tokensRepository.findWithUserByRefreshToken(refreshToken).orElseThrow(() -> {
             log.warn("Access Token 갱신 실패 - 유효하지 않은 Refresh Token");
             return new NotFoundException("유효하지 않은 토큰입니다.");
         });
 
-        // 사용자 정보 조회
-        Users userPojo = usersRepository.find(tokenPojo.getUserNo()).orElseThrow(() -> {
+        if (tokenPojo.getDeletedAt() != null) {
             log.error("Access Token 갱신 실패 - 사용자 조회 실패 - userNo: {}", tokenPojo.getUserNo());
-            return new NotFoundException("사용자를 찾을 수 없습니다.");
-        });
+            throw new NotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
         LocalDateTime now = LocalDateTime.now();
+        LocalDateTime reissuableUntil = now.plusMinutes(appProperties.getJwtAccessTokenReissueThresholdMinutes());
+        LocalDateTime accessTokenExpiresAt = now.plus(appProperties.getJwtAccessExpirationMinutes(), ChronoUnit.MINUTES);
+
+        // 갱신 가능 시간 + Refresh Token 만료 확인 후 Access Token 만료 시간 업데이트 (조건부 UPDATE 1회)
+        if (tokensRepository.updateAccessTokenExpiresAtIfReissuable(tokenPojo.getTokenNo(), now, reissuableUntil, accessTokenExpiresAt) == 0) {
+            if (!now.isBefore(tokenPojo.getRefreshTokenExpiresAt())) {
+                log.warn("Access Token 갱신 실패 - Refresh Token 만료 - userNo: {}", tokenPojo.getUserNo());
+                throw new BadRequestException("로그인 토큰이 만료되었습니다.");
+            }
 
-        // 갱신 가능 시간 확인
-        if (now.isBefore(tokenPojo.getAccessTokenExpiresAt()
-                .minusMinutes(appProperties.getJwtAccessTokenReissueThresholdMinutes()))) {
-            log.warn("Access Token 갱신 거부 - 아직 갱신 시간이 아님 - userNo: {}", userPojo.getUserNo());
+            log.warn("Access Token 갱신 거부 - 아직 갱신 시간이 아님 - userNo: {}", tokenPojo.getUserNo());
             throw new ConflictException("아직 갱신할 수 없습니다.");
         }
 
-        // Refresh Token 만료 확인
-        if (now.isAfter(tokenPojo.getRefreshTokenExpiresAt())) {
-            log.warn("Access Token 갱신 실패 - Refresh Token 만료 - userNo: {}", userPojo.getUserNo());
-            throw new BadRequestException("로그인 토큰이 만료되었습니다.");
-        }
-
-        // Access Token 만료 시간 업데이트
-        Tokens updateTokenPojo = new Tokens();
-        updateTokenPojo.setAccessTokenExpiresAt(LocalDateTime.now().plus(appProperties.getJwtAccessExpirationMinutes(), ChronoUnit.MINUTES));
-
-        if (tokensRepository.update(tokenPojo.getTokenNo(), updateTokenPojo) == 0) {
-            log.error("Access Token 갱신 실패 - 토큰 업데이트 실패 - tokenNo: {}", tokenPojo.getTokenNo());
-            throw new InternalServerException("토큰 갱신에 실패했습니다.");
-        }
+        // 마지막 사용 일시 기록 (비동기 반영)
+        sessionActivityTracker.recordTokenUse(tokenPojo.getTokenNo(), now);
+        sessionRegistryUtil.touch(tokenPojo.getUserNo(), refreshToken, now);
 
         // 새로운 Access Token 생성
-        String accessToken = jwt.generateAccessToken(userPojo.getUserNo(), userPojo.getEmail(), userPojo.getRole());
-        log.info("Access Token 갱신 성공 - userNo: {}, email: {}", userPojo.getUserNo(), userPojo.getEmail());
+        String accessToken = jwt.generateAccessToken(tokenPojo.getUserNo(), tokenPojo.getEmail(), tokenPojo.getRole());
+        log.atInfo()
+                .addKeyValue("userNo", tokenPojo.getUserNo())
+                .addKeyValue("email", tokenPojo.getEmail())
+                .log("Access Token 갱신 성공");
 
         return AccessTokenResponse.builder()
                 .accessToken(accessToken)
@@ -468,7 +545,59 @@ public class AuthService {
             throw new InternalServerException("토큰 삭제에 실패했습니다.");
         }
 
-        log.info("토큰 삭제 성공 - userNo: {}", userNo);
+        // 세션 레지스트리 반영 (커밋 이후)
+        sessionRegistryUtil.remove(userNo, refreshToken);
+
+        log.atInfo()
+                .addKeyValue("userNo", userNo)
+                .log("토큰 삭제 성공");
+    }
+
+
+    /**
+     * 토큰의 마지막 사용 일시를 계산합니다.
+     * 
+     * <p>아직 DB에 반영되지 않은 활동이 있으면 그 값을 우선하고,
+     * 한 번도 갱신되지 않은 토큰은 발급 시각을 반환합니다.</p>
+     */
+    private LocalDateTime resolveLastUsedAt(Tokens token, LocalDateTime lastUsedAt) {
+        LocalDateTime pending = sessionActivityTracker.getPendingLastUsedAt(token.getTokenNo());
+        LocalDateTime stored = lastUsedAt != null ? lastUsedAt : token.getCreatedAt();
+
+        if (pending != null && pending.isAfter(stored)) {
+            return pending;
+        }
+        return stored;
+    }
+
+
+    /**
+     * 인증 코드 검증 실패 결과에 맞는 예외를 생성합니다.
+     * 
+     * <p>실패 횟수 초과로 코드가 폐기된 경우 인증번호를 다시 요청하도록 안내합니다.</p>
+     */
+    private RuntimeException verificationFailure(RedisUtil.VerificationResult verificationResult) {
+        if (verificationResult == RedisUtil.VerificationResult.LOCKED) {
+            return new TooManyRequestsException("인증번호 입력 횟수를 초과했습니다. 인증번호를 다시 요청해 주세요.");
+        }
+        return new BadRequestException("인증번호가 올바르지 않습니다.");
+    }
+
+
+    /**
+     * 토큰 정보를 세션 레지스트리 항목으로 변환합니다.
+     * 
+     * @param lastUsedAt DB에 저장된 마지막 사용 일시 (새 토큰이면 null)
+     */
+    private SessionRegistryUtil.Session toSession(Tokens token, LocalDateTime lastUsedAt) {
+        return SessionRegistryUtil.Session.builder()
+                .tokenNo(token.getTokenNo())
+                .refreshToken(token.getRefreshToken())
+                .clientOs(token.getClientOs())
+                .createdAt(token.getCreatedAt())
+                .lastUsedAt(resolveLastUsedAt(token, lastUsedAt))
+                .refreshTokenExpiresAt(token.getRefreshTokenExpiresAt())
+                .build();
     }
 
 }
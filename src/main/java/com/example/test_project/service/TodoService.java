@@ -1,15 +1,17 @@
 package com.example.test_project.service;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
+import org.jooq.Result;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.jooq.tables.pojos.Todos;
+import com.example.jooq.tables.records.TodosRecord;
 import com.example.test_project.config.exception.*;
 import com.example.test_project.dto.request.*;
 import com.example.test_project.dto.response.*;
+import com.example.test_project.dto.response.json.TodoListRecordsResponse;
 import com.example.test_project.repository.TodosRepository;
 import com.example.test_project.util.UuidUtil;
 
@@ -52,7 +54,7 @@ public class TodoService {
         );
 
         // 페이징된 TO-DO 목록 조회 (page는 0부터 시작하므로 -1)
-        List<Todos> todosPojo = todosRepository.findPageByUserNo(userNo, 
+        Result<TodosRecord> todosRecords = todosRepository.findPageByUserNo(userNo, 
                 todoListRequest.getPage() - 1,
                 todoListRequest.getSize(),
                 todoListRequest.getStatus(),
@@ -60,21 +62,6 @@ public class TodoService {
                 todoListRequest.getKeyword()
         );
 
-        // DTO 변환
-        List<TodoDetailResponse> dtoList = todosPojo.stream()
-            .map(row -> TodoDetailResponse.builder()
-                .todoId(row.getTodoId())
-                .title(row.getTitle())
-                .content(row.getContent())
-                .color(row.getColor())
-                .sequence(row.getSequence())
-                .dueAt(row.getDueAt())
-                .completedAt(row.getCompletedAt())
-                .createdAt(row.getCreatedAt())
-                .updatedAt(row.getUpdatedAt())
-                .build()
-            ).toList();
-
         // 개수 조회
         int totalCount = todosRepository.countPageByUserNo(
             userNo,
@@ -83,14 +70,10 @@ public class TodoService {
             todoListRequest.getKeyword()
         );
 
-        log.debug("TO-DO 목록 조회 완료 - userNo: {}, 조회된 항목 수: {}, 전체 개수: {}", userNo, dtoList.size(), totalCount);
+        log.debug("TO-DO 목록 조회 완료 - userNo: {}, 조회된 항목 수: {}, 전체 개수: {}", userNo, todosRecords.size(), totalCount);
 
-        return TodoListResponse.builder()
-                .page(todoListRequest.getPage())
-                .size(todoListRequest.getSize())
-                .totalCount(totalCount)
-                .list(dtoList)
-                .build();
+        // 목록은 DTO로 바꾸지 않고 직렬화 시 레코드에서 바로 씀
+        return new TodoListRecordsResponse(todoListRequest.getPage(), todoListRequest.getSize(), totalCount, todosRecords);
     }
 
 
@@ -171,7 +154,11 @@ public class TodoService {
             throw new InternalServerException("TO-DO 생성에 실패했습니다.");
         }
 
-        log.info("TO-DO 생성 성공 - userNo: {}, todoId: {}, title: {}", userNo, todoId, todoCreateRequest.getTitle());
+        log.atInfo()
+                .addKeyValue("userNo", userNo)
+                .addKeyValue("todoId", todoId)
+                .addKeyValue("title", todoCreateRequest.getTitle())
+                .log("TO-DO 생성 성공");
 
         return TodoCreateResponse.builder()
                 .todoId(todoId)
@@ -223,7 +210,10 @@ public class TodoService {
             throw new InternalServerException("TO-DO 수정에 실패했습니다.");
         }
 
-        log.info("TO-DO 수정 성공 - userNo: {}, todoId: {}", userNo, todoId);
+        log.atInfo()
+                .addKeyValue("userNo", userNo)
+                .addKeyValue("todoId", todoId)
+                .log("TO-DO 수정 성공");
     }
 
 
@@ -278,7 +268,11 @@ public class TodoService {
             throw new InternalServerException("TO-DO 수정에 실패했습니다.");
         }
 
-        log.info("TO-DO 부분 수정 성공 - userNo: {}, todoId: {}, 수정된 항목 수: {}",  userNo, todoId, resultCount);
+        log.atInfo()
+                .addKeyValue("userNo", userNo)
+                .addKeyValue("todoId", todoId)
+                .addKeyValue("updatedCount", resultCount)
+                .log("TO-DO 부분 수정 성공");
     }
 
 
@@ -315,7 +309,10 @@ public class TodoService {
             throw new InternalServerException("TO-DO 삭제에 실패했습니다.");
         }
 
-        log.info("TO-DO 삭제 성공 - userNo: {}, todoId: {}", userNo, todoId);
+        log.atInfo()
+                .addKeyValue("userNo", userNo)
+                .addKeyValue("todoId", todoId)
+                .log("TO-DO 삭제 성공");
     }
 
 
@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.jooq.tables.pojos.Users;
 import com.example.test_project.config.exception.*;
+import com.example.test_project.config.security.UserPrincipalCache;
 import com.example.test_project.dto.request.*;
 import com.example.test_project.dto.response.*;
 import com.example.test_project.repository.UsersRepository;
@@ -26,6 +27,7 @@ public class UserService {
 
     private final UsersRepository usersRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 사용자 상세 정보를 조회합니다.
@@ -67,7 +69,7 @@ public class UserService {
     public void updateUser(int userNo, UserPatchRequest userPatchRequest) {
         log.debug("사용자 정보 수정 시작 - userNo: {}, userName: {}", userNo, userPatchRequest.getUserName());
         
-        usersRepository.find(userNo).orElseThrow(() -> {
+        Users userPojo = usersRepository.find(userNo).orElseThrow(() -> {
             log.error("사용자 조회 실패 - userNo: {}", userNo);
             return new NotFoundException("회원을 찾을 수 없습니다.");
         });
@@ -81,7 +83,13 @@ public class UserService {
             throw new InternalServerException("회원 정보 수정에 실패했습니다.");
         }
 
-        log.info("사용자 정보 수정 성공 - userNo: {}, userName: {}", userNo, userPatchRequest.getUserName());
+        // 인증 정보 캐시 무효화
+        userPrincipalCache.evict(userNo, userPojo.getEmail());
+
+        log.atInfo()
+                .addKeyValue("userNo", userNo)
+                .addKeyValue("userName", userPatchRequest.getUserName())
+                .log("사용자 정보 수정 성공");
     }
 
 
@@ -125,7 +133,12 @@ public class UserService {
             throw new InternalServerException("비밀번호 변경에 실패했습니다.");
         }
 
-        log.info("비밀번호 변경 성공 - userNo: {}", userNo);
+        // 인증 정보 캐시 무효화
+        userPrincipalCache.evict(userNo, userPojo.getEmail());
+
+        log.atInfo()
+                .addKeyValue("userNo", userNo)
+                .log("비밀번호 변경 성공");
     }
 
 }
@@ -0,0 +1,280 @@
+package com.example.test_project.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 회로 차단기
+ * 
+ * <p>최근 windowSize건의 호출 결과를 기록하고, minCalls건 이상에서 실패 비율이 임계치 이상이면 회로를 엽니다.
+ * 열린 동안에는 호출을 바로 거부하고, openMillis가 지나면 halfOpenCalls건만 시험 호출로 허용합니다.
+ * 시험 호출이 모두 성공하면 닫고, 하나라도 실패하면 다시 엽니다.</p>
+ * 
+ * <p>지연 시간 초과도 실패로 기록되도록 호출 쪽에서 짧은 타임아웃을 함께 사용해야 합니다.</p>
+ * 
+ * <p>닫힌 상태에서는 잠금 없이 동작합니다. 상태는 volatile 필드로 읽고, 호출 결과는 원자적 배열로 된
+ * 고리 버퍼(창)에 기록합니다. 칸을 바꾼 스레드가 그 칸의 변화만큼 호출 수와 실패 수를 고치므로,
+ * 동시에 기록하는 동안에는 수가 잠깐 어긋나도 진행 중인 기록이 끝나면 버퍼 내용과 일치합니다.
+ * 회로를 열거나 닫을 때는 창을 지우지 않고 새 창으로 바꾸므로, 그 사이에 끝난 기록은 이전 창에 반영되어
+ * 새 창의 수를 틀어지게 하지 않습니다. 상태 전환과 시험 호출 허용은 {@link ReentrantLock}으로 보호하며,
+ * 가상 스레드에서 호출되어도 캐리어 스레드를 점유(pinning)하지 않도록 {@code synchronized}는 쓰지 않습니다.</p>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    // 고리 버퍼 칸 값
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final String name;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openMillis;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (닫힌 상태에서 잠금 없이 기록, 초기화는 새 창으로 교체)
+    private final int windowSize;
+    private volatile Window window;
+
+    // 쓰기는 잠금 안에서만
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    // 메트릭용
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong openedCount = new AtomicLong();
+
+    public CircuitBreaker(String name, int windowSize, int minCalls, double failureRateThreshold,
+            long openMillis, int halfOpenCalls) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.window = new Window(windowSize);
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+
+    /**
+     * 호출을 허용할지 판정합니다. 허용된 호출은 결과를 반드시 {@link #onSuccess()} 또는 {@link #onFailure()}로 알리고,
+     * 결과를 알 수 없이 끝났다면 {@link #release()}로 허용을 반납해야 합니다.
+     * 
+     * @return 허용 여부
+     */
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    rejectedCount.incrementAndGet();
+                    return false;
+                }
+                halfOpenPermitted = 0;
+                halfOpenSucceeded = 0;
+                transition(State.HALF_OPEN);
+            }
+
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermitted >= halfOpenCalls) {
+                    rejectedCount.incrementAndGet();
+                    return false;
+                }
+                halfOpenPermitted++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허용된 호출의 성공을 기록합니다.
+     */
+    public void onSuccess() {
+        if (state == State.CLOSED) {
+            record(false);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && ++halfOpenSucceeded >= halfOpenCalls) {
+                reset();
+                transition(State.CLOSED);
+            }
+            // 회로가 열리기 전에 시작된 호출은 무시
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허용된 호출의 실패를 기록합니다.
+     */
+    public void onFailure() {
+        if (state == State.CLOSED) {
+            if (!record(true)) {
+                return;
+            }
+        }
+
+        lock.lock();
+        try {
+            switch (state) {
+                case HALF_OPEN -> open();
+                case CLOSED -> {
+                    // 다른 스레드가 먼저 열고 닫았을 수 있으므로 잠금 안에서 다시 판정
+                    if (exceedsThreshold()) {
+                        open();
+                    }
+                }
+                default -> {
+                    // 이미 열림
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결과를 기록하지 않고 끝난 호출의 허용을 반납합니다. (시험 호출 중이면 다른 호출이 시험할 수 있도록 함)
+     */
+    public void release() {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermitted > halfOpenSucceeded) {
+                halfOpenPermitted--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 상태를 반환합니다.
+     */
+    public State state() {
+        return state;
+    }
+
+    /**
+     * 회로가 열려 있는 경우 시험 호출까지 남은 시간(ms)을 반환합니다. (그 외 0)
+     */
+    public long remainingOpenMillis() {
+        return state == State.OPEN ? Math.max(0, openedAt + openMillis - System.currentTimeMillis()) : 0;
+    }
+
+    /**
+     * 거부한 호출 수를 반환합니다.
+     */
+    public long rejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * 회로가 열린 횟수를 반환합니다.
+     */
+    public long openedCount() {
+        return openedCount.get();
+    }
+
+
+    private void open() {
+        openedAt = System.currentTimeMillis();
+        openedCount.incrementAndGet();
+        reset();
+        transition(State.OPEN);
+    }
+
+    /**
+     * 현재 창에 결과를 기록합니다.
+     * 
+     * @return 실패 비율이 임계치 이상인지 여부
+     */
+    private boolean record(boolean failure) {
+        Window current = window;
+        current.record(failure);
+        return failure && exceedsThreshold(current);
+    }
+
+    private boolean exceedsThreshold() {
+        return exceedsThreshold(window);
+    }
+
+    private boolean exceedsThreshold(Window current) {
+        int calls = Math.min(current.recorded.get(), windowSize);
+        return calls >= minCalls && (double) current.failures.get() / calls >= failureRateThreshold;
+    }
+
+    /**
+     * 새 창으로 교체합니다. (잠금 안에서 호출, 진행 중인 기록은 이전 창에 반영됨)
+     */
+    private void reset() {
+        window = new Window(windowSize);
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            log.warn("회로 상태 변경 - name: {}, state: {} -> {}", name, state, next);
+            state = next;
+        }
+    }
+
+
+    /**
+     * 최근 호출 결과 창 (고리 버퍼와 호출 수, 실패 수)
+     */
+    private static final class Window {
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong position = new AtomicLong();
+        private final AtomicInteger recorded = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private Window(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        /**
+         * 다음 칸에 결과를 쓰고, 바뀐 칸의 이전 값과 새 값만큼 수를 고칩니다.
+         */
+        private void record(boolean failure) {
+            int index = Math.floorMod(position.getAndIncrement(), outcomes.length());
+            int previous = outcomes.getAndSet(index, failure ? FAILURE : SUCCESS);
+            if (previous == EMPTY) {
+                recorded.incrementAndGet();
+            } else if (previous == FAILURE) {
+                failures.decrementAndGet();
+            }
+            if (failure) {
+                failures.incrementAndGet();
+            }
+        }
+    }
+
+}
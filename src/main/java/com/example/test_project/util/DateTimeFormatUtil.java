@@ -0,0 +1,93 @@
+package com.example.test_project.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 날짜/시간 포맷 유틸리티 클래스
+ * 
+ * <p>ISO-8601 형식 문자열을 {@link java.time.format.DateTimeFormatter} 없이 만듭니다.
+ * 날짜는 최근에 쓴 값을 캐시해 같은 날짜를 다시 포맷하지 않습니다.</p>
+ * 
+ * <p>출력은 Jackson 기본 직렬화({@code ISO_LOCAL_DATE}, {@code ISO_LOCAL_DATE_TIME})와 같습니다.</p>
+ */
+public final class DateTimeFormatUtil {
+
+    // 날짜 문자열 캐시 (epoch day 하위 비트로 칸을 정하고, 충돌 시 덮어씀)
+    private static final int DATE_CACHE_SIZE = 1 << 11;
+    private static final CachedDate[] DATE_CACHE = new CachedDate[DATE_CACHE_SIZE];
+
+    /**
+     * 유틸리티 클래스의 인스턴스화 방지
+     */
+    private DateTimeFormatUtil() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+
+    /**
+     * 날짜를 ISO-8601 형식(yyyy-MM-dd)으로 반환합니다.
+     * 
+     * @param date 날짜
+     * @return 포맷된 문자열
+     */
+    public static String formatDate(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        int slot = (int) (epochDay & (DATE_CACHE_SIZE - 1));
+
+        CachedDate cached = DATE_CACHE[slot];
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.text;
+        }
+
+        String text = date.toString();
+        DATE_CACHE[slot] = new CachedDate(epochDay, text);
+        return text;
+    }
+
+
+    /**
+     * 날짜와 시간을 ISO-8601 형식(yyyy-MM-dd'T'HH:mm:ss[.fraction])으로 반환합니다.
+     * 
+     * <p>{@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}과 같은 결과이며,
+     * 날짜 부분은 캐시를 사용하고 시간 부분은 포맷터 없이 직접 씁니다.</p>
+     * 
+     * @param dateTime 날짜와 시간
+     * @return 포맷된 문자열
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        StringBuilder builder = new StringBuilder(29);
+        builder.append(formatDate(dateTime.toLocalDate())).append('T');
+        appendTwoDigits(builder, dateTime.getHour()).append(':');
+        appendTwoDigits(builder, dateTime.getMinute()).append(':');
+        appendTwoDigits(builder, dateTime.getSecond());
+
+        int nano = dateTime.getNano();
+        if (nano > 0) {
+            // 9자리로 채운 뒤 끝의 0을 제거 (ISO_LOCAL_TIME의 소수 초 출력과 동일)
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            String fraction = Integer.toString(nano);
+            builder.append('.');
+            for (int i = fraction.length(); i < digits; i++) {
+                builder.append('0');
+            }
+            builder.append(fraction);
+        }
+
+        return builder.toString();
+    }
+
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, int value) {
+        return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+
+    private record CachedDate(long epochDay, String text) {
+    }
+
+}
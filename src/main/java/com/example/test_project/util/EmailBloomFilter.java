@@ -0,0 +1,290 @@
+package com.example.test_project.util;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.repository.UsersRepository;
+import com.example.test_project.util.RedisKeyValueStore.Command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 가입된 이메일의 블룸 필터
+ * 
+ * <p>이메일 존재 확인과 회원가입 중복 확인에서 DB 조회 전에 사용합니다.
+ * 필터에 없다고 판정된 이메일은 가입되지 않은 것이 확실하므로 DB를 조회하지 않고,
+ * 있을 수도 있다고 판정된 경우에만 DB로 확인합니다.</p>
+ * 
+ * <p>시작 시와 {@code app.email-bloom-rebuild-millis} 주기로 users 테이블의 이메일을 스트리밍으로 읽어
+ * 새 필터를 만든 뒤 교체합니다. 탈퇴 등으로 지워진 이메일은 다음 재구성 때 필터에서 빠집니다.</p>
+ * 
+ * <p>회원가입이 커밋되면 로컬 필터에 바로 추가하고 Redis 정렬 집합에도 기록하며,
+ * 다른 노드는 {@code app.email-bloom-sync-millis} 주기로 최근 기록을 읽어 자신의 필터에 추가합니다.
+ * 필터가 아직 만들어지지 않았거나 비활성화된 경우 항상 DB로 확인합니다.</p>
+ * 
+ * <p>가입 기록은 커밋 직후 요청 스레드에서 쓰므로 {@link RedisCommandExecutor}로 짧은 타임아웃 전용 연결을 쓰며,
+ * Redis 회로가 열려 있으면 기록을 건너뜁니다. (다른 노드는 다음 재구성 때 반영)</p>
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private static final String RECENT_KEY = "users:email-bloom:recent";
+
+    private final UsersRepository usersRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCommandExecutor redisCommandExecutor;
+    private final AppProperties appProperties;
+
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+    private final Timer rebuildTimer;
+
+    private volatile Bits current;
+    // 재구성 중 커밋된 이메일이 새 필터에서 빠지지 않도록 함께 추가
+    private volatile Bits building;
+    private volatile long lastSyncedAt;
+
+    public EmailBloomFilter(UsersRepository usersRepository, StringRedisTemplate redisTemplate, RedisCommandExecutor redisCommandExecutor,
+            AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.usersRepository = usersRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisCommandExecutor = redisCommandExecutor;
+        this.appProperties = appProperties;
+        this.negativeCounter = Counter.builder("users.email.bloom.checks")
+                .description("이메일 블룸 필터 판정 수")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.positiveCounter = Counter.builder("users.email.bloom.checks")
+                .description("이메일 블룸 필터 판정 수")
+                .tag("result", "positive")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("users.email.bloom.rebuild")
+                .description("이메일 블룸 필터 재구성 시간")
+                .register(meterRegistry);
+        Gauge.builder("users.email.bloom.size", this, filter -> filter.current != null ? filter.current.count.sum() : 0)
+                .description("이메일 블룸 필터에 추가된 이메일 수")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 이메일이 가입되어 있을 수 있는지 확인합니다.
+     * 
+     * @param email 확인할 이메일
+     * @return {@code false}면 가입되지 않은 이메일, {@code true}면 DB 확인 필요
+     */
+    public boolean mightContain(String email) {
+        Bits bits = current;
+        if (bits == null) {
+            return true;
+        }
+
+        boolean result = bits.mightContain(email);
+        (result ? positiveCounter : negativeCounter).increment();
+        return result;
+    }
+
+
+    /**
+     * 가입된 이메일을 필터에 추가합니다.
+     * 
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 추가하고 다른 노드에 알립니다.</p>
+     * 
+     * @param email 추가할 이메일
+     */
+    public void add(String email) {
+        if (!appProperties.isEmailBloomEnabled()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addAndPublish(email);
+                }
+            });
+        } else {
+            addAndPublish(email);
+        }
+    }
+
+
+    /**
+     * users 테이블에서 필터를 다시 만들어 교체합니다.
+     * 
+     * <p>시작 직후 한 번 실행되고 이후 주기적으로 실행됩니다.
+     * 실패하면 기존 필터를 그대로 사용합니다.</p>
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.email-bloom-rebuild-millis:600000}")
+    public void rebuild() {
+        if (!appProperties.isEmailBloomEnabled()) {
+            current = null;
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        long startedAt = System.currentTimeMillis();
+        Bits next = new Bits(appProperties.getEmailBloomExpectedInsertions(), appProperties.getEmailBloomFalsePositiveRate());
+        building = next;
+        try {
+            long count = usersRepository.forEachEmail(appProperties.getEmailBloomFetchSize(), next::add);
+            try {
+                applyRecent(next, startedAt - retentionMillis());
+            } catch (RuntimeException e) {
+                // DB 기준 필터는 사용하고 다른 노드의 최근 가입은 다음 동기화에서 반영
+                log.warn("이메일 블룸 필터 최근 가입 반영 실패 - error: {}", e.getMessage());
+            }
+            current = next;
+            lastSyncedAt = startedAt;
+            log.info("이메일 블룸 필터 재구성 완료 - emails: {}, bits: {}, hashes: {}", count, next.size, next.hashCount);
+        } catch (RuntimeException e) {
+            log.warn("이메일 블룸 필터 재구성 실패 - error: {}", e.getMessage());
+        } finally {
+            building = null;
+            rebuildTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+
+    /**
+     * 다른 노드에서 최근 가입된 이메일을 필터에 추가합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.email-bloom-sync-millis:2000}")
+    public void syncRecent() {
+        Bits bits = current;
+        if (bits == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            // 노드 간 시계 차이와 커밋 지연을 고려해 한 주기 앞부터 다시 읽음
+            applyRecent(bits, lastSyncedAt - appProperties.getEmailBloomSyncMillis());
+            lastSyncedAt = now;
+            redisTemplate.opsForZSet().removeRangeByScore(RECENT_KEY, Double.NEGATIVE_INFINITY, now - retentionMillis());
+        } catch (RuntimeException e) {
+            log.warn("이메일 블룸 필터 동기화 실패 - error: {}", e.getMessage());
+        }
+    }
+
+
+    private void addAndPublish(String email) {
+        Bits bits = current;
+        if (bits != null) {
+            bits.add(email);
+        }
+        Bits next = building;
+        if (next != null) {
+            next.add(email);
+        }
+
+        // 건너뛰거나 실패하면 다른 노드는 다음 재구성 때 반영됨
+        long now = System.currentTimeMillis();
+        redisCommandExecutor.executeBestEffort(Command.EMAIL_BLOOM, redisTemplate -> redisTemplate.opsForZSet().add(RECENT_KEY, email, now));
+    }
+
+    private void applyRecent(Bits bits, long sinceMillis) {
+        Set<String> emails = redisTemplate.opsForZSet().rangeByScore(RECENT_KEY, sinceMillis, Double.POSITIVE_INFINITY);
+        if (emails != null) {
+            emails.forEach(bits::add);
+        }
+    }
+
+    /**
+     * 최근 가입 기록 보관 시간 (모든 노드가 그 사이 한 번 이상 재구성하도록 재구성 주기의 2배)
+     */
+    private long retentionMillis() {
+        return appProperties.getEmailBloomRebuildMillis() * 2 + appProperties.getEmailBloomSyncMillis();
+    }
+
+
+    /**
+     * 비트 배열과 해시 함수 수를 가진 필터 본체
+     * 
+     * <p>이메일은 대소문자를 구분하지 않도록 소문자로 해시하며,
+     * 두 개의 64비트 해시를 조합(double hashing)해 hashCount개의 위치를 만듭니다.</p>
+     */
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long size;
+        private final int hashCount;
+        private final LongAdder count = new LongAdder();
+
+        private Bits(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.size = wordCount * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) size / n * Math.log(2)));
+        }
+
+        private void add(String email) {
+            long hash1 = hash(email);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, size);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value = words.get(word);
+                while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask)) {
+                    value = words.get(word);
+                }
+            }
+            count.increment();
+        }
+
+        private boolean mightContain(String email) {
+            long hash1 = hash(email);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, size);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 소문자로 바꾼 이메일의 FNV-1a 해시
+         */
+        private static long hash(String email) {
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < email.length(); i++) {
+                hash ^= Character.toLowerCase(email.charAt(i));
+                hash *= 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long hash) {
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            hash *= 0xC4CEB9FE1A85EC53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+
+}
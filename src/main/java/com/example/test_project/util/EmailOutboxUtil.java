@@ -0,0 +1,95 @@
+package com.example.test_project.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.util.RedisKeyValueStore.Command;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 이메일 발송 대기열(outbox) 유틸리티 클래스
+ * 
+ * <p>이메일을 바로 발송하지 않고 Redis Stream에 적재합니다.
+ * 실제 발송, 재시도, 실패 처리는 {@code EmailOutboxWorker}가 담당하므로
+ * 요청 스레드와 DB 커넥션이 SMTP 응답을 기다리지 않습니다.</p>
+ * 
+ * <p>본문에는 인증 코드가 들어 있으므로 Stream에는 넣지 않고 별도 키에 유효 시간만큼만 저장하며,
+ * 메시지에는 그 키만 담습니다. 재시도 대기열과 실패 대기열에도 본문이 남지 않습니다.</p>
+ * 
+ * <p>적재는 요청 스레드에서 실행되므로 {@link RedisCommandExecutor}로 짧은 타임아웃 전용 연결과 회로 차단기를 거칩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxUtil {
+
+    private final RedisCommandExecutor redisCommandExecutor;
+
+    public static final String OUTBOX_KEY = "mail:outbox";
+    public static final String RETRY_KEY = "mail:outbox:retry";
+    public static final String DEAD_KEY = "mail:outbox:dead";
+    public static final String CONTENT_KEY_PREFIX = "mail:outbox:content:";
+
+    public static final String FIELD_TO = "to";
+    public static final String FIELD_SUBJECT = "subject";
+    public static final String FIELD_CONTENT_KEY = "contentKey";
+    public static final String FIELD_ATTEMPT = "attempt";
+    public static final String FIELD_ENQUEUED_AT = "enqueuedAt";
+
+    /**
+     * 이메일을 발송 대기열에 적재합니다.
+     * 
+     * @param to 수신자 이메일 주소
+     * @param subject 이메일 제목
+     * @param htmlContent HTML 형식의 이메일 본문
+     * @param ttl 본문 보관 시간 (인증 코드 유효 시간, 지나면 발송하지 않음)
+     * @return 적재된 메시지 ID
+     * @throws IllegalArgumentException 매개변수가 null이거나 빈 값인 경우
+     * @throws org.springframework.dao.DataAccessException Redis 접근 중 오류 발생 시
+     * @throws com.example.test_project.config.exception.ServiceUnavailableException 회로가 열려 있거나 Redis에 연결할 수 없는 경우
+     */
+    public RecordId enqueue(String to, String subject, String htmlContent, Duration ttl) {
+        validateEmailParameters(to, subject, htmlContent);
+
+        String contentKey = CONTENT_KEY_PREFIX + UUID.randomUUID();
+        Map<String, String> message = Map.of(
+            FIELD_TO, to,
+            FIELD_SUBJECT, subject,
+            FIELD_CONTENT_KEY, contentKey,
+            FIELD_ATTEMPT, "1",
+            FIELD_ENQUEUED_AT, String.valueOf(System.currentTimeMillis())
+        );
+
+        RecordId recordId = redisCommandExecutor.execute(Command.MAIL_OUTBOX, redisTemplate -> {
+            redisTemplate.opsForValue().set(contentKey, htmlContent, ttl);
+            return redisTemplate.opsForStream().add(StreamRecords.newRecord().in(OUTBOX_KEY).ofMap(message));
+        });
+        log.debug("이메일 대기열 적재 - to: {}, id: {}", to, recordId);
+
+        return recordId;
+    }
+
+    /**
+     * 이메일 발송 매개변수를 검증합니다.
+     */
+    private void validateEmailParameters(String to, String subject, String htmlContent) {
+        if (to == null || to.isBlank()) {
+            throw new IllegalArgumentException("Recipient email address cannot be null or empty");
+        }
+        if (subject == null || subject.isBlank()) {
+            throw new IllegalArgumentException("Email subject cannot be null or empty");
+        }
+        if (htmlContent == null || htmlContent.isBlank()) {
+            throw new IllegalArgumentException("Email content cannot be null or empty");
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.example.test_project.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.util.HtmlUtils;
+
+
+/**
+ * 미리 컴파일된 이메일 템플릿
+ * 
+ * <p>{@code {{name}}} 형식의 자리표시자를 기준으로 템플릿을 한 번만 분리해 두고,
+ * 발송할 때는 분리된 조각에 값만 이어 붙여 본문을 만듭니다.
+ * 값은 HTML 이스케이프되어 삽입됩니다.</p>
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // 고정 문자열과 자리표시자 이름이 번갈아 저장됨 (짝수: 고정 문자열, 홀수: 자리표시자)
+    private final String[] parts;
+    private final int lengthHint;
+
+    private EmailTemplate(String[] parts, int lengthHint) {
+        this.parts = parts;
+        this.lengthHint = lengthHint;
+    }
+
+
+    /**
+     * 템플릿 문자열을 컴파일합니다.
+     * 
+     * @param source 템플릿 원문
+     * @return 컴파일된 템플릿
+     * @throws IllegalArgumentException 닫히지 않은 자리표시자가 있는 경우
+     */
+    public static EmailTemplate compile(String source) {
+        List<String> parts = new ArrayList<>();
+        int position = 0;
+
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                parts.add(source.substring(position));
+                break;
+            }
+
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at index " + open);
+            }
+
+            parts.add(source.substring(position, open));
+            parts.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+
+        return new EmailTemplate(parts.toArray(String[]::new), source.length() + 64);
+    }
+
+
+    /**
+     * 자리표시자에 값을 채워 본문을 생성합니다.
+     * 
+     * @param values 자리표시자 이름별 값 (없는 이름은 빈 문자열)
+     * @return 완성된 HTML 본문
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder builder = new StringBuilder(lengthHint);
+
+        for (int i = 0; i < parts.length; i++) {
+            if (i % 2 == 0) {
+                builder.append(parts[i]);
+            } else {
+                String value = values.get(parts[i]);
+                if (value != null) {
+                    builder.append(HtmlUtils.htmlEscape(value, "UTF-8"));
+                }
+            }
+        }
+
+        return builder.toString();
+    }
+
+}
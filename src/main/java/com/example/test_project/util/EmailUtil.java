@@ -1,13 +1,29 @@
 package com.example.test_project.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import com.example.test_project.config.properties.AppProperties;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -15,17 +31,88 @@ import lombok.extern.slf4j.Slf4j;
  * 이메일 발송 유틸리티 클래스
  * 
  * <p>Spring Mail을 사용하여 HTML 형식의 이메일을 발송하는 기능을 제공합니다.</p>
+ * 
+ * <p>인증이 끝난 SMTP 연결을 {@link SmtpTransportPool}에 보관해 여러 메시지를 같은 연결로 보내고,
+ * 본문 템플릿은 시작 시 한 번만 컴파일합니다.</p>
+ * 
+ * <p>컨텍스트가 멈출 때(종료, CRaC 체크포인트) 보관 중인 SMTP 연결을 모두 닫습니다.
+ * 대기열 워커보다 나중에 멈추므로 발송 중인 연결은 반납된 뒤 닫히고,
+ * 복원 후에는 첫 발송 때 새로 연결합니다.</p>
+ * 
+ * <p>Jakarta Mail은 기본적으로 SMTP 응답을 무기한 기다리므로, 설정이 없으면 연결/읽기/쓰기 제한 시간을 적용합니다.
+ * 발송 1건에 걸릴 수 있는 최대 시간({@link #maxSendMillis()})은 대기열 워커가
+ * 처리 중인 메시지를 회수하는 기준으로 사용합니다.</p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class EmailUtil {
+public class EmailUtil implements SmartLifecycle {
+
+    private static final String VERIFICATION_CODE_TEMPLATE = "templates/mail/verification-code.html";
+
+    private static final String CONNECTION_TIMEOUT_PROPERTY = "mail.smtp.connectiontimeout";
+    private static final String TIMEOUT_PROPERTY = "mail.smtp.timeout";
+    private static final String WRITE_TIMEOUT_PROPERTY = "mail.smtp.writetimeout";
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 5_000;
+    private static final long DEFAULT_TIMEOUT_MILLIS = 10_000;
+    // 새 연결로 1건 보낼 때 응답을 기다리는 횟수 (인사, EHLO, STARTTLS, EHLO, AUTH, MAIL, RCPT, DATA, 본문 끝)
+    private static final int SMTP_REPLY_WAITS = 9;
 
     private final JavaMailSender mailSender;
+    private final SmtpTransportPool transportPool;
+    private final EmailTemplate verificationCodeTemplate;
+    private final long maxSendMillis;
+
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
 
     @Value("${spring.mail.username}")
     private String fromAddress;
 
+    private volatile boolean running;
+
+    public EmailUtil(JavaMailSender mailSender, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.verificationCodeTemplate = EmailTemplate.compile(loadTemplate(VERIFICATION_CODE_TEMPLATE));
+
+        // Spring Boot 기본 구현(JavaMailSenderImpl)인 경우에만 연결 풀 사용
+        if (mailSender instanceof JavaMailSenderImpl javaMailSenderImpl) {
+            Properties properties = javaMailSenderImpl.getJavaMailProperties();
+            properties.putIfAbsent(CONNECTION_TIMEOUT_PROPERTY, String.valueOf(DEFAULT_CONNECTION_TIMEOUT_MILLIS));
+            properties.putIfAbsent(TIMEOUT_PROPERTY, String.valueOf(DEFAULT_TIMEOUT_MILLIS));
+            properties.putIfAbsent(WRITE_TIMEOUT_PROPERTY, String.valueOf(DEFAULT_TIMEOUT_MILLIS));
+            javaMailSenderImpl.setJavaMailProperties(properties);
+
+            this.maxSendMillis = appProperties.getMailSmtpBorrowTimeoutMillis()
+                    + millis(properties, CONNECTION_TIMEOUT_PROPERTY)
+                    + millis(properties, TIMEOUT_PROPERTY) * SMTP_REPLY_WAITS
+                    + millis(properties, WRITE_TIMEOUT_PROPERTY);
+            this.transportPool = new SmtpTransportPool(
+                    javaMailSenderImpl,
+                    appProperties.getMailSmtpPoolSize(),
+                    appProperties.getMailSmtpMaxIdleMillis(),
+                    appProperties.getMailSmtpMaxMessagesPerConnection(),
+                    appProperties.getMailSmtpBorrowTimeoutMillis());
+            Gauge.builder("mail.smtp.connections.idle", transportPool, SmtpTransportPool::idleCount)
+                    .description("대기 중인 SMTP 연결 수")
+                    .register(meterRegistry);
+            FunctionCounter.builder("mail.smtp.connections.opened", transportPool, SmtpTransportPool::openedCount)
+                    .description("새로 연결한 SMTP 연결 수")
+                    .register(meterRegistry);
+        } else {
+            this.maxSendMillis = 0;
+            this.transportPool = null;
+        }
+
+        this.sendSuccessTimer = Timer.builder("mail.send")
+                .description("이메일 1건 발송 시간")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.sendFailureTimer = Timer.builder("mail.send")
+                .description("이메일 1건 발송 시간")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
     /**
      * HTML 형식의 이메일을 발송합니다.
      * 
@@ -41,16 +128,78 @@ public class EmailUtil {
     public void sendEmail(String to, String subject, String htmlContent) throws MessagingException {
         validateEmailParameters(to, subject, htmlContent);
 
+        long startNanos = System.nanoTime();
         try {
             MimeMessage mimeMessage = createMimeMessage(to, subject, htmlContent);
-            mailSender.send(mimeMessage);
-            log.debug("Email sent successfully to: {}", to);
-        } catch (MessagingException e) {
-            log.error("Failed to send email to: {}", to, e);
+            if (transportPool != null) {
+                transportPool.send(mimeMessage);
+            } else {
+                mailSender.send(mimeMessage);
+            }
+            sendSuccessTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            log.debug("이메일 발송 완료 - to: {}", to);
+        } catch (MessagingException | RuntimeException e) {
+            sendFailureTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            log.error("이메일 발송 실패 - to: {}", to, e);
             throw e;
         }
     }
 
+    /**
+     * 인증 코드 이메일 본문을 생성합니다.
+     * 
+     * @param title 이메일 제목 (본문 제목으로도 사용)
+     * @param code 인증 코드
+     * @param ttlSeconds 인증 코드 유효 시간(초)
+     * @return HTML 형식의 이메일 본문
+     */
+    public String renderVerificationCode(String title, String code, long ttlSeconds) {
+        return verificationCodeTemplate.render(Map.of(
+            "title", title,
+            "code", code,
+            "ttlMinutes", String.valueOf(Math.max(1, ttlSeconds / 60))
+        ));
+    }
+
+    /**
+     * 발송 1건에 걸릴 수 있는 최대 시간(ms)을 반환합니다.
+     * 
+     * <p>연결 풀 대기 시간과 SMTP 연결/응답/쓰기 제한 시간의 합이며,
+     * 기본 구현이 아니어서 알 수 없는 경우 0을 반환합니다.</p>
+     */
+    public long maxSendMillis() {
+        return maxSendMillis;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 보관 중인 SMTP 연결을 닫습니다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (transportPool != null) {
+            transportPool.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 대기열 워커(기본 단계)보다 먼저 시작하고 나중에 멈춥니다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
     /**
      * MimeMessage 객체를 생성합니다.
      */
@@ -66,6 +215,21 @@ public class EmailUtil {
         return mimeMessage;
     }
 
+    /**
+     * 클래스패스에서 템플릿 원문을 읽습니다.
+     */
+    private static String loadTemplate(String path) {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Email template not found: " + path, e);
+        }
+    }
+
+    private static long millis(Properties properties, String name) {
+        return Long.parseLong(String.valueOf(properties.get(name)).trim());
+    }
+
     /**
      * 이메일 발송 매개변수를 검증합니다.
      */
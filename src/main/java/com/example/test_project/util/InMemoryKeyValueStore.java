@@ -0,0 +1,374 @@
+package com.example.test_project.util;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.config.properties.AppProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 프로세스 내 키-값 저장소 ({@code app.kv-store=memory})
+ * 
+ * <p>단일 노드 배포와 Redis 없이 실행하는 테스트를 위한 구현입니다.
+ * 네트워크 왕복 없이 마이크로초 단위로 응답하지만, 상태가 프로세스 안에만 있으므로
+ * 여러 노드로 배포하면 노드마다 인증 코드와 요청 속도 제한이 따로 관리됩니다.</p>
+ * 
+ * <ul>
+ *   <li>값은 {@link ConcurrentHashMap}에 저장하며, 조회는 잠금 없이 처리합니다.</li>
+ *   <li>변경과 스크립트는 키별 잠금(스트라이프)으로 직렬화하여 Redis와 같은 원자성을 보장합니다.</li>
+ *   <li>만료는 해시 타이머 휠({@value #WHEEL_SIZE}칸, 칸당 {@code app.kv-store-memory-tick-millis})로 정리하고,
+ *       정리 전에 조회된 만료 항목은 조회 시점에 제거합니다.</li>
+ *   <li>타이머는 키마다 하나만 휠에 둡니다. 같은 키를 다시 쓰면 등록된 타이머를 그대로 넘겨받고,
+ *       타이머가 새 만료 시각보다 늦은 칸에 있을 때만 새로 등록합니다.
+ *       만료 시각이 늦춰진 키는 타이머가 기존 칸에 도달했을 때 새 만료 칸으로 옮깁니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app", name = "kv-store", havingValue = "memory")
+public class InMemoryKeyValueStore implements KeyValueStore {
+
+    private static final int WHEEL_SIZE = 1024;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final long tickMillis;
+    private final Queue<Timeout>[] wheel;
+    private final ScheduledExecutorService ticker;
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryKeyValueStore(AppProperties appProperties) {
+        this.tickMillis = Math.max(1, appProperties.getKvStoreMemoryTickMillis());
+
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kv-store-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+
+        log.info("프로세스 내 키-값 저장소 시작 - tickMillis: {}", tickMillis);
+    }
+
+    @Override
+    public String get(String key) {
+        Entry entry = live(key, System.currentTimeMillis());
+        return entry != null ? String.valueOf(entry.value()) : null;
+    }
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            put(key, value, System.currentTimeMillis() + ttl.toMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long incrementWithExpiry(String key, long delta, Duration ttl) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            Entry entry = live(key, now);
+            long value = (entry != null ? toLong(entry.value()) : 0) + delta;
+            long expireAt = entry != null && entry.expireAt() > 0 ? entry.expireAt() : now + ttl.toMillis();
+            put(key, value, expireAt);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long delete(Collection<String> keys) {
+        long now = System.currentTimeMillis();
+        long deleted = 0;
+
+        for (String key : keys) {
+            ReentrantLock lock = lockFor(key);
+            lock.lock();
+            try {
+                if (live(key, now) != null && entries.remove(key) != null) {
+                    deleted++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public long getExpireMillis(String key) {
+        long now = System.currentTimeMillis();
+        return ttl(live(key, now), now);
+    }
+
+    @Override
+    public <T> T execute(KeyValueScript<T> script, List<String> keys, String... args) {
+        int[] stripes = keys.stream().mapToInt(this::stripe).distinct().sorted().toArray();
+
+        // 교착 상태를 피하도록 항상 같은 순서로 잠금
+        for (int stripe : stripes) {
+            locks[stripe].lock();
+        }
+        try {
+            return script.localScript().execute(new ScriptContext(System.currentTimeMillis()), keys, List.of(args));
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    @Override
+    public <T> List<T> executeAll(KeyValueScript<T> script, List<KeyValueScript.Call> calls) {
+        return calls.stream()
+            .map(call -> execute(script, call.keys(), call.args().toArray(String[]::new)))
+            .toList();
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+
+    /**
+     * 만료 정리 스레드를 종료합니다.
+     */
+    @PreDestroy
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+
+    /**
+     * 지난 틱의 칸을 순서대로 정리합니다. (정리 스레드 전용)
+     * 
+     * <p>칸에 남은 타이머 중 만료되지 않은 키의 것은 만료 칸으로 다시 넣고,
+     * 삭제되었거나 다른 타이머로 바뀐 키의 것은 버립니다.</p>
+     */
+    private void advance() {
+        try {
+            long now = System.currentTimeMillis();
+            long currentTick = now / tickMillis;
+            // 정리가 한 바퀴 이상 밀렸으면 모든 칸을 한 번씩만 확인
+            long fromTick = Math.max(lastTick + 1, currentTick - WHEEL_MASK);
+
+            for (long tick = fromTick; tick <= currentTick; tick++) {
+                Queue<Timeout> slot = wheel[(int) (tick & WHEEL_MASK)];
+                for (int remaining = slot.size(); remaining > 0; remaining--) {
+                    Timeout timeout = slot.poll();
+                    if (timeout == null) {
+                        break;
+                    }
+                    expire(timeout, now);
+                }
+            }
+            lastTick = currentTick;
+        } catch (RuntimeException e) {
+            log.warn("프로세스 내 키-값 저장소 만료 정리 실패 - error: {}", e.getMessage());
+        }
+    }
+
+
+    /**
+     * 타이머가 가리키는 키를 만료시키거나, 아직 만료되지 않았으면 만료 칸으로 옮깁니다. (정리 스레드 전용)
+     */
+    private void expire(Timeout timeout, long now) {
+        ReentrantLock lock = lockFor(timeout.key);
+        lock.lock();
+        try {
+            Entry entry = entries.get(timeout.key);
+            if (entry == null || entry.timeout() != timeout) {
+                return;
+            }
+            if (entry.expireAt() <= now) {
+                entries.remove(timeout.key, entry);
+                return;
+            }
+            schedule(timeout, entry.expireAt() / tickMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * 값을 저장하고 만료 시각이 있으면 타이머를 연결합니다. (키 잠금 안에서 호출)
+     * 
+     * <p>기존 타이머가 새 만료 시각과 같거나 이른 칸에 있으면 그대로 사용하므로,
+     * 같은 키를 반복해서 쓰는 경우(카운터, 요청 속도 제한 스크립트) 휠에 타이머가 쌓이지 않습니다.</p>
+     */
+    private void put(String key, Object value, long expireAt) {
+        Timeout timeout = null;
+        if (expireAt > 0) {
+            long tick = expireAt / tickMillis;
+            Entry previous = entries.get(key);
+            timeout = previous != null ? previous.timeout() : null;
+            if (timeout == null || timeout.tick > tick) {
+                timeout = new Timeout(key);
+                schedule(timeout, tick);
+            }
+        }
+        entries.put(key, new Entry(value, expireAt, timeout));
+    }
+
+
+    /**
+     * 타이머를 틱에 해당하는 칸에 넣습니다. (키 잠금 안에서 호출)
+     */
+    private void schedule(Timeout timeout, long tick) {
+        timeout.tick = tick;
+        wheel[(int) (tick & WHEEL_MASK)].offer(timeout);
+    }
+
+
+    /**
+     * 만료되지 않은 항목을 반환하고, 만료된 항목은 제거합니다.
+     */
+    private Entry live(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expireAt() > 0 && entry.expireAt() <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+
+    private long ttl(Entry entry, long now) {
+        if (entry == null) {
+            return -2;
+        }
+        return entry.expireAt() > 0 ? entry.expireAt() - now : -1;
+    }
+
+
+    private ReentrantLock lockFor(String key) {
+        return locks[stripe(key)];
+    }
+
+
+    private int stripe(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1);
+    }
+
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+
+    /**
+     * 스크립트 실행 중 사용하는 명령 구현 (키 잠금 안에서만 사용)
+     */
+    private final class ScriptContext implements KeyValueScript.Context {
+
+        private final long now;
+
+        private ScriptContext(long now) {
+            this.now = now;
+        }
+
+        @Override
+        public long now() {
+            return now;
+        }
+
+        @Override
+        public Object get(String key) {
+            Entry entry = live(key, now);
+            return entry != null ? entry.value() : null;
+        }
+
+        @Override
+        public void set(String key, Object value, long ttlMillis) {
+            put(key, value, ttlMillis > 0 ? now + ttlMillis : 0);
+        }
+
+        @Override
+        public long increment(String key, long delta) {
+            Entry entry = live(key, now);
+            long value = (entry != null ? toLong(entry.value()) : 0) + delta;
+            put(key, value, entry != null ? entry.expireAt() : 0);
+            return value;
+        }
+
+        @Override
+        public void expire(String key, long ttlMillis) {
+            Entry entry = live(key, now);
+            if (entry != null) {
+                put(key, entry.value(), now + ttlMillis);
+            }
+        }
+
+        @Override
+        public long ttl(String key) {
+            return InMemoryKeyValueStore.this.ttl(live(key, now), now);
+        }
+
+        @Override
+        public void delete(String key) {
+            entries.remove(key);
+        }
+    }
+
+
+    /**
+     * 저장된 값 (timeout은 이 키를 정리할 타이머, 만료가 없으면 null)
+     */
+    private record Entry(Object value, long expireAt, Timeout timeout) {
+    }
+
+
+    /**
+     * 키별 만료 타이머 (tick은 키 잠금 안에서만 변경)
+     */
+    private static final class Timeout {
+
+        private final String key;
+        private long tick;
+
+        private Timeout(String key) {
+            this.key = key;
+        }
+    }
+
+}
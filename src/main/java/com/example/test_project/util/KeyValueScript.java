@@ -0,0 +1,100 @@
+package com.example.test_project.util;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+
+/**
+ * 키-값 저장소에서 원자적으로 실행하는 스크립트
+ * 
+ * <p>같은 동작을 Redis용 Lua 스크립트와 프로세스 내 저장소용 Java 구현으로 함께 정의합니다.
+ * {@link KeyValueStore} 구현체가 자신에게 맞는 쪽을 실행하며, 두 구현의 입력(KEYS, ARGV)과 반환 형식은 같아야 합니다.</p>
+ * 
+ * @param <T> 반환 타입
+ * @param redisScript Redis에서 실행할 Lua 스크립트
+ * @param localScript 프로세스 내 저장소에서 실행할 구현
+ */
+public record KeyValueScript<T>(RedisScript<T> redisScript, LocalScript<T> localScript) {
+
+    /**
+     * Lua 스크립트와 Java 구현으로 스크립트를 생성합니다.
+     * 
+     * @param lua Lua 스크립트 원문
+     * @param resultType 반환 타입
+     * @param localScript 프로세스 내 저장소용 구현
+     * @return 스크립트
+     */
+    public static <T> KeyValueScript<T> of(String lua, Class<T> resultType, LocalScript<T> localScript) {
+        return new KeyValueScript<>(RedisScript.of(lua, resultType), localScript);
+    }
+
+
+    /**
+     * 프로세스 내 저장소용 스크립트 구현
+     * 
+     * <p>실행 중에는 KEYS에 해당하는 키에 다른 변경이 끼어들지 않습니다.</p>
+     */
+    @FunctionalInterface
+    public interface LocalScript<T> {
+
+        T execute(Context context, List<String> keys, List<String> args);
+
+    }
+
+
+    /**
+     * 스크립트 안에서 사용하는 저장소 명령 (Redis 명령과 같은 의미)
+     * 
+     * <p>값은 문자열뿐 아니라 스크립트가 정한 임의의 객체를 저장할 수 있습니다.</p>
+     */
+    public interface Context {
+
+        /**
+         * 현재 시각(epoch ms)을 반환합니다. (Redis {@code TIME})
+         */
+        long now();
+
+        /**
+         * 값을 조회합니다. (없거나 만료되었으면 {@code null})
+         */
+        Object get(String key);
+
+        /**
+         * 값을 저장합니다. (ttlMillis가 0 이하이면 만료 없음)
+         */
+        void set(String key, Object value, long ttlMillis);
+
+        /**
+         * 숫자 값을 증가시키고 결과를 반환합니다. 기존 만료 시각은 유지합니다. (Redis {@code INCRBY})
+         */
+        long increment(String key, long delta);
+
+        /**
+         * 만료 시간을 설정합니다. (Redis {@code PEXPIRE})
+         */
+        void expire(String key, long ttlMillis);
+
+        /**
+         * 남은 만료 시간(ms)을 반환합니다. 키가 없으면 -2, 만료가 없으면 -1 (Redis {@code PTTL})
+         */
+        long ttl(String key);
+
+        /**
+         * 키를 삭제합니다.
+         */
+        void delete(String key);
+
+    }
+
+
+    /**
+     * 일괄 실행 시 스크립트 호출 1건
+     * 
+     * @param keys KEYS
+     * @param args ARGV
+     */
+    public record Call(List<String> keys, List<String> args) {
+    }
+
+}
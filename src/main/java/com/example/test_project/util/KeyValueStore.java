@@ -0,0 +1,119 @@
+package com.example.test_project.util;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+
+/**
+ * 키-값 저장소
+ * 
+ * <p>인증 코드와 요청 속도 제한이 사용하는 저장소 명령을 추상화합니다.
+ * {@code app.kv-store}로 구현을 선택합니다.</p>
+ * <ul>
+ *   <li>{@code redis}: Redis ({@link RedisKeyValueStore}, 기본값, 여러 노드가 상태를 공유)</li>
+ *   <li>{@code memory}: 프로세스 내 저장소 ({@link InMemoryKeyValueStore}, 단일 노드 배포와 테스트용)</li>
+ * </ul>
+ */
+public interface KeyValueStore {
+
+    /**
+     * 값을 조회합니다.
+     * 
+     * @param key 키
+     * @return 값, 없거나 만료된 경우 {@code null}
+     */
+    String get(String key);
+
+    /**
+     * 자주 읽고 드물게 바뀌는 키를 조회합니다.
+     *
+     * <p>구현에 따라 네트워크 왕복 없이 로컬 사본(클라이언트 측 캐시)에서 읽을 수 있으며,
+     * 사본은 값이 바뀌면 무효화됩니다.</p>
+     *
+     * @param key 키
+     * @return 값, 없거나 만료된 경우 {@code null}
+     */
+    default String getCached(String key) {
+        return get(key);
+    }
+
+    /**
+     * {@link #getCached}가 현재 네트워크 왕복 없이 처리될 수 있는지 여부를 반환합니다.
+     */
+    default boolean isReadCached() {
+        return isLocal();
+    }
+
+    /**
+     * 만료 시간과 함께 값을 저장합니다.
+     * 
+     * @param key 키
+     * @param value 값
+     * @param ttl 만료 시간
+     */
+    void set(String key, String value, Duration ttl);
+
+    /**
+     * 숫자 값을 증가시키고, 만료 시간이 없는 키(새로 만든 키 포함)이면 만료 시간을 설정합니다.
+     * 
+     * @param key 키
+     * @param delta 증가량
+     * @param ttl 설정할 만료 시간
+     * @return 증가된 값
+     */
+    long incrementWithExpiry(String key, long delta, Duration ttl);
+
+    /**
+     * 키를 삭제합니다.
+     * 
+     * @param keys 삭제할 키 목록
+     * @return 삭제된 키 수
+     */
+    long delete(Collection<String> keys);
+
+    /**
+     * 남은 만료 시간을 조회합니다.
+     * 
+     * @param key 키
+     * @return 남은 시간(ms), 키가 없으면 -2, 만료가 없으면 -1
+     */
+    long getExpireMillis(String key);
+
+    /**
+     * 스크립트를 원자적으로 실행합니다.
+     * 
+     * @param script 실행할 스크립트
+     * @param keys KEYS
+     * @param args ARGV
+     * @return 스크립트 결과
+     */
+    <T> T execute(KeyValueScript<T> script, List<String> keys, String... args);
+
+    /**
+     * 같은 스크립트를 여러 번 실행합니다. (Redis는 파이프라인 한 번)
+     * 
+     * <p>각 호출은 원자적으로 실행되지만 호출 사이의 원자성은 보장하지 않습니다.</p>
+     * 
+     * @param script 실행할 스크립트
+     * @param calls 호출 목록
+     * @return 호출 순서대로의 결과
+     */
+    <T> List<T> executeAll(KeyValueScript<T> script, List<KeyValueScript.Call> calls);
+
+    /**
+     * 스크립트를 미리 등록합니다. (필요한 구현만)
+     * 
+     * @param scripts 등록할 스크립트 목록
+     */
+    default void preload(KeyValueScript<?>... scripts) {
+    }
+
+    /**
+     * 상태가 이 프로세스 안에만 있는지 여부를 반환합니다.
+     */
+    default boolean isLocal() {
+        return false;
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.example.test_project.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+
+/**
+ * 프로세스 내 1차 요청 속도 제한기
+ * 
+ * <p>Redis에 묻기 전에 명백한 경우를 로컬에서 판정합니다.</p>
+ * <ul>
+ *   <li>요청 수는 잠금 없는 Count-Min 스케치(2행 x 65,536칸)로 근사하며,
+ *       직전 윈도우 값을 경과 비율만큼 줄여 더하는 방식으로 시간에 따라 감쇠합니다.</li>
+ *   <li>Redis가 이미 거부한 식별자는 재시도 가능 시각까지 로컬에서 바로 거부합니다.</li>
+ *   <li>추정치가 허용 횟수 x syncRatio 미만이면 로컬에서 허용하고, 허용한 만큼을 모아 두었다가
+ *       주기적으로 또는 다음 Redis 판정 시 비용으로 함께 반영합니다.</li>
+ *   <li>그 외에는 Redis로 판정합니다.</li>
+ * </ul>
+ * 
+ * <p>스케치는 해시 충돌 시 과대 추정만 하므로 추정치만으로는 거부하지 않습니다.
+ * 두 행의 칸은 {@link String#hashCode()}가 아닌 64비트 해시의 서로 다른 비트에서 정하므로
+ * {@code hashCode}가 같은 식별자끼리 두 행에서 함께 충돌하지 않습니다.
+ * 스케치는 윈도우 길이 단위로 교체되므로 윈도우 길이마다 인스턴스를 따로 사용합니다.</p>
+ * 
+ * <p>같은 윈도우 길이라면 허용 횟수가 다른 식별자도 한 인스턴스에서 판정할 수 있으며,
+ * 반영 대기 비용은 식별자별 허용 횟수와 함께 보관합니다.</p>
+ */
+public class LocalRateLimiter {
+
+    private static final int WIDTH = 1 << 16;
+    private static final int MASK = WIDTH - 1;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final long windowMillis;
+    private final double syncRatio;
+
+    private final AtomicReference<Generation> generation = new AtomicReference<>(new Generation(-1, null));
+    private final Cache<String, Long> blockedUntil;
+    private final ConcurrentHashMap<String, Pending> pendingCost = new ConcurrentHashMap<>();
+
+    public LocalRateLimiter(long windowMillis, double syncRatio, long maxBlockedSize) {
+        this.windowMillis = windowMillis;
+        this.syncRatio = syncRatio;
+        this.blockedUntil = Caffeine.newBuilder()
+                .maximumSize(maxBlockedSize)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+    }
+
+
+    /**
+     * 요청 비용을 기록하고 로컬에서 판정할 수 있으면 결과를 반환합니다.
+     * 
+     * @param key 제한 대상 식별자
+     * @param limit 윈도우당 허용 횟수
+     * @param cost 요청 비용
+     * @return 로컬 판정 결과 (남은 횟수는 추정치), 로컬에서 허용할 수 없어 Redis 판정이 필요하면 {@code null}
+     */
+    public RateLimitResult decide(String key, int limit, int cost) {
+        long now = System.currentTimeMillis();
+
+        Long until = blockedUntil.getIfPresent(key);
+        if (until != null) {
+            if (until > now) {
+                return new RateLimitResult(false, limit, 0, until - now, until - now);
+            }
+            blockedUntil.invalidate(key);
+        }
+
+        double estimate = increment(key, now, cost);
+
+        if (estimate < limit * syncRatio) {
+            addPending(key, limit, cost);
+            // 초기화 시각은 현재 스케치 윈도우의 끝으로 근사
+            return new RateLimitResult(true, limit, Math.max(0, limit - (long) Math.ceil(estimate)), 0, windowMillis - now % windowMillis);
+        }
+        return null;
+    }
+
+    /**
+     * 로컬에서 허용했지만 같은 요청의 다른 버킷이 거부되어 처리되지 않은 비용을 반영 대기에서 뺍니다.
+     * 
+     * @param key 제한 대상 식별자
+     * @param cost 취소할 비용
+     */
+    public void cancel(String key, int cost) {
+        Pending pending = pendingCost.get(key);
+        if (pending != null) {
+            pending.cost.add(-cost);
+        }
+    }
+
+    /**
+     * 반영하지 못한 비용을 다시 반영 대기로 돌려놓습니다.
+     * 
+     * <p>로컬에서 허용한 요청은 이미 처리되었으므로, 함께 보낸 Redis 판정이 거부되어
+     * 차감되지 않았으면 다음 반영 때 다시 차감합니다.</p>
+     * 
+     * @param key 제한 대상 식별자
+     * @param limit 윈도우당 허용 횟수
+     * @param cost 다시 반영할 비용
+     */
+    public void requeue(String key, int limit, long cost) {
+        if (cost > 0) {
+            addPending(key, limit, cost);
+        }
+    }
+
+    /**
+     * 로컬에서 허용했지만 아직 Redis에 반영하지 않은 비용을 꺼냅니다.
+     * 
+     * @param key 제한 대상 식별자
+     * @return 반영할 비용 (없으면 0)
+     */
+    public long drainPending(String key) {
+        Pending pending = pendingCost.remove(key);
+        return pending != null ? Math.max(0, pending.cost.sum()) : 0;
+    }
+
+    /**
+     * 반영하지 않은 비용을 모두 꺼냅니다. (주기적 동기화용)
+     * 
+     * @return 식별자별 반영할 비용 (허용 횟수, 윈도우 포함)
+     */
+    public List<RateLimitBucket> drainAllPending() {
+        List<RateLimitBucket> drained = new ArrayList<>();
+        for (String key : pendingCost.keySet()) {
+            Pending pending = pendingCost.remove(key);
+            long cost = pending != null ? pending.cost.sum() : 0;
+            if (cost > 0) {
+                drained.add(new RateLimitBucket(key, pending.limit, windowMillis, (int) Math.min(Integer.MAX_VALUE, cost)));
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Redis가 거부한 식별자를 지정 시각까지 로컬에서 거부하도록 표시합니다.
+     * 
+     * @param key 제한 대상 식별자
+     * @param untilMillis 거부 종료 시각(epoch ms)
+     */
+    public void block(String key, long untilMillis) {
+        blockedUntil.asMap().merge(key, untilMillis, Math::max);
+    }
+
+    /**
+     * 로컬에서 거부 중인 식별자 수를 반환합니다.
+     */
+    public long blockedCount() {
+        return blockedUntil.estimatedSize();
+    }
+
+
+    /**
+     * 스케치에 비용을 더하고 감쇠를 반영한 추정치를 반환합니다.
+     */
+    private double increment(String key, long now, int cost) {
+        long epoch = now / windowMillis;
+        Generation current = rotate(epoch);
+
+        long hash = hash64(key);
+        int index1 = (int) (hash & MASK);
+        int index2 = WIDTH + (int) ((hash >>> 32) & MASK);
+
+        long current1 = current.counts.addAndGet(index1, cost);
+        long current2 = current.counts.addAndGet(index2, cost);
+        long currentCount = Math.min(current1, current2);
+
+        if (current.previous == null) {
+            return currentCount;
+        }
+
+        long previousCount = Math.min(current.previous.get(index1), current.previous.get(index2));
+        double elapsedRatio = (double) (now % windowMillis) / windowMillis;
+        return currentCount + previousCount * (1.0 - elapsedRatio);
+    }
+
+    /**
+     * 윈도우가 바뀌었으면 현재 스케치를 직전 스케치로 넘기고 새 스케치를 만듭니다.
+     */
+    private Generation rotate(long epoch) {
+        while (true) {
+            Generation current = generation.get();
+            // 늦게 도착한 스레드가 최신 스케치를 되돌리지 않도록 현재 이후 윈도우면 그대로 사용
+            if (current.epoch >= epoch) {
+                return current;
+            }
+
+            AtomicLongArray previous = current.epoch == epoch - 1 ? current.counts : null;
+            Generation next = new Generation(epoch, previous);
+            if (generation.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private void addPending(String key, int limit, long cost) {
+        pendingCost.computeIfAbsent(key, k -> new Pending(limit)).cost.add(cost);
+    }
+
+    /**
+     * 식별자의 64비트 해시 (FNV-1a 후 MurmurHash3 fmix64로 비트를 섞음)
+     */
+    private static long hash64(String key) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+
+    private static final class Generation {
+
+        private final long epoch;
+        private final AtomicLongArray counts = new AtomicLongArray(WIDTH * 2);
+        private final AtomicLongArray previous;
+
+        private Generation(long epoch, AtomicLongArray previous) {
+            this.epoch = epoch;
+            this.previous = previous;
+        }
+    }
+
+
+    private static final class Pending {
+
+        private final int limit;
+        private final LongAdder cost = new LongAdder();
+
+        private Pending(int limit) {
+            this.limit = limit;
+        }
+    }
+
+}
@@ -4,12 +4,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.util.regex.*;
 import java.util.Optional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 
 /**
  * 운영체제 감지 유틸리티 클래스
  * 
  * <p>HTTP 요청 헤더를 분석하여 클라이언트의 운영체제를 감지합니다.
  * User-Agent Client Hints와 User-Agent 문자열을 모두 활용합니다.</p>
+ * 
+ * <p>User-Agent는 미리 컴파일한 토큰 패턴으로 한 번만 훑으며,
+ * 헤더 조합별 판정 결과는 크기 제한이 있는 캐시(최대 4,096개)에 보관합니다.</p>
  */
 public final class OsDetectorUtil {
 
@@ -18,6 +24,34 @@ public final class OsDetectorUtil {
     private static final String HEADER_UA_PLATFORM_VERSION = "sec-ch-ua-platform-version";
     private static final String HEADER_USER_AGENT = "user-agent";
 
+    // 서로 다른 User-Agent 조합은 많지 않으므로 판정 결과를 크기 제한 캐시에 보관
+    private static final int CACHE_MAX_SIZE = 4096;
+    private static final int MAX_CACHED_HEADER_LENGTH = 1024;
+    private static final Cache<CacheKey, String> CACHE = Caffeine.newBuilder()
+        .maximumSize(CACHE_MAX_SIZE)
+        .build();
+
+    // OS 판별 토큰 (한 번의 스캔으로 모두 찾음)
+    private static final Pattern UA_TOKEN_PATTERN = Pattern.compile(
+        "(iPhone|iPad|iPod)"
+        + "|\\bOS\\s([\\d_]+)"
+        + "|Android\\s([\\d.]+)"
+        + "|Windows NT ([\\d.]+)"
+        + "|Mac OS X ([\\d_.]+)"
+        + "|(Macintosh)"
+        + "|(Mobile)"
+        + "|(CrOS )"
+        + "|(Linux)");
+    private static final int GROUP_APPLE_DEVICE = 1;
+    private static final int GROUP_IOS_VERSION = 2;
+    private static final int GROUP_ANDROID_VERSION = 3;
+    private static final int GROUP_WINDOWS_NT_VERSION = 4;
+    private static final int GROUP_MAC_VERSION = 5;
+    private static final int GROUP_MACINTOSH = 6;
+    private static final int GROUP_MOBILE = 7;
+    private static final int GROUP_CHROME_OS = 8;
+    private static final int GROUP_LINUX = 9;
+
     /**
      * 유틸리티 클래스의 인스턴스화 방지
      */
@@ -41,6 +75,23 @@ public final class OsDetectorUtil {
             return UNKNOWN_OS;
         }
 
+        String platform = getHeader(request, HEADER_UA_PLATFORM);
+        String platformVersion = getHeader(request, HEADER_UA_PLATFORM_VERSION);
+        String userAgent = getHeader(request, HEADER_USER_AGENT);
+
+        // 지나치게 긴 값은 캐시를 채우지 않도록 바로 판정
+        if (length(platform) + length(platformVersion) + length(userAgent) > MAX_CACHED_HEADER_LENGTH) {
+            return detectUncached(request);
+        }
+
+        return CACHE.get(new CacheKey(platform, platformVersion, userAgent), key -> detectUncached(request));
+    }
+
+
+    /**
+     * 캐시 없이 운영체제를 감지합니다.
+     */
+    private static String detectUncached(HttpServletRequest request) {
         // 1. User-Agent Client Hints 우선 확인
         Optional<String> osFromClientHints = detectFromClientHints(request);
         if (osFromClientHints.isPresent()) {
@@ -74,6 +125,9 @@ public final class OsDetectorUtil {
 
     /**
      * User-Agent 문자열에서 OS 정보를 추출합니다.
+     * 
+     * <p>OS 판별에 필요한 토큰을 미리 컴파일한 하나의 패턴으로 한 번만 훑어 수집한 뒤,
+     * iPadOS, iOS, Android, Windows, macOS, 기타 순서로 판정합니다.</p>
      */
     private static String detectFromUserAgent(HttpServletRequest request) {
         String userAgent = getHeader(request, HEADER_USER_AGENT);
@@ -81,67 +135,71 @@ public final class OsDetectorUtil {
             return UNKNOWN_OS;
         }
 
+        UserAgentTokens tokens = scan(userAgent);
+
         // iOS 디바이스 체크
-        if (userAgent.contains("Macintosh") && userAgent.contains("Mobile")) {
+        if (tokens.macintosh && tokens.mobile) {
             return "iPadOS";
         }
 
-        // 각 OS별 패턴 매칭
-        Optional<String> os = detectIOS(userAgent)
-            .or(() -> detectAndroid(userAgent))
-            .or(() -> detectWindows(userAgent))
-            .or(() -> detectMacOS(userAgent))
-            .or(() -> detectOtherOS(userAgent));
-
-        return os.orElse(UNKNOWN_OS);
-    }
-
-    private static Optional<String> detectIOS(String userAgent) {
-        Pattern pattern = Pattern.compile("(iPhone|iPad|iPod).*OS\\s([\\d_]+)");
-        Matcher matcher = pattern.matcher(userAgent);
-        if (matcher.find()) {
-            String version = matcher.group(2).replace('_', '.');
-            return Optional.of("iOS " + version);
+        if (tokens.appleDevice && tokens.iosVersion != null) {
+            return "iOS " + tokens.iosVersion.replace('_', '.');
         }
-        return Optional.empty();
-    }
-
-    private static Optional<String> detectAndroid(String userAgent) {
-        Pattern pattern = Pattern.compile("Android\\s([\\d.]+)");
-        Matcher matcher = pattern.matcher(userAgent);
-        if (matcher.find()) {
-            return Optional.of("Android " + matcher.group(1));
+        if (tokens.androidVersion != null) {
+            return "Android " + tokens.androidVersion;
         }
-        return Optional.empty();
-    }
-
-    private static Optional<String> detectWindows(String userAgent) {
-        Pattern pattern = Pattern.compile("Windows NT ([\\d.]+)");
-        Matcher matcher = pattern.matcher(userAgent);
-        if (matcher.find()) {
-            return Optional.of(mapWindowsNTVersion(matcher.group(1)));
+        if (tokens.windowsNtVersion != null) {
+            return mapWindowsNTVersion(tokens.windowsNtVersion);
         }
-        return Optional.empty();
+        if (tokens.macVersion != null) {
+            return "macOS " + tokens.macVersion.replace('_', '.');
+        }
+        if (tokens.chromeOs) {
+            return "ChromeOS";
+        }
+        if (tokens.linux) {
+            return "Linux";
+        }
+
+        return UNKNOWN_OS;
     }
 
-    private static Optional<String> detectMacOS(String userAgent) {
-        Pattern pattern = Pattern.compile("Mac OS X ([\\d_\\.]+)");
-        Matcher matcher = pattern.matcher(userAgent);
-        if (matcher.find()) {
-            String version = matcher.group(1).replace('_', '.');
-            return Optional.of("macOS " + version);
+    /**
+     * User-Agent 문자열을 한 번 훑어 OS 판별 토큰을 수집합니다.
+     * 
+     * <p>같은 종류의 토큰이 여러 번 나오면 처음 나온 값을 사용합니다.</p>
+     */
+    private static UserAgentTokens scan(String userAgent) {
+        UserAgentTokens tokens = new UserAgentTokens();
+        Matcher matcher = UA_TOKEN_PATTERN.matcher(userAgent);
+
+        while (matcher.find()) {
+            if (matcher.start(GROUP_APPLE_DEVICE) >= 0) {
+                tokens.appleDevice = true;
+            } else if (matcher.start(GROUP_IOS_VERSION) >= 0) {
+                tokens.iosVersion = first(tokens.iosVersion, matcher.group(GROUP_IOS_VERSION));
+            } else if (matcher.start(GROUP_ANDROID_VERSION) >= 0) {
+                tokens.androidVersion = first(tokens.androidVersion, matcher.group(GROUP_ANDROID_VERSION));
+            } else if (matcher.start(GROUP_WINDOWS_NT_VERSION) >= 0) {
+                tokens.windowsNtVersion = first(tokens.windowsNtVersion, matcher.group(GROUP_WINDOWS_NT_VERSION));
+            } else if (matcher.start(GROUP_MAC_VERSION) >= 0) {
+                tokens.macVersion = first(tokens.macVersion, matcher.group(GROUP_MAC_VERSION));
+            } else if (matcher.start(GROUP_MACINTOSH) >= 0) {
+                tokens.macintosh = true;
+            } else if (matcher.start(GROUP_MOBILE) >= 0) {
+                tokens.mobile = true;
+            } else if (matcher.start(GROUP_CHROME_OS) >= 0) {
+                tokens.chromeOs = true;
+            } else if (matcher.start(GROUP_LINUX) >= 0) {
+                tokens.linux = true;
+            }
         }
-        return Optional.empty();
+
+        return tokens;
     }
 
-    private static Optional<String> detectOtherOS(String userAgent) {
-        if (userAgent.contains("CrOS ")) {
-            return Optional.of("ChromeOS");
-        }
-        if (userAgent.contains("Linux")) {
-            return Optional.of("Linux");
-        }
-        return Optional.empty();
+    private static String first(String current, String candidate) {
+        return current != null ? current : candidate;
     }
 
     private static String formatWindowsVersion(String version) {
@@ -207,4 +265,32 @@ public final class OsDetectorUtil {
         return str == null || str.isBlank();
     }
 
+    private static int length(String str) {
+        return str != null ? str.length() : 0;
+    }
+
+
+    /**
+     * 캐시 키 (Client Hints와 User-Agent 헤더 원문)
+     */
+    private record CacheKey(String platform, String platformVersion, String userAgent) {
+    }
+
+
+    /**
+     * User-Agent에서 수집한 OS 판별 토큰
+     */
+    private static final class UserAgentTokens {
+
+        private boolean appleDevice;
+        private String iosVersion;
+        private String androidVersion;
+        private String windowsNtVersion;
+        private String macVersion;
+        private boolean macintosh;
+        private boolean mobile;
+        private boolean chromeOs;
+        private boolean linux;
+    }
+
 }
@@ -0,0 +1,364 @@
+package com.example.test_project.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+
+/**
+ * 요청 속도 제한 알고리즘
+ * 
+ * <p>각 알고리즘은 Lua 스크립트 한 번의 호출로 판정과 상태 갱신을 원자적으로 처리하며,
+ * 시각은 노드 간 시계 차이가 없도록 Redis {@code TIME}을 사용합니다.
+ * 프로세스 내 저장소({@code app.kv-store=memory})용으로 같은 동작의 Java 구현을 함께 제공합니다.</p>
+ * 
+ * <p>한 번의 호출로 여러 버킷을 판정할 수 있으며, 모든 버킷이 허용할 때만 차감합니다.
+ * 하나라도 거부하면 어떤 버킷도 차감하지 않으므로 거부된 요청은 비용을 쓰지 않습니다.</p>
+ * 
+ * <p>스크립트 입력은 모두 같습니다. KEYS[i]: 버킷 키, ARGV[1]: 요청 고유 값,
+ * ARGV[3i-1], ARGV[3i], ARGV[3i+1]: 버킷 i의 허용 횟수, 윈도우(ms), 요청 비용.
+ * 반환은 버킷마다 {허용 여부(1/0), 남은 횟수, 재시도 대기(ms), 초기화까지 남은 시간(ms)}를 이어 붙인 배열입니다.
+ * 다른 버킷의 거부로 차감하지 않은 버킷은 허용(1)과 차감 전 남은 횟수를 반환합니다.</p>
+ */
+@SuppressWarnings("rawtypes")
+public enum RateLimitAlgorithm {
+
+    /**
+     * 고정 윈도우 (INCRBY + PEXPIRE)
+     * 
+     * <p>윈도우 경계에서 최대 두 배까지 허용될 수 있습니다. 초기화 시각은 윈도우 키의 만료 시각입니다.</p>
+     */
+    FIXED_WINDOW("rate_limit:", """
+            local n = #KEYS
+            local counts, ttls = {}, {}
+            local allowed = 1
+            for i = 1, n do
+                local limit, window, cost = tonumber(ARGV[i * 3 - 1]), tonumber(ARGV[i * 3]), tonumber(ARGV[i * 3 + 1])
+                counts[i] = tonumber(redis.call('GET', KEYS[i])) or 0
+                ttls[i] = redis.call('PTTL', KEYS[i])
+                if ttls[i] < 0 then
+                    ttls[i] = window
+                end
+                if counts[i] + cost > limit then
+                    allowed = 0
+                end
+            end
+            local reply = {}
+            for i = 1, n do
+                local limit, window, cost = tonumber(ARGV[i * 3 - 1]), tonumber(ARGV[i * 3]), tonumber(ARGV[i * 3 + 1])
+                local count = counts[i]
+                if allowed == 1 then
+                    count = redis.call('INCRBY', KEYS[i], cost)
+                    if redis.call('PTTL', KEYS[i]) < 0 then
+                        redis.call('PEXPIRE', KEYS[i], window)
+                    end
+                    table.insert(reply, 1)
+                    table.insert(reply, limit - count)
+                    table.insert(reply, 0)
+                elseif count + cost > limit then
+                    table.insert(reply, 0)
+                    table.insert(reply, math.max(0, limit - count))
+                    table.insert(reply, ttls[i])
+                else
+                    table.insert(reply, 1)
+                    table.insert(reply, limit - count)
+                    table.insert(reply, 0)
+                end
+                table.insert(reply, ttls[i])
+            end
+            return reply
+            """, RateLimitAlgorithm::fixedWindow),
+
+    /**
+     * GCRA (Generic Cell Rate Algorithm, 토큰 버킷과 동일한 동작)
+     * 
+     * <p>이론적 도착 시각(TAT) 하나만 저장하며, 윈도우 동안 허용 횟수만큼의 버스트를 허용하고
+     * 이후에는 윈도우/허용 횟수 간격으로 고르게 허용합니다.
+     * 초기화 시각은 허용량이 모두 다시 찰 때(TAT)입니다.</p>
+     */
+    GCRA("rate_limit:gcra:", """
+            local n = #KEYS
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tats, newTats = {}, {}
+            local allowed = 1
+            for i = 1, n do
+                local limit, window, cost = tonumber(ARGV[i * 3 - 1]), tonumber(ARGV[i * 3]), tonumber(ARGV[i * 3 + 1])
+                local tat = tonumber(redis.call('GET', KEYS[i])) or now
+                if tat < now then
+                    tat = now
+                end
+                tats[i] = tat
+                newTats[i] = tat + window / limit * cost
+                if newTats[i] - window > now then
+                    allowed = 0
+                end
+            end
+            local reply = {}
+            for i = 1, n do
+                local limit, window = tonumber(ARGV[i * 3 - 1]), tonumber(ARGV[i * 3])
+                local interval = window / limit
+                local tat, newTat = tats[i], newTats[i]
+                local diff = now - (newTat - window)
+                if allowed == 1 then
+                    redis.call('SET', KEYS[i], tostring(newTat), 'PX', math.ceil(newTat - now))
+                    table.insert(reply, 1)
+                    table.insert(reply, math.floor(diff / interval))
+                    table.insert(reply, 0)
+                    table.insert(reply, math.ceil(newTat - now))
+                else
+                    local remaining = math.max(0, math.floor((now - (tat - window)) / interval))
+                    if diff < 0 then
+                        table.insert(reply, 0)
+                        table.insert(reply, remaining)
+                        table.insert(reply, math.ceil(-diff))
+                    else
+                        table.insert(reply, 1)
+                        table.insert(reply, remaining)
+                        table.insert(reply, 0)
+                    end
+                    table.insert(reply, math.ceil(tat - now))
+                end
+            end
+            return reply
+            """, RateLimitAlgorithm::gcra),
+
+    /**
+     * 슬라이딩 윈도우 로그
+     * 
+     * <p>최근 윈도우 안의 요청 시각을 Sorted Set에 모두 기록하여 정확하게 판정합니다.
+     * 허용 횟수에 비례하는 메모리를 사용합니다. 초기화 시각은 가장 최근 요청이 윈도우를 벗어날 때입니다.</p>
+     */
+    SLIDING_WINDOW_LOG("rate_limit:log:", """
+            local n = #KEYS
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local counts = {}
+            local allowed = 1
+            for i = 1, n do
+                local limit, window, cost = tonumber(ARGV[i * 3 - 1]), tonumber(ARGV[i * 3]), tonumber(ARGV[i * 3 + 1])
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now - window)
+                counts[i] = redis.call('ZCARD', KEYS[i])
+                if counts[i] + cost > limit then
+                    allowed = 0
+                end
+            end
+            local reply = {}
+            for i = 1, n do
+                local limit, window, cost = tonumber(ARGV[i * 3 - 1]), tonumber(ARGV[i * 3]), tonumber(ARGV[i * 3 + 1])
+                local count = counts[i]
+                if allowed == 1 then
+                    for j = 1, cost do
+                        redis.call('ZADD', KEYS[i], now, ARGV[1] .. ':' .. j)
+                    end
+                    redis.call('PEXPIRE', KEYS[i], window)
+                    table.insert(reply, 1)
+                    table.insert(reply, limit - count - cost)
+                    table.insert(reply, 0)
+                    table.insert(reply, window)
+                else
+                    local reset = 0
+                    if count > 0 then
+                        local newest = redis.call('ZRANGE', KEYS[i], -1, -1, 'WITHSCORES')
+                        reset = tonumber(newest[2]) + window - now
+                    end
+                    if count + cost > limit then
+                        local retryAfter = window
+                        local index = count + cost - limit - 1
+                        if index < count then
+                            local entry = redis.call('ZRANGE', KEYS[i], index, index, 'WITHSCORES')
+                            retryAfter = tonumber(entry[2]) + window - now
+                        end
+                        table.insert(reply, 0)
+                        table.insert(reply, math.max(0, limit - count))
+                        table.insert(reply, retryAfter)
+                    else
+                        table.insert(reply, 1)
+                        table.insert(reply, limit - count)
+                        table.insert(reply, 0)
+                    end
+                    table.insert(reply, reset)
+                end
+            end
+            return reply
+            """, RateLimitAlgorithm::slidingWindowLog);
+
+    private final String keyPrefix;
+    private final KeyValueScript<List> script;
+
+    RateLimitAlgorithm(String keyPrefix, String lua, KeyValueScript.LocalScript<List> localScript) {
+        this.keyPrefix = keyPrefix;
+        this.script = KeyValueScript.of(lua, List.class, localScript);
+    }
+
+    /**
+     * 알고리즘별 Redis 키 접두사를 반환합니다.
+     * 
+     * <p>알고리즘마다 저장 형식이 다르므로 설정을 바꿔도 키가 섞이지 않습니다.</p>
+     */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    /**
+     * 판정 스크립트를 반환합니다.
+     */
+    public KeyValueScript<List> getScript() {
+        return script;
+    }
+
+
+    // ==================== 프로세스 내 저장소용 구현 (Lua 스크립트와 같은 동작) ====================
+
+    private static List fixedWindow(KeyValueScript.Context context, List<String> keys, List<String> args) {
+        int n = keys.size();
+        long[] counts = new long[n];
+        long[] ttls = new long[n];
+        boolean allowed = true;
+
+        for (int i = 0; i < n; i++) {
+            Bucket bucket = Bucket.of(args, i);
+            Object stored = context.get(keys.get(i));
+            counts[i] = stored != null ? Long.parseLong(stored.toString()) : 0;
+            ttls[i] = context.ttl(keys.get(i));
+            if (ttls[i] < 0) {
+                ttls[i] = bucket.window();
+            }
+            if (counts[i] + bucket.cost() > bucket.limit()) {
+                allowed = false;
+            }
+        }
+
+        List<Long> reply = new ArrayList<>(n * 4);
+        for (int i = 0; i < n; i++) {
+            Bucket bucket = Bucket.of(args, i);
+            long count = counts[i];
+            if (allowed) {
+                count = context.increment(keys.get(i), bucket.cost());
+                if (context.ttl(keys.get(i)) < 0) {
+                    context.expire(keys.get(i), bucket.window());
+                }
+                add(reply, 1, bucket.limit() - count, 0, ttls[i]);
+            } else if (count + bucket.cost() > bucket.limit()) {
+                add(reply, 0, Math.max(0, bucket.limit() - count), ttls[i], ttls[i]);
+            } else {
+                add(reply, 1, bucket.limit() - count, 0, ttls[i]);
+            }
+        }
+        return reply;
+    }
+
+    private static List gcra(KeyValueScript.Context context, List<String> keys, List<String> args) {
+        int n = keys.size();
+        long now = context.now();
+        double[] tats = new double[n];
+        double[] newTats = new double[n];
+        boolean allowed = true;
+
+        for (int i = 0; i < n; i++) {
+            Bucket bucket = Bucket.of(args, i);
+            Object stored = context.get(keys.get(i));
+            double tat = stored instanceof Number number ? number.doubleValue()
+                    : stored != null ? Double.parseDouble(stored.toString()) : now;
+            tats[i] = Math.max(tat, now);
+            newTats[i] = tats[i] + (double) bucket.window() / bucket.limit() * bucket.cost();
+            if (newTats[i] - bucket.window() > now) {
+                allowed = false;
+            }
+        }
+
+        List<Long> reply = new ArrayList<>(n * 4);
+        for (int i = 0; i < n; i++) {
+            Bucket bucket = Bucket.of(args, i);
+            double interval = (double) bucket.window() / bucket.limit();
+            double diff = now - (newTats[i] - bucket.window());
+            if (allowed) {
+                context.set(keys.get(i), newTats[i], (long) Math.ceil(newTats[i] - now));
+                add(reply, 1, (long) Math.floor(diff / interval), 0, (long) Math.ceil(newTats[i] - now));
+                continue;
+            }
+
+            long remaining = Math.max(0, (long) Math.floor((now - (tats[i] - bucket.window())) / interval));
+            long reset = (long) Math.ceil(tats[i] - now);
+            if (diff < 0) {
+                add(reply, 0, remaining, (long) Math.ceil(-diff), reset);
+            } else {
+                add(reply, 1, remaining, 0, reset);
+            }
+        }
+        return reply;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List slidingWindowLog(KeyValueScript.Context context, List<String> keys, List<String> args) {
+        int n = keys.size();
+        long now = context.now();
+        List<Deque<Long>> logs = new ArrayList<>(n);
+        boolean allowed = true;
+
+        for (int i = 0; i < n; i++) {
+            Bucket bucket = Bucket.of(args, i);
+            // 요청 시각을 오래된 순으로 보관 (Sorted Set 대신)
+            Object stored = context.get(keys.get(i));
+            Deque<Long> log = stored instanceof Deque<?> deque ? (Deque<Long>) deque : new ArrayDeque<>();
+            while (!log.isEmpty() && log.peekFirst() <= now - bucket.window()) {
+                log.pollFirst();
+            }
+            logs.add(log);
+            if (log.size() + bucket.cost() > bucket.limit()) {
+                allowed = false;
+            }
+        }
+
+        List<Long> reply = new ArrayList<>(n * 4);
+        for (int i = 0; i < n; i++) {
+            Bucket bucket = Bucket.of(args, i);
+            Deque<Long> log = logs.get(i);
+            long count = log.size();
+            if (allowed) {
+                for (long j = 0; j < bucket.cost(); j++) {
+                    log.addLast(now);
+                }
+                context.set(keys.get(i), log, bucket.window());
+                add(reply, 1, bucket.limit() - count - bucket.cost(), 0, bucket.window());
+                continue;
+            }
+
+            long reset = log.isEmpty() ? 0 : log.peekLast() + bucket.window() - now;
+            if (count + bucket.cost() > bucket.limit()) {
+                long retryAfter = bucket.window();
+                long index = count + bucket.cost() - bucket.limit() - 1;
+                if (index < count) {
+                    retryAfter = log.stream().skip(index).findFirst().orElse(now) + bucket.window() - now;
+                }
+                add(reply, 0, Math.max(0, bucket.limit() - count), retryAfter, reset);
+            } else {
+                add(reply, 1, bucket.limit() - count, 0, reset);
+            }
+        }
+        return reply;
+    }
+
+    private static void add(List<Long> reply, long allowed, long remaining, long retryAfter, long reset) {
+        reply.add(allowed);
+        reply.add(remaining);
+        reply.add(retryAfter);
+        reply.add(reset);
+    }
+
+
+    /**
+     * 스크립트 인자에서 읽은 버킷 i의 허용 횟수, 윈도우(ms), 요청 비용
+     */
+    private record Bucket(long limit, long window, long cost) {
+
+        private static Bucket of(List<String> args, int index) {
+            return new Bucket(
+                Long.parseLong(args.get(index * 3 + 1)),
+                Long.parseLong(args.get(index * 3 + 2)),
+                Long.parseLong(args.get(index * 3 + 3)));
+        }
+    }
+
+}
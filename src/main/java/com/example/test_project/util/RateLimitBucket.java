@@ -0,0 +1,23 @@
+package com.example.test_project.util;
+
+/**
+ * 요청 속도 제한 버킷
+ * 
+ * <p>하나의 제한 정책을 특정 식별자에 적용한 단위입니다.
+ * 같은 식별자라도 버킷 키가 다르면 허용량을 따로 계산합니다.</p>
+ * 
+ * @param identifier 버킷 키 (정책 이름과 IP/사용자 식별자 조합)
+ * @param limit 윈도우당 허용 횟수
+ * @param windowMillis 윈도우 길이(ms)
+ * @param cost 이번 요청 비용
+ */
+public record RateLimitBucket(String identifier, int limit, long windowMillis, int cost) {
+
+    /**
+     * 비용만 바꾼 버킷을 반환합니다.
+     */
+    public RateLimitBucket withCost(int cost) {
+        return new RateLimitBucket(identifier, limit, windowMillis, cost);
+    }
+
+}
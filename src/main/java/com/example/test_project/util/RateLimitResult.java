@@ -0,0 +1,28 @@
+package com.example.test_project.util;
+
+/**
+ * 요청 속도 제한 판정 결과
+ * 
+ * @param allowed 허용 여부
+ * @param limit 윈도우당 허용 횟수
+ * @param remaining 남은 허용 횟수
+ * @param retryAfterMillis 거부된 경우 다시 시도할 수 있을 때까지 남은 시간(ms), 허용된 경우 0
+ * @param resetMillis 허용량이 초기화될 때까지 남은 시간(ms)
+ */
+public record RateLimitResult(boolean allowed, int limit, long remaining, long retryAfterMillis, long resetMillis) {
+
+    /**
+     * 재시도 대기 시간을 초 단위로 올림하여 반환합니다. (Retry-After 헤더용)
+     */
+    public long retryAfterSeconds() {
+        return (retryAfterMillis + 999) / 1000;
+    }
+
+    /**
+     * 초기화까지 남은 시간을 초 단위로 올림하여 반환합니다. (RateLimit-Reset 헤더용)
+     */
+    public long resetSeconds() {
+        return (resetMillis + 999) / 1000;
+    }
+
+}
@@ -1,35 +1,65 @@
 package com.example.test_project.util;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.example.test_project.config.exception.TooManyRequestsException;
+import com.example.test_project.config.exception.ServiceUnavailableException;
 import com.example.test_project.config.properties.AppProperties;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 
 /**
  * API 요청 속도 제한 유틸리티 클래스
  * 
- * <p>Redis를 사용하여 IP 기반의 요청 속도 제한을 구현합니다.
- * 지정된 시간 윈도우 내에서 허용된 최대 요청 수를 초과하면 예외를 발생시킵니다.</p>
+ * <p>{@link KeyValueStore}(기본 Redis)를 사용하여 버킷(정책 + IP/사용자 식별자) 단위의 요청 속도 제한을 구현합니다.
+ * 컨트롤러에는 {@code @RateLimited}로 정책을 선언하고, {@code RateLimitInterceptor}가
+ * 요청마다 해당하는 버킷을 모아 {@link #checkAll}로 판정합니다.</p>
+ * 
+ * <p>판정 알고리즘은 {@code app.redis-ratelimit-algorithm}으로 선택하며({@link RateLimitAlgorithm}),
+ * 모든 알고리즘이 EVALSHA 한 번으로 판정, 남은 횟수, 재시도 대기 시간을 함께 돌려줍니다.</p>
+ * 
+ * <p>{@code app.ratelimit-local-enabled}이면 Redis 앞에 {@link LocalRateLimiter}를 두어
+ * 명백히 한도 아래인 요청과 Redis가 이미 거부한 식별자는 프로세스 안에서 판정하고, 나머지만 Redis로 판정합니다.
+ * 로컬에서 허용한 요청 수는 주기적으로, 또는 다음 Redis 판정 시 비용으로 합산해 반영하며,
+ * 합산한 판정이 거부되어 차감되지 않았으면 다시 반영 대기로 돌려놓습니다.
+ * 프로세스 내 저장소({@code app.kv-store=memory})를 사용하면 로컬 1차 판정은 사용하지 않습니다.</p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitUtil {
 
-    private final StringRedisTemplate redisTemplate;
+    private final KeyValueStore keyValueStore;
     private final AppProperties appProperties;
 
-    private static final String RATE_LIMIT_KEY_PREFIX = "rate_limit:";
+    private final boolean localEnabled;
+
+    // 윈도우 길이(ms)별 로컬 제한기
+    private final Map<Long, LocalRateLimiter> localRateLimiters = new ConcurrentHashMap<>();
+    private final Counter localAllowedCounter;
+    private final Counter localRejectedCounter;
+    private final Counter redisAllowedCounter;
+    private final Counter redisRejectedCounter;
+
+    // 저장소 장애(회로 열림, 타임아웃) 시 사용하는 프로세스 내 저장소
+    private final InMemoryKeyValueStore fallbackStore;
+    private final Counter fallbackAllowedCounter;
+    private final Counter fallbackRejectedCounter;
+
     private static final List<String> IP_HEADERS = Arrays.asList(
         "X-Forwarded-For",
         "X-Real-IP",
@@ -37,51 +67,243 @@ public class RateLimitUtil {
         "WL-Proxy-Client-IP"
     );
 
+    public RateLimitUtil(KeyValueStore keyValueStore, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.keyValueStore = keyValueStore;
+        this.appProperties = appProperties;
+        // 저장소가 이미 프로세스 안에 있으면 로컬 1차 판정은 불필요
+        this.localEnabled = appProperties.isRatelimitLocalEnabled() && !keyValueStore.isLocal();
+
+        if (localEnabled) {
+            Gauge.builder("ratelimit.local.blocked", this, RateLimitUtil::blockedCount)
+                .description("로컬에서 거부 중인 식별자 수")
+                .register(meterRegistry);
+        }
+
+        this.localAllowedCounter = checkCounter(meterRegistry, "local", "allowed");
+        this.localRejectedCounter = checkCounter(meterRegistry, "local", "rejected");
+        this.redisAllowedCounter = checkCounter(meterRegistry, "redis", "allowed");
+        this.redisRejectedCounter = checkCounter(meterRegistry, "redis", "rejected");
+
+        this.fallbackStore = keyValueStore.isLocal() ? null : new InMemoryKeyValueStore(appProperties);
+        this.fallbackAllowedCounter = checkCounter(meterRegistry, "fallback", "allowed");
+        this.fallbackRejectedCounter = checkCounter(meterRegistry, "fallback", "rejected");
+    }
+
     /**
-     * 요청에 대한 속도 제한을 검사합니다.
+     * 모든 알고리즘의 판정 스크립트를 저장소에 미리 등록합니다.
+     */
+    @PostConstruct
+    public void loadScripts() {
+        keyValueStore.preload(Arrays.stream(RateLimitAlgorithm.values())
+            .map(RateLimitAlgorithm::getScript)
+            .toArray(KeyValueScript[]::new));
+    }
+
+    /**
+     * 대체 저장소를 닫습니다.
+     */
+    @PreDestroy
+    public void close() {
+        if (fallbackStore != null) {
+            fallbackStore.close();
+        }
+    }
+
+
+    /**
+     * 여러 버킷의 속도 제한을 한 번에 판정합니다.
      * 
-     * <p>클라이언트 IP를 기준으로 요청 횟수를 추적하고,
-     * 제한을 초과하면 {@link TooManyRequestsException}을 발생시킵니다.</p>
+     * <p>각 버킷을 먼저 로컬에서 판정하고, 로컬에서 판정하지 못한 버킷만 모아
+     * 스크립트 한 번으로 Redis에서 판정합니다. 모든 버킷이 허용할 때만 차감하므로
+     * 한 버킷이라도 거부하면 다른 버킷의 허용량은 쓰지 않습니다.
+     * 로컬에서 먼저 거부된 경우 나머지 버킷은 판정하지 않습니다.</p>
      * 
-     * @param request HTTP 요청 객체
-     * @throws TooManyRequestsException 요청 속도 제한 초과 시
-     * @throws IllegalArgumentException request가 null인 경우
+     * <p>Redis를 사용할 수 없으면(회로 열림, 타임아웃) 같은 알고리즘을 프로세스 내 저장소로 판정하므로
+     * 장애 중에는 노드마다 따로 제한됩니다.</p>
+     * 
+     * @param buckets 판정할 버킷 목록
+     * @return 버킷 순서대로의 판정 결과 (다른 버킷이 로컬에서 먼저 거부되어 판정하지 않은 버킷은 {@code null})
      */
-    public void checkRateLimit(HttpServletRequest request) {
-        if (request == null) {
-            throw new IllegalArgumentException("Request cannot be null");
+    public List<RateLimitResult> checkAll(List<RateLimitBucket> buckets) {
+        RateLimitResult[] results = new RateLimitResult[buckets.size()];
+        List<Integer> localIndexes = new ArrayList<>();
+        List<Integer> remoteIndexes = new ArrayList<>();
+
+        for (int i = 0; i < buckets.size(); i++) {
+            RateLimitBucket bucket = buckets.get(i);
+            LocalRateLimiter localRateLimiter = localRateLimiter(bucket);
+            RateLimitResult localResult = localRateLimiter != null
+                ? localRateLimiter.decide(bucket.identifier(), bucket.limit(), bucket.cost())
+                : null;
+
+            if (localResult == null) {
+                remoteIndexes.add(i);
+                continue;
+            }
+
+            results[i] = localResult;
+            if (!localResult.allowed()) {
+                localRejectedCounter.increment();
+                cancelLocal(buckets, localIndexes);
+                return Arrays.asList(results);
+            }
+            localIndexes.add(i);
+        }
+
+        if (remoteIndexes.isEmpty()) {
+            localAllowedCounter.increment(localIndexes.size());
+            return Arrays.asList(results);
+        }
+
+        List<RateLimitBucket> remoteBuckets = new ArrayList<>(remoteIndexes.size());
+        long[] pending = new long[remoteIndexes.size()];
+        for (int i = 0; i < remoteIndexes.size(); i++) {
+            RateLimitBucket bucket = buckets.get(remoteIndexes.get(i));
+            LocalRateLimiter localRateLimiter = localRateLimiter(bucket);
+            // 로컬에서 허용했던 요청 수를 이번 요청 비용에 합산
+            pending[i] = localRateLimiter != null ? localRateLimiter.drainPending(bucket.identifier()) : 0;
+            remoteBuckets.add(bucket.withCost((int) Math.min(Integer.MAX_VALUE, bucket.cost() + pending[i])));
+        }
+
+        List<RateLimitResult> remoteResults;
+        boolean fallback = false;
+        try {
+            remoteResults = acquireAll(keyValueStore, remoteBuckets);
+        } catch (ServiceUnavailableException e) {
+            if (fallbackStore == null) {
+                requeue(remoteBuckets, pending);
+                cancelLocal(buckets, localIndexes);
+                throw e;
+            }
+            log.debug("요청 속도 제한 대체 저장소 사용 - error: {}", e.getMessage());
+            remoteResults = acquireAll(fallbackStore, remoteBuckets);
+            fallback = true;
+        }
+
+        boolean committed = remoteResults.stream().allMatch(RateLimitResult::allowed);
+        for (int i = 0; i < remoteResults.size(); i++) {
+            RateLimitResult result = remoteResults.get(i);
+            if (committed) {
+                (fallback ? fallbackAllowedCounter : redisAllowedCounter).increment();
+            } else if (!result.allowed()) {
+                (fallback ? fallbackRejectedCounter : redisRejectedCounter).increment();
+                if (!fallback) {
+                    blockIfRejected(remoteBuckets.get(i), result);
+                }
+            }
+            results[remoteIndexes.get(i)] = result;
+        }
+
+        if (committed) {
+            localAllowedCounter.increment(localIndexes.size());
+        } else {
+            // 차감되지 않았으므로 합산했던 로컬 허용 수는 다음 반영 때 다시 차감
+            requeue(remoteBuckets, pending);
+            cancelLocal(buckets, localIndexes);
         }
+        return Arrays.asList(results);
+    }
 
-        String clientIp = resolveClientIp(request);
-        String rateLimitKey = RATE_LIMIT_KEY_PREFIX + clientIp;
 
-        Long requestCount = incrementRequestCount(rateLimitKey);
+    /**
+     * 로컬에서 허용한 요청 수를 Redis에 반영합니다.
+     * 
+     * <p>모든 윈도우의 반영 대기 비용을 파이프라인 한 번으로 식별자마다 따로 반영하며,
+     * 반영 중 Redis가 거부한 식별자는 재시도 가능 시각까지 로컬에서 거부하고
+     * 차감되지 않은 비용은 다음 반영 때 다시 시도합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.ratelimit-local-sync-millis:1000}")
+    public void syncLocalCounts() {
+        if (!localEnabled) {
+            return;
+        }
 
-        if (requestCount == 1L) {
-            setExpirationTime(rateLimitKey);
+        List<RateLimitBucket> pending = new ArrayList<>();
+        localRateLimiters.values().forEach(localRateLimiter -> pending.addAll(localRateLimiter.drainAllPending()));
+        if (pending.isEmpty()) {
+            return;
         }
 
-        if (requestCount > appProperties.getRedisRatelimitMaxRequests()) {
-            log.warn("Rate limit exceeded for IP: {}", clientIp);
-            throw new TooManyRequestsException("요청 횟수 제한을 초과했습니다.");
+        try {
+            List<RateLimitResult> results = tryAcquireAll(pending);
+            for (int i = 0; i < results.size(); i++) {
+                if (!results.get(i).allowed()) {
+                    blockIfRejected(pending.get(i), results.get(i));
+                    requeue(List.of(pending.get(i)), new long[] { pending.get(i).cost() });
+                }
+            }
+        } catch (DataAccessException | ServiceUnavailableException e) {
+            log.warn("요청 속도 제한 로컬 반영 실패 - error: {}", e.getMessage());
         }
     }
 
 
     /**
-     * 요청 카운트를 증가시킵니다.
+     * 식별자 기준으로 요청 비용만큼 허용량을 차감합니다.
+     * 
+     * @param identifier 제한 대상 식별자 (IP 등)
+     * @param limit 윈도우당 허용 횟수
+     * @param windowMillis 윈도우 길이(ms)
+     * @param cost 요청 비용
+     * @return 판정 결과
      */
-    private Long incrementRequestCount(String key) {
-        return redisTemplate.opsForValue().increment(key);
+    public RateLimitResult tryAcquire(String identifier, int limit, long windowMillis, int cost) {
+        return tryAcquireAll(List.of(new RateLimitBucket(identifier, limit, windowMillis, cost))).get(0);
     }
 
 
     /**
-     * 키의 만료 시간을 설정합니다.
+     * 여러 버킷의 허용량을 버킷마다 따로 차감합니다. (Redis 저장소는 파이프라인 한 번)
+     * 
+     * @param buckets 차감할 버킷 목록
+     * @return 버킷 순서대로의 판정 결과
      */
-    private void setExpirationTime(String key) {
-        Duration window = Duration.ofSeconds(appProperties.getRedisRatelimitWindowSeconds());
-        redisTemplate.expire(key, window);
+    @SuppressWarnings("rawtypes")
+    public List<RateLimitResult> tryAcquireAll(List<RateLimitBucket> buckets) {
+        RateLimitAlgorithm algorithm = appProperties.getRedisRatelimitAlgorithm();
+
+        List<KeyValueScript.Call> calls = new ArrayList<>(buckets.size());
+        for (RateLimitBucket bucket : buckets) {
+            calls.add(new KeyValueScript.Call(keys(algorithm, List.of(bucket)), args(List.of(bucket))));
+        }
+
+        List<RateLimitResult> results = new ArrayList<>(buckets.size());
+        List<List> replies = keyValueStore.executeAll(algorithm.getScript(), calls);
+        for (int i = 0; i < buckets.size(); i++) {
+            results.addAll(toResults(replies.get(i), List.of(buckets.get(i))));
+        }
+        return results;
+    }
+
+
+    /**
+     * 여러 버킷을 스크립트 한 번으로 판정하고, 모두 허용할 때만 차감합니다.
+     */
+    private List<RateLimitResult> acquireAll(KeyValueStore store, List<RateLimitBucket> buckets) {
+        RateLimitAlgorithm algorithm = appProperties.getRedisRatelimitAlgorithm();
+        List<?> reply = store.execute(algorithm.getScript(), keys(algorithm, buckets), args(buckets).toArray(String[]::new));
+        return toResults(reply, buckets);
+    }
+
+
+    private List<String> keys(RateLimitAlgorithm algorithm, List<RateLimitBucket> buckets) {
+        List<String> keys = new ArrayList<>(buckets.size());
+        for (RateLimitBucket bucket : buckets) {
+            keys.add(algorithm.getKeyPrefix() + bucket.identifier());
+        }
+        return keys;
+    }
+
+
+    private List<String> args(List<RateLimitBucket> buckets) {
+        List<String> args = new ArrayList<>(1 + buckets.size() * 3);
+        args.add(UUID.randomUUID().toString());
+        for (RateLimitBucket bucket : buckets) {
+            args.add(String.valueOf(bucket.limit()));
+            args.add(String.valueOf(bucket.windowMillis()));
+            args.add(String.valueOf(bucket.cost()));
+        }
+        return args;
     }
 
 
@@ -94,7 +316,7 @@ public class RateLimitUtil {
      * @param request HTTP 요청 객체
      * @return 클라이언트 IP 주소
      */
-    private String resolveClientIp(HttpServletRequest request) {
+    public String resolveClientIp(HttpServletRequest request) {
         // 여러 프록시 헤더 확인
         for (String header : IP_HEADERS) {
             String ip = request.getHeader(header);
@@ -109,6 +331,96 @@ public class RateLimitUtil {
     }
 
 
+    /**
+     * 버킷에 사용할 로컬 제한기를 반환합니다.
+     * 
+     * <p>비활성화되었거나 허용 횟수가 {@code app.ratelimit-local-min-limit}보다 작은 버킷은 {@code null}입니다.
+     * 로컬 허용분은 노드마다 반영 전까지 쌓이므로, 허용 횟수가 작은 정책(예: 10분에 5회)은 항상 Redis로 판정합니다.</p>
+     */
+    private LocalRateLimiter localRateLimiter(RateLimitBucket bucket) {
+        if (!localEnabled || bucket.limit() < appProperties.getRatelimitLocalMinLimit()) {
+            return null;
+        }
+        return localRateLimiters.computeIfAbsent(bucket.windowMillis(), window -> new LocalRateLimiter(
+            window,
+            appProperties.getRatelimitLocalSyncRatio(),
+            appProperties.getRatelimitLocalMaxBlocked()));
+    }
+
+
+    private void blockIfRejected(RateLimitBucket bucket, RateLimitResult result) {
+        LocalRateLimiter localRateLimiter = localRateLimiter(bucket);
+        if (!result.allowed() && localRateLimiter != null) {
+            localRateLimiter.block(bucket.identifier(), System.currentTimeMillis() + result.retryAfterMillis());
+        }
+    }
+
+
+    /**
+     * 합산해 보냈지만 차감되지 않은 로컬 허용 비용을 다시 반영 대기로 돌려놓습니다.
+     */
+    private void requeue(List<RateLimitBucket> buckets, long[] pending) {
+        for (int i = 0; i < buckets.size(); i++) {
+            LocalRateLimiter localRateLimiter = localRateLimiter(buckets.get(i));
+            if (localRateLimiter != null) {
+                localRateLimiter.requeue(buckets.get(i).identifier(), buckets.get(i).limit(), pending[i]);
+            }
+        }
+    }
+
+
+    /**
+     * 요청이 거부되어 처리되지 않은 로컬 허용분을 반영 대기에서 뺍니다.
+     */
+    private void cancelLocal(List<RateLimitBucket> buckets, List<Integer> localIndexes) {
+        for (int index : localIndexes) {
+            RateLimitBucket bucket = buckets.get(index);
+            LocalRateLimiter localRateLimiter = localRateLimiter(bucket);
+            if (localRateLimiter != null) {
+                localRateLimiter.cancel(bucket.identifier(), bucket.cost());
+            }
+        }
+    }
+
+
+    private List<RateLimitResult> toResults(List<?> reply, List<RateLimitBucket> buckets) {
+        if (reply == null || reply.size() != buckets.size() * 4) {
+            throw new IllegalStateException("Unexpected rate limit script reply: " + reply);
+        }
+
+        List<RateLimitResult> results = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            results.add(new RateLimitResult(
+                toLong(reply.get(i * 4)) == 1L,
+                buckets.get(i).limit(),
+                toLong(reply.get(i * 4 + 1)),
+                toLong(reply.get(i * 4 + 2)),
+                toLong(reply.get(i * 4 + 3))
+            ));
+        }
+        return results;
+    }
+
+
+    private long blockedCount() {
+        return localRateLimiters.values().stream().mapToLong(LocalRateLimiter::blockedCount).sum();
+    }
+
+
+    private Counter checkCounter(MeterRegistry meterRegistry, String tier, String outcome) {
+        return Counter.builder("ratelimit.checks")
+            .description("요청 속도 제한 판정 수")
+            .tag("tier", tier)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+
     /**
      * IP 주소 유효성을 검사합니다.
      */
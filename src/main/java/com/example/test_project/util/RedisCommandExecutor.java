@@ -0,0 +1,75 @@
+package com.example.test_project.util;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.util.RedisKeyValueStore.Command;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 키-값 저장소 밖에서 Redis를 직접 호출하는 유틸리티 클래스
+ * 
+ * <p>세션 레지스트리, 이메일 발송 대기열, 블룸 필터 전파처럼 저장소 명령으로 표현되지 않는 호출을
+ * {@link RedisKeyValueStore}의 짧은 타임아웃 전용 연결과 회로 차단기로 실행하여,
+ * Redis가 멈췄을 때 요청 스레드가 {@code spring.data.redis.timeout}만큼 기다리지 않도록 합니다.</p>
+ * 
+ * <p>Redis 저장소를 쓰지 않는 경우({@code app.kv-store=memory})에는 기본 연결로 실행합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCommandExecutor {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<RedisKeyValueStore> redisKeyValueStoreProvider;
+
+    /**
+     * Redis 호출을 실행합니다.
+     * 
+     * @param command 타이머 태그로 쓸 명령
+     * @param operation 실행할 호출
+     * @return 호출 결과
+     * @throws com.example.test_project.config.exception.ServiceUnavailableException 회로가 열려 있거나 Redis에 연결할 수 없는 경우
+     */
+    public <T> T execute(Command command, Function<StringRedisTemplate, T> operation) {
+        RedisKeyValueStore store = redisKeyValueStoreProvider.getIfAvailable();
+        return store != null ? store.executeDirect(command, operation) : operation.apply(redisTemplate);
+    }
+
+
+    /**
+     * 실패해도 요청에 영향이 없는 쓰기(캐시 반영, 다른 노드 전파)를 실행합니다.
+     * 
+     * <p>회로가 열려 있으면 Redis를 호출하지 않고 바로 건너뛰며, 실패는 기록만 합니다.</p>
+     * 
+     * @param command 타이머 태그로 쓸 명령
+     * @param operation 실행할 호출
+     * @return 실행했으면 {@code true}, 건너뛰었거나 실패했으면 {@code false}
+     */
+    public boolean executeBestEffort(Command command, Consumer<StringRedisTemplate> operation) {
+        RedisKeyValueStore store = redisKeyValueStoreProvider.getIfAvailable();
+        if (store != null && store.isCircuitOpen()) {
+            log.debug("Redis 회로 열림, 호출 건너뜀 - command: {}", command.tagValue());
+            return false;
+        }
+
+        try {
+            execute(command, template -> {
+                operation.accept(template);
+                return null;
+            });
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Redis 호출 실패, 건너뜀 - command: {}, error: {}", command.tagValue(), e.getMessage());
+            return false;
+        }
+    }
+
+}
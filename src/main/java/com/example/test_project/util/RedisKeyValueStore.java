@@ -0,0 +1,481 @@
+package com.example.test_project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.config.exception.ServiceUnavailableException;
+import com.example.test_project.config.properties.AppProperties;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Redis 기반 키-값 저장소 ({@code app.kv-store=redis}, 기본값)
+ * 
+ * <p>스크립트는 EVALSHA로 실행하며, 일괄 실행은 파이프라인 한 번으로 처리합니다.
+ * 파이프라인 안에서는 EVAL 대체 호출이 불가능하므로 스크립트가 등록되어 있지 않으면(NOSCRIPT)
+ * 다시 등록한 뒤 한 번 재시도합니다.</p>
+ * 
+ * <p>Redis가 느리거나 멈췄을 때 요청이 {@code spring.data.redis.timeout}만큼 기다리지 않도록
+ * 명령 타임아웃이 짧은({@code app.redis-kv-command-timeout-millis}) 전용 연결을 사용하고,
+ * 모든 호출을 {@link CircuitBreaker}로 감쌉니다. 연결 실패와 타임아웃이 이어지면 회로가 열리고,
+ * 열린 동안에는 Redis를 호출하지 않고 바로 {@link ServiceUnavailableException}을 발생시킵니다.</p>
+ * 
+ * <p>호출 시간은 명령별 타이머({@code redis.kv.commands}, {@code command} 태그)로 기록합니다.
+ * {@link RedisUtil}과 {@link RateLimitUtil}의 Redis 호출은 모두 이 클래스를 거치며,
+ * 저장소 명령으로 표현되지 않는 세션 레지스트리, 이메일 발송 대기열, 블룸 필터 전파 호출은
+ * {@link RedisCommandExecutor}를 통해 같은 전용 연결과 회로 차단기를 사용합니다.</p>
+ * 
+ * <p>전용 연결 팩토리는 빈이 아니므로 이 클래스가 생명주기를 대신 전달해
+ * CRaC 체크포인트 전에 연결을 닫고 복원 후 다시 엽니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app", name = "kv-store", havingValue = "redis", matchIfMissing = true)
+public class RedisKeyValueStore implements KeyValueStore, SmartLifecycle {
+
+    private static final String UNAVAILABLE_MESSAGE = "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final StringRedisTemplate redisTemplate;
+    private final LettuceConnectionFactory dedicatedConnectionFactory;
+    private final Duration commandTimeout;
+    private final ObjectProvider<RedisNearCache> nearCacheProvider;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<Command, Timer> commandTimers = new EnumMap<>(Command.class);
+
+    // KEYS[1]: 키, ARGV[1]: 증가량, ARGV[2]: 만료(ms)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of("""
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if redis.call('PTTL', KEYS[1]) < 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return value
+            """, Long.class);
+
+    public RedisKeyValueStore(RedisConnectionFactory connectionFactory, StringRedisTemplate defaultRedisTemplate,
+            ObjectProvider<RedisNearCache> nearCacheProvider, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.nearCacheProvider = nearCacheProvider;
+        this.commandTimeout = Duration.ofMillis(appProperties.getRedisKvCommandTimeoutMillis());
+        this.dedicatedConnectionFactory = createDedicatedConnectionFactory(connectionFactory, commandTimeout);
+        this.redisTemplate = dedicatedConnectionFactory != null
+            ? new StringRedisTemplate(dedicatedConnectionFactory)
+            : defaultRedisTemplate;
+
+        this.circuitBreaker = new CircuitBreaker(
+            "redis-kv",
+            appProperties.getRedisCircuitWindowSize(),
+            appProperties.getRedisCircuitMinCalls(),
+            appProperties.getRedisCircuitFailureRateThreshold(),
+            appProperties.getRedisCircuitOpenMillis(),
+            appProperties.getRedisCircuitHalfOpenCalls());
+
+        Gauge.builder("redis.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+            .description("Redis 회로 상태 (0: 닫힘, 1: 시험 중, 2: 열림)")
+            .tag("name", "redis-kv")
+            .register(meterRegistry);
+        FunctionCounter.builder("redis.circuit.rejected", circuitBreaker, CircuitBreaker::rejectedCount)
+            .description("회로가 열려 바로 거부한 Redis 호출 수")
+            .tag("name", "redis-kv")
+            .register(meterRegistry);
+        FunctionCounter.builder("redis.circuit.opened", circuitBreaker, CircuitBreaker::openedCount)
+            .description("Redis 회로가 열린 횟수")
+            .tag("name", "redis-kv")
+            .register(meterRegistry);
+        for (Command command : Command.values()) {
+            commandTimers.put(command, Timer.builder("redis.kv.commands")
+                .description("키-값 저장소 Redis 명령 실행 시간")
+                .tag("command", command.tagValue)
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 멈췄던 전용 연결을 다시 엽니다. (CRaC 복원 후)
+     */
+    @Override
+    public void start() {
+        if (dedicatedConnectionFactory != null && !dedicatedConnectionFactory.isRunning()) {
+            dedicatedConnectionFactory.start();
+        }
+    }
+
+    /**
+     * 전용 연결을 닫습니다. (종료, CRaC 체크포인트 전)
+     */
+    @Override
+    public void stop() {
+        if (dedicatedConnectionFactory != null) {
+            dedicatedConnectionFactory.stop();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return dedicatedConnectionFactory == null || dedicatedConnectionFactory.isRunning();
+    }
+
+    /**
+     * 기본 Redis 연결 팩토리와 같은 단계에서 시작하고 멈춥니다.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * 전용 연결 팩토리를 정리합니다.
+     */
+    @PreDestroy
+    public void close() {
+        if (dedicatedConnectionFactory != null) {
+            dedicatedConnectionFactory.destroy();
+        }
+    }
+
+    @Override
+    public String get(String key) {
+        return call(Command.GET, () -> redisTemplate.opsForValue().get(key));
+    }
+
+    /**
+     * 클라이언트 측 캐시({@link RedisNearCache})가 활성 상태이면 캐시에서, 아니면 Redis에서 읽습니다.
+     */
+    @Override
+    public String getCached(String key) {
+        RedisNearCache nearCache = nearCacheProvider.getIfAvailable();
+        return nearCache != null && nearCache.isActive() ? call(Command.GET_CACHED, () -> nearCache.get(key)) : get(key);
+    }
+
+    @Override
+    public boolean isReadCached() {
+        RedisNearCache nearCache = nearCacheProvider.getIfAvailable();
+        return nearCache != null && nearCache.isActive() && circuitBreaker.state() == CircuitBreaker.State.CLOSED;
+    }
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        call(Command.SET, () -> {
+            redisTemplate.opsForValue().set(key, value, ttl);
+            return null;
+        });
+    }
+
+    @Override
+    public long incrementWithExpiry(String key, long delta, Duration ttl) {
+        Long value = call(Command.INCREMENT, () -> redisTemplate.execute(INCREMENT_SCRIPT, List.of(key), String.valueOf(delta), String.valueOf(ttl.toMillis())));
+        return value != null ? value : 0;
+    }
+
+    @Override
+    public long delete(Collection<String> keys) {
+        Long deleted = call(Command.DELETE, () -> redisTemplate.delete(keys));
+        return deleted != null ? deleted : 0;
+    }
+
+    @Override
+    public long getExpireMillis(String key) {
+        Long ttl = call(Command.PTTL, () -> redisTemplate.getExpire(key, TimeUnit.MILLISECONDS));
+        return ttl != null ? ttl : -2;
+    }
+
+    @Override
+    public <T> T execute(KeyValueScript<T> script, List<String> keys, String... args) {
+        return call(Command.EVAL, () -> redisTemplate.execute(script.redisScript(), keys, (Object[]) args));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> executeAll(KeyValueScript<T> script, List<KeyValueScript.Call> calls) {
+        if (calls.size() == 1) {
+            KeyValueScript.Call call = calls.get(0);
+            return List.of(execute(script, call.keys(), call.args().toArray(String[]::new)));
+        }
+
+        List<Object> replies = call(Command.EVAL_PIPELINE, () -> {
+            try {
+                return evalPipelined(script.redisScript(), calls);
+            } catch (DataAccessException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                preload(script);
+                return evalPipelined(script.redisScript(), calls);
+            }
+        });
+
+        List<T> results = new ArrayList<>(replies.size());
+        for (Object reply : replies) {
+            results.add((T) reply);
+        }
+        return results;
+    }
+
+    /**
+     * 스크립트를 Redis에 등록합니다.
+     * 
+     * <p>등록하지 못하더라도 단건 실행 시 EVAL로 등록되므로 오류는 기록만 합니다.</p>
+     */
+    @Override
+    public void preload(KeyValueScript<?>... scripts) {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (KeyValueScript<?> script : scripts) {
+                    connection.scriptingCommands().scriptLoad(bytes(script.redisScript().getScriptAsString()));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("스크립트 등록 실패 - error: {}", e.getMessage());
+        }
+    }
+
+
+    /**
+     * 저장소 명령으로 표현되지 않는 Redis 호출을 전용 연결과 회로 차단기를 거쳐 실행합니다.
+     * 
+     * <p>회로가 열려 있으면 Redis를 호출하지 않고 바로 {@link ServiceUnavailableException}을 발생시킵니다.</p>
+     * 
+     * @param command 타이머 태그로 쓸 명령
+     * @param operation 전용 연결 템플릿으로 실행할 호출
+     * @return 호출 결과
+     */
+    <T> T executeDirect(Command command, Function<StringRedisTemplate, T> operation) {
+        return call(command, () -> operation.apply(redisTemplate));
+    }
+
+    /**
+     * 회로가 열려 있어 호출이 바로 거부되는 상태인지 확인합니다. (시험 호출 대기 시간 포함)
+     */
+    boolean isCircuitOpen() {
+        return circuitBreaker.remainingOpenMillis() > 0;
+    }
+
+
+    /**
+     * 클라이언트 측 캐시({@link RedisNearCache})의 추적 연결용 클라이언트를 생성합니다.
+     * 
+     * <p>전용 연결과 같은 서버 설정, 명령 타임아웃, 스레드 자원을 쓰며 프로토콜만 RESP3로 고정합니다.
+     * 전용 연결이 없거나 시작되지 않았으면 {@code null}을 반환합니다.
+     * 자원은 전용 연결 팩토리 소유이므로 호출한 쪽은 팩토리가 멈추기 전에 클라이언트를 종료해야 합니다.</p>
+     */
+    RedisClient createTrackingClient() {
+        if (dedicatedConnectionFactory == null || !dedicatedConnectionFactory.isRunning()) {
+            return null;
+        }
+        AbstractRedisClient dedicatedClient = dedicatedConnectionFactory.getNativeClient();
+        if (dedicatedClient == null) {
+            return null;
+        }
+
+        RedisStandaloneConfiguration standalone = dedicatedConnectionFactory.getStandaloneConfiguration();
+        LettuceClientConfiguration clientConfiguration = dedicatedConnectionFactory.getClientConfiguration();
+        RedisURI.Builder uri = RedisURI.builder()
+            .withHost(standalone.getHostName())
+            .withPort(standalone.getPort())
+            .withDatabase(standalone.getDatabase())
+            .withTimeout(commandTimeout)
+            .withSsl(clientConfiguration.isUseSsl())
+            .withVerifyPeer(clientConfiguration.isVerifyPeer())
+            .withStartTls(clientConfiguration.isStartTls());
+        standalone.getPassword().toOptional().ifPresent(password -> {
+            if (standalone.getUsername() != null) {
+                uri.withAuthentication(standalone.getUsername(), password);
+            } else {
+                uri.withPassword(password);
+            }
+        });
+        clientConfiguration.getClientName().ifPresent(uri::withClientName);
+
+        RedisClient trackingClient = RedisClient.create(dedicatedClient.getResources(), uri.build());
+        trackingClient.setOptions(dedicatedClient.getOptions().mutate()
+            .protocolVersion(ProtocolVersion.RESP3)
+            .build());
+        return trackingClient;
+    }
+
+
+    /**
+     * 회로 차단기를 거쳐 Redis를 호출합니다.
+     * 
+     * <p>연결 실패와 타임아웃만 실패로 기록하며, 그 외 오류(잘못된 명령 등)는 Redis가 응답한 것으로 보고 그대로 전달합니다.
+     * {@link Error}처럼 결과를 판정할 수 없는 경우에는 허용만 반납하여 시험 호출 자리가 남지 않도록 합니다.</p>
+     */
+    private <T> T call(Command command, Supplier<T> operation) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE, (circuitBreaker.remainingOpenMillis() + 999) / 1000);
+        }
+
+        long startNanos = System.nanoTime();
+        boolean recorded = false;
+        try {
+            T result = operation.get();
+            recorded = true;
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            recorded = true;
+            if (!isUnavailable(e)) {
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+            circuitBreaker.onFailure();
+            log.warn("Redis 호출 실패 - command: {}, error: {}", command.tagValue, e.getMessage());
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE, 0, e);
+        } finally {
+            // Error 등 결과를 판정할 수 없는 예외로 끝나면 시험 호출 허용만 반납
+            if (!recorded) {
+                circuitBreaker.release();
+            }
+            commandTimers.get(command).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+
+    private boolean isUnavailable(RuntimeException e) {
+        if (e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException) {
+            return true;
+        }
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return cause instanceof RedisCommandTimeoutException
+            || cause instanceof RedisConnectionException
+            || cause instanceof TimeoutException;
+    }
+
+
+    /**
+     * 짧은 명령 타임아웃을 쓰는 전용 연결 팩토리를 생성합니다.
+     * 
+     * <p>독립 실행형 Lettuce 연결만 지원하며, 그 외 구성에서는 {@code null}을 반환하여 기본 연결을 사용합니다.</p>
+     */
+    private static LettuceConnectionFactory createDedicatedConnectionFactory(RedisConnectionFactory connectionFactory, Duration commandTimeout) {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory)
+                || lettuceConnectionFactory.getSentinelConfiguration() != null
+                || lettuceConnectionFactory.getClusterConfiguration() != null) {
+            log.warn("키-값 저장소 전용 연결 미사용, 기본 연결 사용 - 독립 실행형 Lettuce 구성 필요");
+            return null;
+        }
+
+        LettuceClientConfiguration defaults = lettuceConnectionFactory.getClientConfiguration();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+            .commandTimeout(commandTimeout)
+            .shutdownTimeout(defaults.getShutdownTimeout());
+        if (defaults.isUseSsl()) {
+            LettuceClientConfiguration.LettuceSslClientConfigurationBuilder sslBuilder = builder.useSsl();
+            if (!defaults.isVerifyPeer()) {
+                sslBuilder.disablePeerVerification();
+            }
+            if (defaults.isStartTls()) {
+                sslBuilder.startTls();
+            }
+        }
+        defaults.getClientOptions().ifPresent(builder::clientOptions);
+        defaults.getClientResources().ifPresent(builder::clientResources);
+        defaults.getClientName().ifPresent(builder::clientName);
+
+        LettuceConnectionFactory dedicated = new LettuceConnectionFactory(lettuceConnectionFactory.getStandaloneConfiguration(), builder.build());
+        dedicated.afterPropertiesSet();
+        dedicated.start();
+        return dedicated;
+    }
+
+
+    private List<Object> evalPipelined(RedisScript<?> script, List<KeyValueScript.Call> calls) {
+        String sha = script.getSha1();
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (KeyValueScript.Call call : calls) {
+                byte[][] keysAndArgs = new byte[call.keys().size() + call.args().size()][];
+                int index = 0;
+                for (String key : call.keys()) {
+                    keysAndArgs[index++] = bytes(key);
+                }
+                for (String arg : call.args()) {
+                    keysAndArgs[index++] = bytes(arg);
+                }
+                connection.scriptingCommands().evalSha(sha, returnType, call.keys().size(), keysAndArgs);
+            }
+            return null;
+        });
+    }
+
+
+    private boolean isNoScript(DataAccessException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.contains("NOSCRIPT");
+    }
+
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * 타이머 태그로 쓰는 저장소 명령
+     */
+    public enum Command {
+        GET("get"),
+        // 클라이언트 측 캐시를 거친 조회
+        GET_CACHED("get-cached"),
+        SET("set"),
+        INCREMENT("incr"),
+        DELETE("del"),
+        PTTL("pttl"),
+        EVAL("evalsha"),
+        // 파이프라인 한 번으로 실행한 스크립트 묶음
+        EVAL_PIPELINE("evalsha-pipeline"),
+        // 저장소 밖에서 직접 실행하는 호출 ({@link RedisCommandExecutor})
+        SESSION_REGISTRY("session-registry"),
+        MAIL_OUTBOX("mail-outbox"),
+        EMAIL_BLOOM("email-bloom");
+
+        private final String tagValue;
+
+        Command(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        String tagValue() {
+            return tagValue;
+        }
+    }
+
+}
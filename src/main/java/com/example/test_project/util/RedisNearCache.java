@@ -0,0 +1,244 @@
+package com.example.test_project.util;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.config.properties.AppProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.CacheFrontend;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Redis 클라이언트 측 캐시 ({@code app.redis-near-cache-enabled=true})
+ * 
+ * <p>추적 전용 연결에서 RESP3 {@code CLIENT TRACKING}을 켜고, 읽은 값을 크기 제한이 있는 로컬 맵에 보관합니다.
+ * 다른 클라이언트가 키를 바꾸거나 지우거나 만료되면 Redis가 무효화 메시지를 보내 로컬 값이 제거되므로,
+ * 쓰기보다 읽기가 훨씬 많은 키는 Redis 왕복 없이 읽을 수 있습니다.</p>
+ * 
+ * <p>추적 연결은 {@link RedisKeyValueStore}의 전용 연결과 같은 설정(짧은 명령 타임아웃)으로 만들고,
+ * 조회는 저장소의 회로 차단기를 거칩니다. 프로토콜은 RESP3로 고정하며, 연결 후 {@code CLIENT INFO}로
+ * RESP3가 실제로 협상되었는지 확인합니다. 협상되지 않았거나(Redis 6.2 미만 등) 전용 연결이 없으면
+ * 비활성 상태가 되어 호출한 쪽이 일반 조회를 사용합니다.
+ * 연결이 끊기면 무효화 메시지를 놓칠 수 있으므로 로컬 값을 모두 비우고, 다시 연결되면 추적을 다시 켠 뒤 사용합니다.</p>
+ * 
+ * <p>컨텍스트 생명주기를 따르므로 CRaC 체크포인트 전에 추적 연결을 닫고 로컬 값을 비우며,
+ * 복원 후 키-값 저장소의 전용 연결이 다시 시작된 다음 새 연결로 추적을 켭니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app", name = "redis-near-cache-enabled", havingValue = "true")
+public class RedisNearCache implements SmartLifecycle {
+
+    private final ObjectProvider<RedisKeyValueStore> keyValueStoreProvider;
+    private final Cache<String, String> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final TrackingConnectionListener connectionListener = new TrackingConnectionListener();
+
+    private volatile boolean running;
+    private volatile RedisClient client;
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile CacheFrontend<String, String> frontend;
+    private volatile boolean active;
+
+    public RedisNearCache(ObjectProvider<RedisKeyValueStore> keyValueStoreProvider, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.keyValueStoreProvider = keyValueStoreProvider;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(appProperties.getRedisNearCacheMaxSize())
+            // 무효화 메시지를 놓친 경우를 대비한 상한
+            .expireAfterWrite(Duration.ofSeconds(appProperties.getRedisNearCacheTtlSeconds()))
+            .build();
+
+        this.hitCounter = Counter.builder("redis.nearcache.requests")
+            .description("클라이언트 측 캐시 조회 수")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("redis.nearcache.requests")
+            .description("클라이언트 측 캐시 조회 수")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("redis.nearcache.size", cache, Cache::estimatedSize)
+            .description("클라이언트 측 캐시 항목 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 추적 전용 연결을 열고 클라이언트 측 캐시를 켭니다.
+     * 
+     * <p>RESP3가 협상되지 않았거나 실패하면 비활성 상태로 두고 경고만 기록합니다.</p>
+     */
+    @Override
+    public void start() {
+        running = true;
+        RedisKeyValueStore keyValueStore = keyValueStoreProvider.getIfAvailable();
+        RedisClient trackingClient = keyValueStore != null ? keyValueStore.createTrackingClient() : null;
+        if (trackingClient == null) {
+            log.warn("Redis 클라이언트 측 캐시 비활성 - 키-값 저장소 전용 연결 필요");
+            return;
+        }
+
+        client = trackingClient;
+        try {
+            trackingClient.addListener(connectionListener);
+            connection = trackingClient.connect(StringCodec.UTF8);
+            if (!isResp3(connection)) {
+                log.warn("Redis 클라이언트 측 캐시 비활성 - RESP3 미협상");
+                closeQuietly();
+                return;
+            }
+            frontend = ClientSideCaching.enable(CacheAccessor.forMap(cache.asMap()), connection, TrackingArgs.Builder.enabled());
+            active = true;
+            log.info("Redis 클라이언트 측 캐시 활성");
+        } catch (RuntimeException e) {
+            log.warn("Redis 클라이언트 측 캐시 비활성, 일반 조회 사용 - error: {}", e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    /**
+     * 캐시를 사용할 수 있는지 여부를 반환합니다.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 값을 조회합니다. 로컬에 없으면 Redis에서 읽고 추적을 등록합니다.
+     * 
+     * @param key 키
+     * @return 값 (없으면 {@code null})
+     * @throws IllegalStateException 비활성 상태인 경우
+     */
+    public String get(String key) {
+        CacheFrontend<String, String> current = frontend;
+        if (!active || current == null) {
+            throw new IllegalStateException("Redis near cache is not active");
+        }
+
+        if (cache.getIfPresent(key) != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return current.get(key);
+    }
+
+    /**
+     * 추적 연결을 닫고 로컬 값을 비웁니다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        active = false;
+        closeQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+
+    private void closeQuietly() {
+        try {
+            if (frontend != null) {
+                frontend.close();
+            } else if (connection != null) {
+                connection.close();
+            }
+        } catch (RuntimeException e) {
+            log.debug("Redis 클라이언트 측 캐시 연결 종료 실패 - error: {}", e.getMessage());
+        }
+        frontend = null;
+        connection = null;
+        cache.invalidateAll();
+
+        // 스레드 자원은 전용 연결 팩토리 소유이므로 클라이언트만 종료
+        RedisClient current = client;
+        client = null;
+        if (current != null) {
+            try {
+                current.shutdown(Duration.ZERO, Duration.ofSeconds(2));
+            } catch (RuntimeException e) {
+                log.debug("Redis 클라이언트 측 캐시 클라이언트 종료 실패 - error: {}", e.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * 연결에서 RESP3가 협상되었는지 확인합니다. ({@code CLIENT INFO}의 {@code resp} 항목, Redis 6.2 이상)
+     */
+    private static boolean isResp3(StatefulRedisConnection<String, String> connection) {
+        String info = connection.sync().clientInfo();
+        if (info == null) {
+            return false;
+        }
+        for (String field : info.trim().split(" ")) {
+            if (field.equals("resp=3")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 추적 연결이 끊기면 로컬 값을 비우고, 다시 연결되면 추적을 다시 켭니다.
+     */
+    private final class TrackingConnectionListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> channelHandler) {
+            if (channelHandler != connection) {
+                return;
+            }
+            active = false;
+            cache.invalidateAll();
+            log.warn("Redis 클라이언트 측 캐시 중단 - 추적 연결 끊김");
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> channelHandler, SocketAddress socketAddress) {
+            if (channelHandler != connection) {
+                return;
+            }
+            // 이벤트 루프에서 호출되므로 비동기로 추적을 다시 켬
+            connection.async().clientTracking(TrackingArgs.Builder.enabled()).whenComplete((reply, error) -> {
+                cache.invalidateAll();
+                if (error != null) {
+                    log.warn("Redis 클라이언트 측 캐시 추적 재설정 실패 - error: {}", error.getMessage());
+                    return;
+                }
+                active = true;
+                log.info("Redis 클라이언트 측 캐시 재개");
+            });
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> channelHandler, Throwable cause) {
+            // 연결 오류는 끊김/재연결 이벤트로 처리
+        }
+    }
+
+}
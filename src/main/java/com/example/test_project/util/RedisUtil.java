@@ -1,12 +1,13 @@
 package com.example.test_project.util;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import com.example.test_project.config.properties.AppProperties;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,17 +15,78 @@ import lombok.extern.slf4j.Slf4j;
  * Redis 캐시 관리 유틸리티 클래스
  * 
  * <p>회원가입 인증 코드와 비밀번호 재설정 토큰을 Redis에 저장하고 검증하는 기능을 제공합니다.</p>
+ * 
+ * <p>검증은 Lua 스크립트 한 번의 호출(EVALSHA)로 비교, 실패 횟수 증가, 삭제를 원자적으로 처리합니다.
+ * 실패 횟수가 {@code app.redis-verify-max-attempts}에 도달하면 인증 코드를 폐기하여
+ * 새 코드를 발급받기 전까지 추가 시도를 막습니다.</p>
+ * 
+ * <p>저장소는 {@link KeyValueStore}로 추상화되어 있어 {@code app.kv-store=memory}이면
+ * Redis 없이 프로세스 안에서 같은 동작을 합니다.
+ * 클라이언트 측 캐시({@code app.redis-near-cache-enabled})를 켜면 삭제하지 않는 검증이 일치하는 경우
+ * Redis 왕복 없이 판정합니다.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisUtil {
 
-    private final StringRedisTemplate redisTemplate;
+    private final KeyValueStore keyValueStore;
     private final AppProperties appProperties;
 
     private static final String SIGNUP_KEY_PREFIX = "signup:";
     private static final String RESET_KEY_PREFIX = "resetPassword:";
+    private static final String SIGNUP_ATTEMPTS_KEY_PREFIX = "signupAttempts:";
+    private static final String RESET_ATTEMPTS_KEY_PREFIX = "resetPasswordAttempts:";
+
+    // KEYS[1]: 인증 키, KEYS[2]: 실패 횟수 키, ARGV[1]: 입력 값, ARGV[2]: 최대 실패 횟수, ARGV[3]: 성공 시 삭제 여부
+    // 반환: 1 성공, 0 불일치, -1 키 없음, -2 실패 횟수 초과로 폐기
+    private static final KeyValueScript<Long> VERIFY_SCRIPT = KeyValueScript.of("""
+            local stored = redis.call('GET', KEYS[1])
+            if not stored then
+                return -1
+            end
+            if stored == ARGV[1] then
+                if ARGV[3] == '1' then
+                    redis.call('DEL', KEYS[1], KEYS[2])
+                end
+                return 1
+            end
+            local attempts = redis.call('INCR', KEYS[2])
+            if attempts == 1 then
+                local ttl = redis.call('PTTL', KEYS[1])
+                if ttl > 0 then
+                    redis.call('PEXPIRE', KEYS[2], ttl)
+                end
+            end
+            if attempts >= tonumber(ARGV[2]) then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return -2
+            end
+            return 0
+            """, Long.class, RedisUtil::verify);
+
+    /**
+     * 인증 키 검증 결과
+     */
+    public enum VerificationResult {
+        // 일치
+        VERIFIED,
+        // 불일치
+        MISMATCH,
+        // 키 없음 또는 만료
+        NOT_FOUND,
+        // 실패 횟수 초과로 폐기됨
+        LOCKED
+    }
+
+
+    /**
+     * 검증 스크립트를 저장소에 미리 등록합니다.
+     */
+    @PostConstruct
+    public void loadScripts() {
+        keyValueStore.preload(VERIFY_SCRIPT);
+    }
 
     // ==================== 회원가입 관련 메서드 ====================
 
@@ -39,27 +101,38 @@ public class RedisUtil {
         validateParameters(email, value);
         String key = SIGNUP_KEY_PREFIX + email;
 
-        redisTemplate.opsForValue().set(
-            key,
-            value,
-            appProperties.getRedisTtlSignup(),
-            TimeUnit.SECONDS
-        );
+        keyValueStore.set(key, value, Duration.ofSeconds(appProperties.getRedisTtlSignup()));
+        keyValueStore.delete(List.of(SIGNUP_ATTEMPTS_KEY_PREFIX + email));
 
         log.debug("Signup key saved for email: {}", email);
     }
 
     /**
-     * 회원가입 인증 키를 검증합니다.
+     * 회원가입 인증 키를 검증합니다. 성공해도 키는 삭제하지 않습니다.
      * 
      * @param email 사용자 이메일
      * @param value 검증할 인증 코드 또는 토큰
-     * @return 인증 성공 시 {@code true}, 실패 시 {@code false}
+     * @return 검증 결과 (실패 횟수 초과 시 {@link VerificationResult#LOCKED})
      * @throws IllegalArgumentException email 또는 value가 null이거나 빈 값인 경우
      */
-    public boolean verifySignupKey(String email, String value) {
+    public VerificationResult verifySignupKey(String email, String value) {
         validateParameters(email, value);
-        return verifyKey(SIGNUP_KEY_PREFIX + email, value);
+        return verifyKey(SIGNUP_KEY_PREFIX + email, SIGNUP_ATTEMPTS_KEY_PREFIX + email, value, false);
+    }
+
+    /**
+     * 회원가입 인증 키를 검증하고, 일치하면 같은 호출에서 삭제합니다.
+     * 
+     * <p>동시에 같은 코드로 요청해도 한 요청만 성공합니다.</p>
+     * 
+     * @param email 사용자 이메일
+     * @param value 검증할 인증 코드 또는 토큰
+     * @return 검증 결과 (실패 횟수 초과 시 {@link VerificationResult#LOCKED})
+     * @throws IllegalArgumentException email 또는 value가 null이거나 빈 값인 경우
+     */
+    public VerificationResult consumeSignupKey(String email, String value) {
+        validateParameters(email, value);
+        return verifyKey(SIGNUP_KEY_PREFIX + email, SIGNUP_ATTEMPTS_KEY_PREFIX + email, value, true);
     }
 
     /**
@@ -70,7 +143,7 @@ public class RedisUtil {
      */
     public void deleteSignupKey(String email) {
         validateEmail(email);
-        deleteKey(SIGNUP_KEY_PREFIX + email);
+        deleteKey(SIGNUP_KEY_PREFIX + email, SIGNUP_ATTEMPTS_KEY_PREFIX + email);
         log.debug("Signup key deleted for email: {}", email);
     }
 
@@ -89,27 +162,38 @@ public class RedisUtil {
         validateParameters(email, value);
         String key = RESET_KEY_PREFIX + email;
 
-        redisTemplate.opsForValue().set(
-            key,
-            value,
-            appProperties.getRedisTtlResetPassword(),
-            TimeUnit.SECONDS
-        );
+        keyValueStore.set(key, value, Duration.ofSeconds(appProperties.getRedisTtlResetPassword()));
+        keyValueStore.delete(List.of(RESET_ATTEMPTS_KEY_PREFIX + email));
 
         log.debug("Reset password key saved for email: {}", email);
     }
 
     /**
-     * 비밀번호 재설정 키를 검증합니다.
+     * 비밀번호 재설정 키를 검증합니다. 성공해도 키는 삭제하지 않습니다.
      * 
      * @param email 사용자 이메일
      * @param value 검증할 재설정 토큰
-     * @return 인증 성공 시 {@code true}, 실패 시 {@code false}
+     * @return 검증 결과 (실패 횟수 초과 시 {@link VerificationResult#LOCKED})
      * @throws IllegalArgumentException email 또는 value가 null이거나 빈 값인 경우
      */
-    public boolean verifyResetPasswordKey(String email, String value) {
+    public VerificationResult verifyResetPasswordKey(String email, String value) {
         validateParameters(email, value);
-        return verifyKey(RESET_KEY_PREFIX + email, value);
+        return verifyKey(RESET_KEY_PREFIX + email, RESET_ATTEMPTS_KEY_PREFIX + email, value, false);
+    }
+
+    /**
+     * 비밀번호 재설정 키를 검증하고, 일치하면 같은 호출에서 삭제합니다.
+     * 
+     * <p>동시에 같은 코드로 요청해도 한 요청만 성공합니다.</p>
+     * 
+     * @param email 사용자 이메일
+     * @param value 검증할 재설정 토큰
+     * @return 검증 결과 (실패 횟수 초과 시 {@link VerificationResult#LOCKED})
+     * @throws IllegalArgumentException email 또는 value가 null이거나 빈 값인 경우
+     */
+    public VerificationResult consumeResetPasswordKey(String email, String value) {
+        validateParameters(email, value);
+        return verifyKey(RESET_KEY_PREFIX + email, RESET_ATTEMPTS_KEY_PREFIX + email, value, true);
     }
 
     /**
@@ -120,7 +204,7 @@ public class RedisUtil {
      */
     public void deleteResetPasswordKey(String email) {
         validateEmail(email);
-        deleteKey(RESET_KEY_PREFIX + email);
+        deleteKey(RESET_KEY_PREFIX + email, RESET_ATTEMPTS_KEY_PREFIX + email);
         log.debug("Reset password key deleted for email: {}", email);
     }
 
@@ -140,32 +224,81 @@ public class RedisUtil {
 
         String prefix = "signup".equalsIgnoreCase(keyType) ? SIGNUP_KEY_PREFIX : RESET_KEY_PREFIX;
 
-        Long ttl = redisTemplate.getExpire(prefix + email, TimeUnit.SECONDS);
-        return ttl != null ? ttl : -1;
+        long ttlMillis = keyValueStore.getExpireMillis(prefix + email);
+        return ttlMillis >= 0 ? ttlMillis / 1000 : -1;
     }
 
     /**
-     * Redis에서 키 값을 검증합니다.
+     * 저장소에서 키 값을 검증합니다. (스크립트 1회 호출)
      */
-    private boolean verifyKey(String key, String value) {
-        String storedValue = redisTemplate.opsForValue().get(key);
-        boolean isValid = storedValue != null && storedValue.equals(value);
+    private VerificationResult verifyKey(String key, String attemptsKey, String value, boolean consume) {
+        // 삭제하지 않는 검증이 일치하면 부수 효과가 없으므로 클라이언트 측 캐시로 판정
+        // 불일치는 실패 횟수를 세야 하므로 항상 스크립트로 판정
+        if (!consume && keyValueStore.isReadCached() && value.equals(keyValueStore.getCached(key))) {
+            return VerificationResult.VERIFIED;
+        }
+
+        Long result = keyValueStore.execute(
+            VERIFY_SCRIPT,
+            List.of(key, attemptsKey),
+            value,
+            String.valueOf(appProperties.getRedisVerifyMaxAttempts()),
+            consume ? "1" : "0"
+        );
+
+        VerificationResult verificationResult = switch (result == null ? -1 : result.intValue()) {
+            case 1 -> VerificationResult.VERIFIED;
+            case 0 -> VerificationResult.MISMATCH;
+            case -2 -> VerificationResult.LOCKED;
+            default -> VerificationResult.NOT_FOUND;
+        };
 
-        if (!isValid) {
-            log.debug("Key verification failed for: {}", key);
+        if (verificationResult != VerificationResult.VERIFIED) {
+            log.debug("Key verification failed for: {}, result: {}", key, verificationResult);
         }
 
-        return isValid;
+        return verificationResult;
+    }
+
+    /**
+     * 저장소에서 키를 삭제합니다.
+     */
+    private void deleteKey(String... keys) {
+        long deleted = keyValueStore.delete(List.of(keys));
+        if (deleted > 0) {
+            log.debug("Key deleted: {}", keys[0]);
+        }
     }
 
     /**
-     * Redis에서 키를 삭제합니다.
+     * 검증 스크립트의 프로세스 내 저장소용 구현 (VERIFY_SCRIPT와 같은 동작)
      */
-    private void deleteKey(String key) {
-        Boolean deleted = redisTemplate.delete(key);
-        if (Boolean.TRUE.equals(deleted)) {
-            log.debug("Key deleted: {}", key);
+    private static Long verify(KeyValueScript.Context context, List<String> keys, List<String> args) {
+        Object stored = context.get(keys.get(0));
+        if (stored == null) {
+            return -1L;
+        }
+        if (stored.toString().equals(args.get(0))) {
+            if ("1".equals(args.get(2))) {
+                context.delete(keys.get(0));
+                context.delete(keys.get(1));
+            }
+            return 1L;
+        }
+
+        long attempts = context.increment(keys.get(1), 1);
+        if (attempts == 1) {
+            long ttl = context.ttl(keys.get(0));
+            if (ttl > 0) {
+                context.expire(keys.get(1), ttl);
+            }
+        }
+        if (attempts >= Long.parseLong(args.get(1))) {
+            context.delete(keys.get(0));
+            context.delete(keys.get(1));
+            return -2L;
         }
+        return 0L;
     }
 
     /**
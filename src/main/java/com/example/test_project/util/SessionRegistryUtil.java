@@ -0,0 +1,406 @@
+package com.example.test_project.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.util.RedisKeyValueStore.Command;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 로그인 세션 레지스트리 유틸리티 클래스
+ * 
+ * <p>tokens 테이블의 사용자별 세션 목록을 Redis에 미러링합니다.
+ * 발급 시각(epoch ms)을 score로 하는 Sorted Set으로 순서를 유지하고,
+ * 세션 상세 정보는 Hash에 JSON으로 보관합니다.</p>
+ * 
+ * <p>레지스트리가 없는 사용자는 DB에서 한 번 적재한 뒤 사용합니다.
+ * 로그인/삭제는 적재 여부와 관계없이 항상 반영하고, 적재는 기존 값을 지우지 않고 병합하므로
+ * DB를 읽은 뒤 적재하기 전에 추가/삭제된 세션도 누락되거나 되살아나지 않습니다.
+ * (적재 전 삭제는 삭제 표시를 남겨 스냅샷에서 제외)</p>
+ * 
+ * <p>모든 키에는 TTL이 있고 세션 추가/사용 시 연장되므로, 사용 중인 레지스트리는 유지되고
+ * 반영 누락이 있더라도 사용이 끊기면 일정 시간 후 DB 기준으로 다시 적재됩니다.</p>
+ * 
+ * <p>Redis 호출은 {@link RedisCommandExecutor}로 짧은 타임아웃 전용 연결과 회로 차단기를 거칩니다.
+ * 조회와 적재는 회로가 열려 있으면 바로 실패하고, 추가/갱신/삭제 반영은 캐시 반영이므로 건너뜁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionRegistryUtil {
+
+    private final RedisCommandExecutor redisCommandExecutor;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+
+    private static final String INDEX_KEY_PREFIX = "sessions:";
+    private static final String DATA_KEY_PREFIX = "sessionData:";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String CURSOR_DELIMITER = "_";
+
+    private static final String REMOVED_FIELD_PREFIX = "_removed:";
+
+    // 적재 여부와 관계없이 세션 추가 (적재 중인 스냅샷보다 새 값이므로 적재 시 덮어쓰지 않음)
+    // KEYS[1]: 인덱스, KEYS[2]: 데이터, ARGV[1]: 발급 시각(ms), ARGV[2]: Refresh Token, ARGV[3]: 세션 JSON, ARGV[4]: TTL(초)
+    private static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // 세션이 있는 경우에만 마지막 사용 시각 갱신 후 TTL 연장
+    // KEYS[1]: 인덱스, KEYS[2]: 데이터, ARGV[1]: Refresh Token, ARGV[2]: 마지막 사용 시각, ARGV[3]: TTL(초)
+    private static final RedisScript<Long> TOUCH_SCRIPT = RedisScript.of("""
+            local value = redis.call('HGET', KEYS[2], ARGV[1])
+            if value then
+                local session = cjson.decode(value)
+                session['lastUsedAt'] = ARGV[2]
+                redis.call('HSET', KEYS[2], ARGV[1], cjson.encode(session))
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 세션 제거, 적재 전이면 적재 중인 스냅샷에서 제외되도록 삭제 표시
+    // KEYS[1]: 인덱스, KEYS[2]: 데이터, ARGV[1]: Refresh Token, ARGV[2]: 적재 완료 필드, ARGV[3]: 삭제 표시 접두사, ARGV[4]: TTL(초)
+    private static final String REMOVE_SCRIPT = """
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            if redis.call('HEXISTS', KEYS[2], ARGV[2]) == 0 then
+                redis.call('HSET', KEYS[2], ARGV[3] .. ARGV[1], '1')
+                redis.call('EXPIRE', KEYS[2], ARGV[4])
+            end
+            return 1
+            """;
+
+    // 적재되지 않은 경우에만 스냅샷 병합 (이미 있는 세션과 삭제 표시된 세션은 건너뜀) 후 적재 완료 표시
+    // KEYS[1]: 인덱스, KEYS[2]: 데이터, ARGV[1]: 적재 완료 필드, ARGV[2]: 삭제 표시 접두사, ARGV[3]: TTL(초)
+    // ARGV[4..]: (발급 시각(ms), Refresh Token, 세션 JSON) 반복
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then
+                return 0
+            end
+            for i = 4, #ARGV, 3 do
+                local token = ARGV[i + 1]
+                if redis.call('HEXISTS', KEYS[2], ARGV[2] .. token) == 0 then
+                    redis.call('ZADD', KEYS[1], 'NX', ARGV[i], token)
+                    redis.call('HSETNX', KEYS[2], token, ARGV[i + 2])
+                end
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+
+    /**
+     * 레지스트리에 보관되는 세션 정보
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Session {
+
+        private Integer tokenNo;
+
+        private String refreshToken;
+
+        // 클라이언트 OS 정보
+        private String clientOs;
+
+        // 토큰 발급 시각
+        private LocalDateTime createdAt;
+
+        // 마지막 사용 시각
+        private LocalDateTime lastUsedAt;
+
+        // Refresh Token 만료 시각
+        private LocalDateTime refreshTokenExpiresAt;
+    }
+
+
+    /**
+     * 세션 목록 조회 결과
+     * 
+     * @param sessions 세션 목록 (발급 시각 내림차순)
+     * @param nextCursor 다음 페이지 커서, 마지막 페이지면 {@code null}
+     */
+    public record SessionPage(List<Session> sessions, String nextCursor) {
+    }
+
+
+
+    // ==================== 조회 ====================
+
+    /**
+     * 사용자의 레지스트리가 적재되어 있는지 확인합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @return 적재된 경우 {@code true}
+     */
+    public boolean isLoaded(int userNo) {
+        return redisCommandExecutor.execute(Command.SESSION_REGISTRY,
+                redisTemplate -> Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(DATA_KEY_PREFIX + userNo, LOADED_FIELD)));
+    }
+
+    /**
+     * 발급 시각 내림차순으로 세션 목록을 조회합니다.
+     * 
+     * <p>커서는 직전 페이지 마지막 세션의 {@code 발급시각(ms)_refreshToken} 값이며,
+     * 발급 시각이 같은 세션도 누락 없이 이어서 조회합니다.
+     * activeOnly가 {@code true}이면 만료된 세션을 건너뛰고 size를 채울 때까지 더 읽습니다.</p>
+     * 
+     * @param userNo 사용자 번호
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 {@code null}
+     * @param size 페이지 크기
+     * @param activeOnly 만료되지 않은 세션만 조회할지 여부
+     * @param now 만료 판단 기준 시각
+     * @return 세션 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public SessionPage findPage(int userNo, String cursor, int size, boolean activeOnly, LocalDateTime now) {
+        String indexKey = INDEX_KEY_PREFIX + userNo;
+        String dataKey = DATA_KEY_PREFIX + userNo;
+
+        double maxScore = Double.POSITIVE_INFINITY;
+        String cursorMember = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int delimiter = cursor.indexOf(CURSOR_DELIMITER);
+            if (delimiter <= 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            maxScore = Long.parseLong(cursor.substring(0, delimiter));
+            cursorMember = cursor.substring(delimiter + 1);
+        }
+
+        List<Session> result = new ArrayList<>(size);
+        long offset = 0;
+
+        while (true) {
+            Set<TypedTuple<String>> tuples = reverseRange(indexKey, maxScore, offset, size);
+            if (tuples == null || tuples.isEmpty()) {
+                return new SessionPage(result, null);
+            }
+            offset += tuples.size();
+
+            // 커서와 발급 시각이 같은 세션 중 이미 반환한 세션 제외 (같은 score는 member 역순)
+            List<TypedTuple<String>> candidates = new ArrayList<>(tuples.size());
+            for (TypedTuple<String> tuple : tuples) {
+                if (cursorMember != null && tuple.getScore() != null && tuple.getScore() == maxScore
+                        && tuple.getValue().compareTo(cursorMember) >= 0) {
+                    continue;
+                }
+                candidates.add(tuple);
+            }
+
+            List<Object> fields = new ArrayList<>(candidates.size());
+            candidates.forEach(tuple -> fields.add(tuple.getValue()));
+            List<Object> values = fields.isEmpty() ? List.of()
+                    : redisCommandExecutor.execute(Command.SESSION_REGISTRY, redisTemplate -> redisTemplate.opsForHash().multiGet(dataKey, fields));
+
+            for (int i = 0; i < candidates.size(); i++) {
+                Session session = deserialize(values.get(i));
+                if (session == null) {
+                    continue;
+                }
+                if (activeOnly && !now.isBefore(session.getRefreshTokenExpiresAt())) {
+                    continue;
+                }
+
+                result.add(session);
+                if (result.size() == size) {
+                    TypedTuple<String> last = candidates.get(i);
+                    return new SessionPage(result, last.getScore().longValue() + CURSOR_DELIMITER + last.getValue());
+                }
+            }
+
+            if (tuples.size() < size) {
+                return new SessionPage(result, null);
+            }
+        }
+    }
+
+
+
+    // ==================== 변경 ====================
+
+    /**
+     * DB에서 읽은 세션 목록을 사용자의 레지스트리에 적재합니다.
+     * 
+     * <p>스크립트 한 번으로 원자적으로 처리하며, 기존 값을 지우지 않고 병합합니다.
+     * DB를 읽은 뒤 추가된 세션은 그대로 두고, 삭제 표시된 세션은 스냅샷에 있어도 넣지 않습니다.
+     * 이미 다른 요청이 적재했다면 아무것도 하지 않습니다.</p>
+     * 
+     * @param userNo 사용자 번호
+     * @param sessions 사용자의 전체 세션 목록
+     */
+    public void load(int userNo, Collection<Session> sessions) {
+        List<String> args = new ArrayList<>(3 + sessions.size() * 3);
+        args.add(LOADED_FIELD);
+        args.add(REMOVED_FIELD_PREFIX);
+        args.add(String.valueOf(appProperties.getSessionRegistryTtlSeconds()));
+        for (Session session : sessions) {
+            args.add(String.valueOf(toScore(session.getCreatedAt())));
+            args.add(session.getRefreshToken());
+            args.add(serialize(session));
+        }
+
+        Long loaded = redisCommandExecutor.execute(Command.SESSION_REGISTRY,
+                redisTemplate -> redisTemplate.execute(LOAD_SCRIPT, List.of(INDEX_KEY_PREFIX + userNo, DATA_KEY_PREFIX + userNo), args.toArray()));
+        log.debug("세션 레지스트리 적재 - userNo: {}, sessions: {}, merged: {}", userNo, sessions.size(), loaded != null && loaded == 1);
+    }
+
+    /**
+     * 새 세션을 레지스트리에 추가합니다.
+     * 
+     * <p>적재되지 않은 사용자도 추가해 두며, 이후 적재 시 스냅샷과 병합됩니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.</p>
+     * 
+     * @param userNo 사용자 번호
+     * @param session 추가할 세션
+     */
+    public void add(int userNo, Session session) {
+        afterCommit(redisTemplate -> redisTemplate.execute(ADD_SCRIPT,
+                List.of(INDEX_KEY_PREFIX + userNo, DATA_KEY_PREFIX + userNo),
+                String.valueOf(toScore(session.getCreatedAt())),
+                session.getRefreshToken(),
+                serialize(session),
+                String.valueOf(appProperties.getSessionRegistryTtlSeconds())));
+    }
+
+    /**
+     * 세션의 마지막 사용 시각을 갱신하고 레지스트리 TTL을 연장합니다.
+     * 
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.</p>
+     * 
+     * @param userNo 사용자 번호
+     * @param refreshToken 세션의 Refresh Token
+     * @param lastUsedAt 마지막 사용 시각
+     */
+    public void touch(int userNo, String refreshToken, LocalDateTime lastUsedAt) {
+        afterCommit(redisTemplate -> redisTemplate.execute(TOUCH_SCRIPT,
+                List.of(INDEX_KEY_PREFIX + userNo, DATA_KEY_PREFIX + userNo),
+                refreshToken,
+                lastUsedAt.toString(),
+                String.valueOf(appProperties.getSessionRegistryTtlSeconds())));
+    }
+
+    /**
+     * 세션을 레지스트리에서 제거합니다.
+     * 
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.</p>
+     * 
+     * @param userNo 사용자 번호
+     * @param refreshToken 제거할 세션의 Refresh Token
+     */
+    public void remove(int userNo, String refreshToken) {
+        removeAll(Map.of(refreshToken, userNo));
+    }
+
+    /**
+     * 여러 세션을 한 번의 파이프라인으로 레지스트리에서 제거합니다.
+     * 
+     * <p>적재되지 않은 사용자는 삭제 표시를 남겨, 진행 중인 적재가 이전 스냅샷으로 세션을 되살리지 않도록 합니다.</p>
+     * 
+     * @param userNoByRefreshToken Refresh Token별 사용자 번호
+     */
+    public void removeAll(Map<String, Integer> userNoByRefreshToken) {
+        if (userNoByRefreshToken.isEmpty()) {
+            return;
+        }
+
+        String ttl = String.valueOf(appProperties.getSessionRegistryTtlSeconds());
+        afterCommit(redisTemplate -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            userNoByRefreshToken.forEach((refreshToken, userNo) -> stringConnection.eval(REMOVE_SCRIPT, ReturnType.INTEGER, 2,
+                    INDEX_KEY_PREFIX + userNo, DATA_KEY_PREFIX + userNo, refreshToken, LOADED_FIELD, REMOVED_FIELD_PREFIX, ttl));
+            return null;
+        }));
+    }
+
+
+
+    // ==================== 공통 메서드 ====================
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에, 아니면 즉시 실행합니다.
+     * 
+     * <p>레지스트리는 캐시이므로 회로가 열려 있으면 건너뛰고, Redis 오류는 기록만 하고 요청을 실패시키지 않습니다.</p>
+     */
+    private void afterCommit(Consumer<StringRedisTemplate> action) {
+        Runnable safeAction = () -> redisCommandExecutor.executeBestEffort(Command.SESSION_REGISTRY, action);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+
+    private Set<TypedTuple<String>> reverseRange(String indexKey, double maxScore, long offset, int count) {
+        return redisCommandExecutor.execute(Command.SESSION_REGISTRY, redisTemplate -> redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(indexKey, Double.NEGATIVE_INFINITY, maxScore, offset, count));
+    }
+
+    private long toScore(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String serialize(Session session) {
+        try {
+            return objectMapper.writeValueAsString(session);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Session serialization failed", e);
+        }
+    }
+
+    private Session deserialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(value.toString(), Session.class);
+        } catch (JsonProcessingException e) {
+            log.warn("세션 레지스트리 항목 무시 - error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+}
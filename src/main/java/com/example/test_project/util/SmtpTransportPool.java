@@ -0,0 +1,186 @@
+package com.example.test_project.util;
+
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * 인증이 끝난 SMTP 연결을 재사용하는 연결 풀
+ * 
+ * <p>{@link JavaMailSenderImpl#send}는 호출마다 새 연결을 열고 STARTTLS와 인증을 반복합니다.
+ * 이 풀은 연결된 {@link Transport}를 최대 poolSize개까지 보관하며 여러 메시지를 같은 연결로 보냅니다.</p>
+ * 
+ * <p>오래 쉬었거나 일정 건수를 보낸 연결은 닫고 새로 열며,
+ * 발송 중 오류가 난 연결은 풀에 돌려놓지 않습니다.</p>
+ */
+@Slf4j
+public class SmtpTransportPool implements AutoCloseable {
+
+    private final JavaMailSenderImpl mailSender;
+    private final long maxIdleMillis;
+    private final int maxMessagesPerConnection;
+    private final long borrowTimeoutMillis;
+
+    private final Semaphore permits;
+    private final BlockingQueue<PooledTransport> idle;
+
+    // 새로 연결한 횟수 (메트릭용)
+    private final AtomicLong openedCount = new AtomicLong();
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender, int poolSize, long maxIdleMillis,
+            int maxMessagesPerConnection, long borrowTimeoutMillis) {
+        this.mailSender = mailSender;
+        this.maxIdleMillis = maxIdleMillis;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.permits = new Semaphore(poolSize, true);
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+    }
+
+
+    /**
+     * 풀의 연결로 메시지를 발송합니다.
+     * 
+     * @param mimeMessage 발송할 메시지
+     * @throws MessagingException 연결 또는 발송 실패 시, 대기 시간 안에 연결을 얻지 못한 경우
+     */
+    public void send(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        mimeMessage.saveChanges();
+
+        Address[] recipients = mimeMessage.getAllRecipients();
+
+        acquire();
+        PooledTransport pooled = null;
+        try {
+            pooled = borrow();
+            pooled.transport.sendMessage(mimeMessage, recipients);
+            pooled.sentCount++;
+            pooled.lastUsedAt = System.currentTimeMillis();
+
+            if (pooled.sentCount < maxMessagesPerConnection) {
+                idle.offer(pooled);
+                pooled = null;
+            }
+        } finally {
+            if (pooled != null) {
+                closeQuietly(pooled);
+            }
+            permits.release();
+        }
+    }
+
+    /**
+     * 대기 중인 연결 수를 반환합니다.
+     */
+    public int idleCount() {
+        return idle.size();
+    }
+
+    /**
+     * 지금까지 새로 연결한 횟수를 반환합니다.
+     */
+    public long openedCount() {
+        return openedCount.get();
+    }
+
+    /**
+     * 대기 중인 연결을 모두 닫습니다.
+     */
+    @Override
+    public void close() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            closeQuietly(pooled);
+        }
+    }
+
+
+    /**
+     * 사용할 수 있는 연결을 꺼내고, 없거나 오래된 경우 새로 연결합니다.
+     */
+    private PooledTransport borrow() throws MessagingException {
+        long now = System.currentTimeMillis();
+
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            if (now - pooled.lastUsedAt < maxIdleMillis && pooled.transport.isConnected()) {
+                return pooled;
+            }
+            closeQuietly(pooled);
+        }
+
+        return connect();
+    }
+
+    /**
+     * 새 SMTP 연결을 열고 인증합니다.
+     */
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+
+        transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        openedCount.incrementAndGet();
+        log.debug("SMTP connection opened: {}:{}", mailSender.getHost(), mailSender.getPort());
+
+        return new PooledTransport(transport);
+    }
+
+    /**
+     * 연결 사용 권한을 얻습니다.
+     */
+    private void acquire() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("SMTP connection pool exhausted");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for SMTP connection", e);
+        }
+    }
+
+    private void closeQuietly(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP connection close failed: {}", e.getMessage());
+        }
+    }
+
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private long lastUsedAt = System.currentTimeMillis();
+        private int sentCount;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+
+}
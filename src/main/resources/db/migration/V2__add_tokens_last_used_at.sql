@@ -0,0 +1,3 @@
+-- 토큰 마지막 사용 일시 (SessionActivityTracker가 주기적으로 반영, GET /tokens의 lastUsedAt)
+-- 애플리케이션 배포 전에 적용
+ALTER TABLE tokens ADD COLUMN last_used_at DATETIME NULL DEFAULT NULL AFTER created_at;
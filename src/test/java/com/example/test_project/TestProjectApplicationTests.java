@@ -1,25 +1,49 @@
 package com.example.test_project;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.StringRedisTemplate;
 
-@SpringBootTest
+import com.example.test_project.util.InMemoryKeyValueStore;
+import com.example.test_project.util.KeyValueStore;
+import com.example.test_project.util.RedisUtil;
+
+/**
+ * 프로세스 내 저장소({@code app.kv-store=memory})로 컨텍스트를 띄우는 테스트
+ * 
+ * <p>설정은 {@code src/test/resources/application.properties}를 사용하며, DB와 Redis 없이 실행됩니다.</p>
+ */
+@SpringBootTest(properties = "app.kv-store=memory")
 class TestProjectApplicationTests {
 
-    // @Autowired
-    // private StringRedisTemplate redisTemplate;
+    @Autowired
+    private KeyValueStore keyValueStore;
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    @Test
+    void contextLoads() {
+        assertThat(keyValueStore).isInstanceOf(InMemoryKeyValueStore.class);
+    }
+
+    @Test
+    void storesValuesWithoutRedis() {
+        keyValueStore.set("hello", "world", Duration.ofMinutes(1));
+        assertThat(keyValueStore.get("hello")).isEqualTo("world");
+    }
 
-	// @Test
-	// void contextLoads() {
-	// }
+    @Test
+    void consumesVerificationCodeOnce() {
+        redisUtil.saveSignupKey("user@example.com", "123456");
 
-	// @Test
-	// public void testRedis() {
-    //     redisTemplate.opsForValue().set("hello", "world");
-    //     String value = redisTemplate.opsForValue().get("hello");
-    //     System.out.println("Redis 값 확인: " + value);
-	// }
+        assertThat(redisUtil.consumeSignupKey("user@example.com", "000000")).isEqualTo(RedisUtil.VerificationResult.MISMATCH);
+        assertThat(redisUtil.consumeSignupKey("user@example.com", "123456")).isEqualTo(RedisUtil.VerificationResult.VERIFIED);
+        assertThat(redisUtil.consumeSignupKey("user@example.com", "123456")).isEqualTo(RedisUtil.VerificationResult.NOT_FOUND);
+    }
 
 }
@@ -0,0 +1,95 @@
+package com.example.test_project.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ClassUtils;
+
+import com.example.jooq.tables.pojos.Todos;
+import com.example.jooq.tables.records.TodosRecord;
+import com.example.test_project.dto.response.ErrorResponse;
+import com.example.test_project.dto.response.TodoListResponse;
+import com.example.test_project.dto.response.json.TodoListResponseSerializer;
+import com.example.test_project.repository.TokenWithLastUsedAt;
+import com.example.test_project.repository.TokenWithUser;
+import com.example.test_project.util.SessionRegistryUtil;
+
+
+/**
+ * 네이티브 이미지 런타임 힌트({@link NativeHintsConfig}) 테스트
+ * 
+ * <p>컨텍스트에 등록된 {@code @ImportRuntimeHints} 등록기를 AOT 처리와 같은 방식으로 실행하고,
+ * 네이티브 실행에 필요한 리플렉션/리소스 힌트가 등록되는지 {@link RuntimeHintsPredicates}로 확인합니다.</p>
+ */
+@SpringBootTest(properties = "app.kv-store=memory")
+class NativeHintsConfigTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void registerHints() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        for (Object bean : applicationContext.getBeansWithAnnotation(ImportRuntimeHints.class).values()) {
+            ImportRuntimeHints annotation = AnnotationUtils.findAnnotation(ClassUtils.getUserClass(bean), ImportRuntimeHints.class);
+            for (Class<? extends RuntimeHintsRegistrar> registrar : annotation.value()) {
+                BeanUtils.instantiateClass(registrar).registerHints(hints, classLoader);
+            }
+        }
+    }
+
+
+    @Test
+    void registersJooqAndRepositoryMappingTypes() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Todos.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TodosRecord.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TokenWithUser.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TokenWithLastUsedAt.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS)).accepts(hints);
+    }
+
+
+    @Test
+    void registersJacksonBindingTypes() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ErrorResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TodoListResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TodoListResponseSerializer.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SessionRegistryUtil.Session.class)).accepts(hints);
+    }
+
+
+    @Test
+    void registersJjwtAndDriverTypes() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonSerializer"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("org.mariadb.jdbc.Driver"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+
+    @Test
+    void registersResources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("templates/mail/verification-code.html")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("mariadb.properties")).accepts(hints);
+    }
+
+}
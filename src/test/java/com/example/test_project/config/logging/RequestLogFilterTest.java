@@ -0,0 +1,62 @@
+package com.example.test_project.config.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.test_project.config.properties.AppProperties;
+
+
+/**
+ * {@link RequestLogFilter} 테스트
+ * 
+ * <p>요청 경로나 메서드를 바꿔 보내도 표본 카운터가 늘어나지 않는지 확인합니다.</p>
+ */
+class RequestLogFilterTest {
+
+    private final RequestLogFilter filter = new RequestLogFilter(new AppProperties());
+
+    @Test
+    void unmatchedRequestsShareOneCounter() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            // 매핑되지 않은 경로 (404, 보안 필터 거부)
+            perform(new MockHttpServletRequest("GET", "/missing/" + i), null);
+            // 표준이 아닌 메서드
+            perform(new MockHttpServletRequest("METHOD" + i, "/todos"), "/todos");
+        }
+
+        assertThat(counters()).containsOnlyKeys("UNMATCHED");
+        assertThat(counters().get("UNMATCHED")).hasToString("200");
+    }
+
+
+    @Test
+    void matchedRequestsAreCountedPerEndpoint() throws Exception {
+        perform(new MockHttpServletRequest("GET", "/todos/1"), "/todos/{todoId}");
+        perform(new MockHttpServletRequest("GET", "/todos/2"), "/todos/{todoId}");
+        perform(new MockHttpServletRequest("DELETE", "/todos/1"), "/todos/{todoId}");
+
+        assertThat(counters()).containsOnlyKeys("GET /todos/{todoId}", "DELETE /todos/{todoId}");
+    }
+
+
+    private void perform(MockHttpServletRequest request, String pattern) throws Exception {
+        if (pattern != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> counters() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(filter, "counters");
+    }
+
+}
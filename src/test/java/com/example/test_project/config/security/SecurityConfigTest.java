@@ -0,0 +1,64 @@
+package com.example.test_project.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+
+/**
+ * 프로메테우스 수집 권한({@link SecurityConfig#prometheusScrapeAuthorization}) 테스트
+ * 
+ * <p>허용 대역이나 ADMIN 권한일 때만 허용하고, 잘못된 대역은 만들 때 오류가 나는지 확인합니다.</p>
+ */
+class SecurityConfigTest {
+
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken("key", "anonymous",
+            AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+    private static final Authentication USER = new TestingAuthenticationToken("user", null, "ROLE_USER");
+    private static final Authentication ADMIN = new TestingAuthenticationToken("admin", null, "ROLE_ADMIN");
+
+    private final AuthorizationManager<RequestAuthorizationContext> authorization =
+            SecurityConfig.prometheusScrapeAuthorization(List.of("127.0.0.1/32", " 10.0.0.0/8 ", "::1/128"));
+
+    @Test
+    void allowsRequestsFromAllowedRanges() {
+        assertThat(isGranted(ANONYMOUS, "127.0.0.1")).isTrue();
+        assertThat(isGranted(ANONYMOUS, "10.1.2.3")).isTrue();
+        assertThat(isGranted(ANONYMOUS, "0:0:0:0:0:0:0:1")).isTrue();
+    }
+
+
+    @Test
+    void requiresAdminOutsideAllowedRanges() {
+        assertThat(isGranted(ANONYMOUS, "192.168.0.10")).isFalse();
+        assertThat(isGranted(USER, "192.168.0.10")).isFalse();
+        assertThat(isGranted(ADMIN, "192.168.0.10")).isTrue();
+    }
+
+
+    @Test
+    void rejectsMalformedRanges() {
+        assertThatThrownBy(() -> SecurityConfig.prometheusScrapeAuthorization(List.of("10.0.0.0/abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SecurityConfig.prometheusScrapeAuthorization(List.of("10.0.0.0/40")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+
+    private boolean isGranted(Authentication authentication, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.setRemoteAddr(remoteAddr);
+        return authorization.authorize(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+
+}
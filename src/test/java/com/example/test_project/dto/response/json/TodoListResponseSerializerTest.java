@@ -0,0 +1,73 @@
+package com.example.test_project.dto.response.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.jooq.tables.records.TodosRecord;
+import com.example.test_project.dto.response.TodoDetailResponse;
+import com.example.test_project.dto.response.TodoListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+
+/**
+ * {@link TodoListResponseSerializer} 테스트
+ * 
+ * <p>레코드에서 바로 쓴 목록이 DTO 목록과 같은 JSON이 되는지 확인합니다.</p>
+ */
+class TodoListResponseSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void recordsAndDtoListProduceSameJson() throws Exception {
+        TodosRecord completed = new TodosRecord("todo-1", 1, "제목", "내용", "#FFFFFF", 2,
+                LocalDate.of(2024, 1, 31), LocalDateTime.of(2024, 1, 30, 9, 5, 7, 120_000_000),
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 23, 59, 59));
+        TodosRecord open = new TodosRecord("todo-2", 1, "\"따옴표\"", null, "#000000", null,
+                null, null, LocalDateTime.of(2024, 2, 1, 12, 0, 0, 1), LocalDateTime.of(2024, 2, 1, 12, 0));
+
+        TodoListResponse fromRecords = new TodoListRecordsResponse(1, 10, 2, List.of(completed, open));
+        TodoListResponse fromDtos = TodoListResponse.builder()
+                .page(1)
+                .size(10)
+                .totalCount(2)
+                .list(List.of(toDto(completed), toDto(open)))
+                .build();
+
+        // Spring MVC처럼 선언 타입으로 직렬화
+        String recordsJson = objectMapper.writerFor(TodoListResponse.class).writeValueAsString(fromRecords);
+        String dtosJson = objectMapper.writerFor(TodoListResponse.class).writeValueAsString(fromDtos);
+
+        assertThat(recordsJson).isEqualTo(dtosJson);
+        assertThat(recordsJson).startsWith("{\"page\":1,\"size\":10,\"totalCount\":2,\"list\":[{\"todoId\":\"todo-1\"")
+                .contains("\"dueAt\":\"2024-01-31\"")
+                .contains("\"completedAt\":\"2024-01-30T09:05:07.12\"")
+                .contains("\"createdAt\":\"2024-01-01T00:00:00\"")
+                .contains("\"createdAt\":\"2024-02-01T12:00:00.000000001\"")
+                .contains("\"title\":\"\\\"따옴표\\\"\"")
+                .doesNotContain("records", "itemCount");
+        assertThat(objectMapper.writeValueAsString(fromRecords)).isEqualTo(recordsJson);
+        assertThat(fromRecords.getItemCount()).isEqualTo(2);
+    }
+
+
+    private static TodoDetailResponse toDto(TodosRecord record) {
+        return TodoDetailResponse.builder()
+                .todoId(record.getTodoId())
+                .title(record.getTitle())
+                .content(record.getContent())
+                .color(record.getColor())
+                .sequence(record.getSequence() != null ? record.getSequence() : 0)
+                .dueAt(record.getDueAt())
+                .completedAt(record.getCompletedAt())
+                .createdAt(record.getCreatedAt())
+                .updatedAt(record.getUpdatedAt())
+                .build();
+    }
+
+}
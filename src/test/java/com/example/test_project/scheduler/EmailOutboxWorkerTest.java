@@ -0,0 +1,190 @@
+package com.example.test_project.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.util.EmailOutboxUtil;
+import com.example.test_project.util.RedisCommandExecutor;
+import com.example.test_project.util.RedisKeyValueStore;
+import com.example.test_project.util.EmailUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+
+/**
+ * 이메일 발송 대기열 테스트 (Redis 컨테이너와 GreenMail SMTP 서버 사용, Docker 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EmailOutboxWorkerTest {
+
+    private static final String CODE = "482913";
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private EmailOutboxUtil emailOutboxUtil;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        emailOutboxUtil = new EmailOutboxUtil(new RedisCommandExecutor(redisTemplate,
+                new StaticListableBeanFactory().getBeanProvider(RedisKeyValueStore.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.stop();
+        }
+        connectionFactory.destroy();
+    }
+
+
+    @Test
+    void sendsQueuedEmailAndDeletesContent() throws Exception {
+        startWorker(ServerSetupTest.SMTP.getPort(), 3);
+
+        emailOutboxUtil.enqueue("user@example.com", "회원가입 이메일 인증", content(), Duration.ofMinutes(5));
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, 1)).isTrue();
+        assertThat(GreenMailUtil.getBody(greenMail.getReceivedMessages()[0])).contains(CODE);
+        awaitUntil(() -> contentKeys().isEmpty());
+        assertThat(meterRegistry.get("mail.outbox.sent").counter().count()).isEqualTo(1);
+    }
+
+
+    @Test
+    void retryEntryKeepsOnlyContentReference() throws Exception {
+        startWorker(closedPort(), 3);
+
+        emailOutboxUtil.enqueue("user@example.com", "회원가입 이메일 인증", content(), Duration.ofMinutes(5));
+
+        awaitUntil(() -> redisTemplate.opsForZSet().zCard(EmailOutboxUtil.RETRY_KEY) == 1);
+        String retry = redisTemplate.opsForZSet().range(EmailOutboxUtil.RETRY_KEY, 0, -1).iterator().next();
+        assertThat(retry).doesNotContain(CODE).contains(EmailOutboxUtil.CONTENT_KEY_PREFIX);
+        assertThat(contentKeys()).hasSize(1);
+    }
+
+
+    @Test
+    void deadLetterHasNoContentAfterFinalFailure() throws Exception {
+        startWorker(closedPort(), 1);
+
+        emailOutboxUtil.enqueue("user@example.com", "회원가입 이메일 인증", content(), Duration.ofMinutes(5));
+
+        awaitUntil(() -> redisTemplate.opsForStream().size(EmailOutboxUtil.DEAD_KEY) == 1);
+        MapRecord<String, Object, Object> dead = deadLetters().get(0);
+        assertThat(dead.getValue()).doesNotContainKey(EmailOutboxUtil.FIELD_CONTENT_KEY);
+        assertThat(dead.getValue().values()).noneMatch(value -> String.valueOf(value).contains(CODE));
+        awaitUntil(() -> contentKeys().isEmpty());
+    }
+
+
+    @Test
+    void expiredContentIsDeadLetteredWithoutSending() throws Exception {
+        startWorker(ServerSetupTest.SMTP.getPort(), 3);
+
+        emailOutboxUtil.enqueue("user@example.com", "회원가입 이메일 인증", content(), Duration.ofMillis(1));
+
+        awaitUntil(() -> redisTemplate.opsForStream().size(EmailOutboxUtil.DEAD_KEY) == 1);
+        assertThat(deadLetters().get(0).getValue()).containsEntry("error", "content expired");
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+
+    private void startWorker(int smtpPort, int maxAttempts) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setMailOutboxWorkers(1);
+        appProperties.setMailOutboxMaxAttempts(maxAttempts);
+        appProperties.setMailOutboxBackoffMillis(60_000);
+        appProperties.setMailOutboxMaxBackoffMillis(60_000);
+        appProperties.setMailOutboxClaimIdleMillis(60_000);
+        appProperties.setMailSmtpPoolSize(1);
+        appProperties.setMailSmtpMaxIdleMillis(60_000);
+        appProperties.setMailSmtpMaxMessagesPerConnection(100);
+        appProperties.setMailSmtpBorrowTimeoutMillis(1_000);
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpPort);
+        EmailUtil emailUtil = new EmailUtil(mailSender, appProperties, meterRegistry);
+        ReflectionTestUtils.setField(emailUtil, "fromAddress", "noreply@example.com");
+
+        worker = new EmailOutboxWorker(redisTemplate, connectionFactory, emailUtil, new ObjectMapper(), appProperties, meterRegistry);
+        worker.start();
+    }
+
+    private String content() {
+        return "<p>인증번호: " + CODE + "</p>";
+    }
+
+    private Set<String> contentKeys() {
+        return redisTemplate.keys(EmailOutboxUtil.CONTENT_KEY_PREFIX + "*");
+    }
+
+    private List<MapRecord<String, Object, Object>> deadLetters() {
+        return redisTemplate.opsForStream().range(EmailOutboxUtil.DEAD_KEY, Range.unbounded());
+    }
+
+    /**
+     * 연결을 거부하는 포트를 반환합니다.
+     */
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 10s").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.example.test_project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+/**
+ * {@link CircuitBreaker} 테스트
+ */
+class CircuitBreakerTest {
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 4, 0.5, 60_000, 1);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onSuccess();
+        }
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.rejectedCount()).isEqualTo(1);
+        assertThat(breaker.openedCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 0.5, 60_000, 1);
+
+        breaker.onFailure();
+        for (int i = 0; i < 6; i++) {
+            breaker.onSuccess();
+        }
+        // 첫 실패는 창에서 밀려났으므로 실패 2건(2/4)에서 열림
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+
+    @Test
+    void halfOpenClosesAfterSuccessfulTrials() {
+        CircuitBreaker breaker = openedBreaker(2);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+
+    @Test
+    void releasedTrialPermitCanBeReused() {
+        CircuitBreaker breaker = openedBreaker(1);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        // 결과 없이 끝난 시험 호출
+        breaker.release();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+
+    @Test
+    void concurrentFailuresOpenOnce() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("test", 100, 10, 0.5, 60_000, 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                awaitQuietly(start);
+                for (int j = 0; j < 1_000; j++) {
+                    if (breaker.tryAcquire()) {
+                        breaker.onFailure();
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.openedCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    void countersMatchBufferAfterStateCycles() throws Exception {
+        // 열린 뒤 바로 시험 호출을 허용하므로 기록 중에 열림, 반열림, 닫힘이 반복됨
+        CircuitBreaker breaker = new CircuitBreaker("test", 50, 10, 0.5, 0, 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int offset = i;
+            threads.add(Thread.ofVirtual().start(() -> {
+                awaitQuietly(start);
+                for (int j = 0; j < 20_000; j++) {
+                    if (!breaker.tryAcquire()) {
+                        continue;
+                    }
+                    if ((j + offset) % 2 == 0) {
+                        breaker.onFailure();
+                    } else {
+                        breaker.onSuccess();
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(breaker.openedCount()).isGreaterThan(1);
+
+        // 진행 중인 기록이 모두 끝났으므로 현재 창의 수는 버퍼 내용과 같아야 함
+        Object window = ReflectionTestUtils.getField(breaker, "window");
+        AtomicIntegerArray outcomes = (AtomicIntegerArray) ReflectionTestUtils.getField(window, "outcomes");
+        int filled = 0;
+        int failed = 0;
+        for (int i = 0; i < outcomes.length(); i++) {
+            if (outcomes.get(i) != 0) {
+                filled++;
+            }
+            if (outcomes.get(i) == 2) {
+                failed++;
+            }
+        }
+        assertThat(((AtomicInteger) ReflectionTestUtils.getField(window, "recorded")).get()).isEqualTo(filled);
+        assertThat(((AtomicInteger) ReflectionTestUtils.getField(window, "failures")).get()).isEqualTo(failed);
+    }
+
+
+    /**
+     * 열린 뒤 바로 시험 호출을 허용하는 회로 차단기를 만듭니다.
+     */
+    private static CircuitBreaker openedBreaker(int halfOpenCalls) {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 1, 0.5, 0, halfOpenCalls);
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.test_project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.test_project.config.properties.AppProperties;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+
+/**
+ * {@link EmailUtil} 발송 테스트 (GreenMail SMTP 서버 사용)
+ */
+class EmailUtilTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+
+    @Test
+    void sendsHtmlThroughOnePooledConnection() throws Exception {
+        EmailUtil emailUtil = emailUtil(mailSender());
+        String content = emailUtil.renderVerificationCode("회원가입 이메일 인증", "123456", 300);
+
+        for (int i = 0; i < 3; i++) {
+            emailUtil.sendEmail("user" + i + "@example.com", "회원가입 이메일 인증", content);
+        }
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("회원가입 이메일 인증");
+        assertThat(GreenMailUtil.getBody(received[0])).contains("123456");
+        assertThat(meterRegistry.get("mail.smtp.connections.opened").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.send").tag("result", "success").timer().count()).isEqualTo(3);
+    }
+
+
+    @Test
+    void appliesDefaultSmtpTimeouts() {
+        JavaMailSenderImpl mailSender = mailSender();
+        EmailUtil emailUtil = emailUtil(mailSender);
+
+        assertThat(mailSender.getJavaMailProperties())
+            .containsEntry("mail.smtp.connectiontimeout", "5000")
+            .containsEntry("mail.smtp.timeout", "10000")
+            .containsEntry("mail.smtp.writetimeout", "10000");
+        // 연결 대기 + 연결 + 응답 9회 + 쓰기
+        assertThat(emailUtil.maxSendMillis()).isEqualTo(1_000 + 5_000 + 10_000 * 9 + 10_000);
+    }
+
+
+    @Test
+    void keepsConfiguredSmtpTimeouts() {
+        JavaMailSenderImpl mailSender = mailSender();
+        mailSender.getJavaMailProperties().put("mail.smtp.timeout", "2000");
+        EmailUtil emailUtil = emailUtil(mailSender);
+
+        assertThat(mailSender.getJavaMailProperties()).containsEntry("mail.smtp.timeout", "2000");
+        assertThat(emailUtil.maxSendMillis()).isEqualTo(1_000 + 5_000 + 2_000 * 9 + 10_000);
+    }
+
+
+    private JavaMailSenderImpl mailSender() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        return mailSender;
+    }
+
+    private EmailUtil emailUtil(JavaMailSenderImpl mailSender) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setMailSmtpPoolSize(2);
+        appProperties.setMailSmtpMaxIdleMillis(60_000);
+        appProperties.setMailSmtpMaxMessagesPerConnection(100);
+        appProperties.setMailSmtpBorrowTimeoutMillis(1_000);
+
+        EmailUtil emailUtil = new EmailUtil(mailSender, appProperties, meterRegistry);
+        ReflectionTestUtils.setField(emailUtil, "fromAddress", "noreply@example.com");
+        return emailUtil;
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.example.test_project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.test_project.config.properties.AppProperties;
+
+
+/**
+ * {@link InMemoryKeyValueStore} 테스트 ({@code app.kv-store=memory})
+ */
+class InMemoryKeyValueStoreTest {
+
+    private InMemoryKeyValueStore store;
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+
+    @Test
+    void timerWheelRemovesExpiredEntriesWithoutRead() throws Exception {
+        store = store(10);
+        store.set("short", "1", Duration.ofMillis(50));
+        store.set("long", "2", Duration.ofMinutes(1));
+
+        Map<?, ?> entries = entries();
+        assertThat(entries).containsKeys("short", "long");
+
+        // 조회하지 않아도 정리 스레드가 제거
+        awaitUntil(() -> !entries.containsKey("short"));
+        assertThat(entries).containsKey("long");
+    }
+
+
+    @Test
+    void overwrittenKeyIsNotRemovedByStaleTimeout() throws Exception {
+        store = store(10);
+        store.set("key", "old", Duration.ofMillis(50));
+        store.set("key", "new", Duration.ofMinutes(1));
+
+        Thread.sleep(200);
+
+        assertThat(entries()).containsKey("key");
+        assertThat(store.get("key")).isEqualTo("new");
+    }
+
+
+    @Test
+    void expiredEntryIsNotReturnedBeforeCleanup() throws Exception {
+        // 정리 간격을 길게 두어 조회 시점 만료 처리만 확인
+        store = store(60_000);
+        store.set("key", "value", Duration.ofMillis(20));
+
+        Thread.sleep(50);
+
+        assertThat(store.get("key")).isNull();
+        assertThat(store.getExpireMillis("key")).isEqualTo(-2);
+        assertThat(entries()).doesNotContainKey("key");
+    }
+
+
+    @Test
+    void incrementKeepsFirstExpiry() {
+        store = store(10);
+
+        assertThat(store.incrementWithExpiry("counter", 1, Duration.ofSeconds(1))).isEqualTo(1);
+        assertThat(store.incrementWithExpiry("counter", 2, Duration.ofMinutes(10))).isEqualTo(3);
+        assertThat(store.getExpireMillis("counter")).isBetween(1L, 1_000L);
+    }
+
+
+    @Test
+    void deleteCountsOnlyLiveKeys() {
+        store = store(10);
+        store.set("a", "1", Duration.ofMinutes(1));
+        store.set("b", "2", Duration.ofMinutes(1));
+
+        assertThat(store.delete(List.of("a", "b", "missing"))).isEqualTo(2);
+        assertThat(store.get("a")).isNull();
+    }
+
+
+    @Test
+    void rewritingKeyReusesTimeout() {
+        store = store(60_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            store.incrementWithExpiry("counter", 1, Duration.ofMinutes(1));
+            store.set("value", String.valueOf(i), Duration.ofMinutes(1));
+            // 호출마다 만료 시각이 늦춰지는 스크립트
+            store.execute(RateLimitAlgorithm.GCRA.getScript(), List.of(RateLimitAlgorithm.GCRA.getKeyPrefix() + "hot"),
+                    "request-" + i, "1000000", "60000", "1");
+        }
+
+        assertThat(queuedTimeouts()).isEqualTo(3);
+        assertThat(store.get("counter")).isEqualTo("1000");
+    }
+
+
+    @Test
+    void earlierExpiryRegistersNewTimeout() throws Exception {
+        store = store(10);
+        store.set("key", "long", Duration.ofMinutes(1));
+        store.set("key", "short", Duration.ofMillis(50));
+
+        // 기존 타이머는 1분 뒤 칸에 있으므로 새 타이머가 정리
+        awaitUntil(() -> !entries().containsKey("key"));
+    }
+
+
+    private InMemoryKeyValueStore store(long tickMillis) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setKvStoreMemoryTickMillis(tickMillis);
+        return new InMemoryKeyValueStore(appProperties);
+    }
+
+    private Map<?, ?> entries() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(store, "entries");
+    }
+
+    private int queuedTimeouts() {
+        Queue<?>[] wheel = (Queue<?>[]) ReflectionTestUtils.getField(store, "wheel");
+        return Arrays.stream(wheel).mapToInt(Queue::size).sum();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+}
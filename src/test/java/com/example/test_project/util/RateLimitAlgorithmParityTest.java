@@ -0,0 +1,154 @@
+package com.example.test_project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.test_project.config.properties.AppProperties;
+
+
+/**
+ * 요청 속도 제한 스크립트의 Lua 구현(Redis)과 Java 구현(프로세스 내 저장소)이 같은 결과를 내는지 확인합니다.
+ * 
+ * <p>허용 여부와 남은 횟수는 같아야 하며, 시간 값(재시도 대기, 초기화)은 두 저장소의 시각 차이만큼만 다를 수 있습니다.
+ * Redis 컨테이너를 사용하므로 Docker가 없으면 건너뜁니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimitAlgorithmParityTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+    private static final long TIME_TOLERANCE_MILLIS = 100;
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private InMemoryKeyValueStore memoryStore;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        memoryStore = new InMemoryKeyValueStore(new AppProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        memoryStore.close();
+    }
+
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    void singleBucketMatches(RateLimitAlgorithm algorithm) {
+        List<String> keys = List.of(algorithm.getKeyPrefix() + "single");
+
+        List<List<?>> replies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replies.add(assertSameReply(algorithm, keys, args(new long[][] { { 3, WINDOW_MILLIS, 1 } })));
+        }
+
+        // 3회 허용 후 거부
+        assertThat(replies).extracting(reply -> reply.get(0)).containsExactly(1L, 1L, 1L, 0L, 0L);
+        assertThat(replies).extracting(reply -> reply.get(1)).containsExactly(2L, 1L, 0L, 0L, 0L);
+    }
+
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    void costAboveRemainingMatches(RateLimitAlgorithm algorithm) {
+        List<String> keys = List.of(algorithm.getKeyPrefix() + "cost");
+
+        List<?> first = assertSameReply(algorithm, keys, args(new long[][] { { 3, WINDOW_MILLIS, 2 } }));
+        List<?> second = assertSameReply(algorithm, keys, args(new long[][] { { 3, WINDOW_MILLIS, 2 } }));
+
+        assertThat(first.get(0)).isEqualTo(1L);
+        assertThat(second.get(0)).isEqualTo(0L);
+    }
+
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    void deniedBucketChargesNoOtherBucket(RateLimitAlgorithm algorithm) {
+        List<String> keys = List.of(algorithm.getKeyPrefix() + "wide", algorithm.getKeyPrefix() + "narrow");
+        long[][] buckets = { { 5, WINDOW_MILLIS, 1 }, { 2, WINDOW_MILLIS, 1 } };
+
+        assertSameReply(algorithm, keys, args(buckets));
+        assertSameReply(algorithm, keys, args(buckets));
+        List<?> denied = assertSameReply(algorithm, keys, args(buckets));
+
+        // 좁은 버킷이 거부하면 넓은 버킷도 차감하지 않음 (남은 횟수 3 유지)
+        assertThat(denied.subList(0, 2)).containsExactly(1L, 3L);
+        assertThat(denied.get(4)).isEqualTo(0L);
+
+        List<?> next = assertSameReply(algorithm, keys, args(buckets));
+        assertThat(next.subList(0, 2)).containsExactly(1L, 3L);
+    }
+
+
+    /**
+     * 같은 입력을 두 저장소에서 실행하고 결과가 같은지 확인합니다.
+     */
+    private List<?> assertSameReply(RateLimitAlgorithm algorithm, List<String> keys, String[] args) {
+        List<?> lua = redisTemplate.execute(algorithm.getScript().redisScript(), keys, (Object[]) args);
+        List<?> local = memoryStore.execute(algorithm.getScript(), keys, args);
+
+        assertThat(local).hasSameSizeAs(lua).hasSize(keys.size() * 4);
+        for (int i = 0; i < lua.size(); i++) {
+            long expected = ((Number) lua.get(i)).longValue();
+            long actual = ((Number) local.get(i)).longValue();
+            if (i % 4 < 2) {
+                assertThat(actual).as("%s reply[%d]", algorithm, i).isEqualTo(expected);
+            } else {
+                assertThat(actual).as("%s reply[%d]", algorithm, i).isCloseTo(expected, within(TIME_TOLERANCE_MILLIS));
+            }
+        }
+        return lua;
+    }
+
+    private static String[] args(long[][] buckets) {
+        List<String> args = new ArrayList<>();
+        args.add(UUID.randomUUID().toString());
+        for (long[] bucket : buckets) {
+            for (long value : bucket) {
+                args.add(String.valueOf(value));
+            }
+        }
+        return args.toArray(String[]::new);
+    }
+
+}
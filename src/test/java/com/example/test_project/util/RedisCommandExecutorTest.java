@@ -0,0 +1,94 @@
+package com.example.test_project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.test_project.config.exception.ServiceUnavailableException;
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.util.RedisKeyValueStore.Command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+
+/**
+ * {@link RedisCommandExecutor} 테스트 (닫힌 포트로 Redis 장애를 흉내 냄)
+ * 
+ * <p>실패가 이어져 저장소의 회로가 열리면 직접 호출도 Redis를 부르지 않고 바로 실패하거나 건너뛰는지 확인합니다.</p>
+ */
+class RedisCommandExecutorTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisKeyValueStore store;
+    private RedisCommandExecutor executor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        connectionFactory = new LettuceConnectionFactory("localhost", closedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.setRedisCircuitWindowSize(2);
+        appProperties.setRedisCircuitMinCalls(2);
+        appProperties.setRedisCircuitOpenMillis(60_000);
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        store = new RedisKeyValueStore(connectionFactory, redisTemplate, beanFactory.getBeanProvider(RedisNearCache.class),
+                appProperties, new SimpleMeterRegistry());
+        beanFactory.addBean("redisKeyValueStore", store);
+        executor = new RedisCommandExecutor(redisTemplate, beanFactory.getBeanProvider(RedisKeyValueStore.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+        connectionFactory.destroy();
+    }
+
+
+    @Test
+    void bestEffortWritesSkipWhileCircuitIsOpen() {
+        // 연결 실패 두 번으로 회로가 열림
+        assertThat(executor.executeBestEffort(Command.SESSION_REGISTRY, redisTemplate -> redisTemplate.opsForValue().set("key", "1"))).isFalse();
+        assertThat(executor.executeBestEffort(Command.SESSION_REGISTRY, redisTemplate -> redisTemplate.opsForValue().set("key", "1"))).isFalse();
+        assertThat(store.isCircuitOpen()).isTrue();
+
+        AtomicBoolean invoked = new AtomicBoolean();
+        assertThat(executor.executeBestEffort(Command.EMAIL_BLOOM, redisTemplate -> invoked.set(true))).isFalse();
+        assertThat(invoked).isFalse();
+    }
+
+
+    @Test
+    void requiredCallsFailFastWhileCircuitIsOpen() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> executor.execute(Command.MAIL_OUTBOX, redisTemplate -> redisTemplate.opsForValue().get("key")))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+
+        AtomicBoolean invoked = new AtomicBoolean();
+        assertThatThrownBy(() -> executor.execute(Command.MAIL_OUTBOX, redisTemplate -> invoked.getAndSet(true)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(invoked).isFalse();
+    }
+
+
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.example.test_project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.test_project.config.properties.AppProperties;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+
+/**
+ * 요청 경로의 잠금이 가상 스레드의 캐리어 스레드를 점유(pinning)하지 않는지 JFR로 확인합니다.
+ * 
+ * <p>가상 스레드 여러 개가 같은 키를 동시에 다루도록 하여 잠금 경합(대기)을 일으키고,
+ * 그동안 기록된 {@code jdk.VirtualThreadPinned} 이벤트가 없어야 합니다.</p>
+ */
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int THREADS = 64;
+    private static final int ITERATIONS = 500;
+
+    @Test
+    void hotPathLocksDoNotPinCarrierThreads() throws Exception {
+        AppProperties appProperties = new AppProperties();
+        InMemoryKeyValueStore store = new InMemoryKeyValueStore(appProperties);
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 20, 10, 0.5, 5_000, 3);
+        LocalRateLimiter localRateLimiter = new LocalRateLimiter(60_000, 0.8, 1_000);
+        KeyValueScript<List> script = RateLimitAlgorithm.GCRA.getScript();
+
+        try {
+            List<String> pinned = recordPinnedEvents(() -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    if (circuitBreaker.tryAcquire()) {
+                        circuitBreaker.onSuccess();
+                    }
+                    store.execute(script, List.of(RateLimitAlgorithm.GCRA.getKeyPrefix() + "hot"), UUID.randomUUID().toString(), "1000000", "60000", "1");
+                    store.incrementWithExpiry("counter:hot", 1, Duration.ofMinutes(1));
+                    store.set("value:hot", String.valueOf(i), Duration.ofMinutes(1));
+                    store.get("value:hot");
+                    localRateLimiter.decide("local:hot", 1_000_000, 1);
+                }
+            });
+
+            assertThat(pinned).isEmpty();
+        } finally {
+            store.close();
+        }
+    }
+
+
+    /**
+     * 검사가 실제로 점유를 잡아내는지 확인합니다. ({@code synchronized} 안에서 대기)
+     * 
+     * <p>JDK 24부터는 {@code synchronized}가 더 이상 점유를 일으키지 않으므로(JEP 491) 건너뜁니다.</p>
+     */
+    @Test
+    void detectsPinningInsideSynchronized() throws Exception {
+        assumeTrue(Runtime.version().feature() < 24, "synchronized no longer pins on JDK 24+");
+        Object monitor = new Object();
+
+        List<String> pinned = recordPinnedEvents(() -> {
+            synchronized (monitor) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+
+    /**
+     * 작업을 가상 스레드 {@value #THREADS}개에서 동시에 실행하고, 그동안 기록된 점유 이벤트의 스택 첫 줄을 반환합니다.
+     */
+    private static List<String> recordPinnedEvents(Runnable task) throws InterruptedException {
+        Queue<String> pinned = new ConcurrentLinkedQueue<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> pinned.add(describe(event)));
+            recording.startAsync();
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                threads.add(Thread.ofVirtual().start(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    task.run();
+                }));
+            }
+
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // 남은 이벤트를 모두 전달받은 뒤 종료
+            recording.stop();
+        }
+        return List.copyOf(pinned);
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return event.getEventType().getName();
+        }
+        return event.getStackTrace().getFrames().stream()
+            .filter(frame -> frame.getMethod().getType().getName().startsWith("com.example"))
+            .findFirst()
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+            .orElse(event.getEventType().getName());
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.test_project.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+/**
+ * /todos API 논블로킹 버전 (WebFlux + jOOQ R2DBC + Reactive Redis)
+ * 
+ * <p>서블릿 버전({@code TodoController})과 같은 요청/응답 형식을 제공합니다.</p>
+ */
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class ReactiveTodoApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveTodoApplication.class, args);
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.example.test_project.reactive.config;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.TransactionAwareConnectionFactoryProxy;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * jOOQ R2DBC 설정
+ * 
+ * <p>Spring Boot의 jOOQ 자동 설정은 JDBC DataSource 전용이므로 R2DBC ConnectionFactory로 직접 DSLContext를 만듭니다.
+ * 트랜잭션 인식 프록시로 감싸 {@code @Transactional} 안의 쿼리가 같은 연결을 사용합니다.</p>
+ */
+@Configuration
+public class ReactiveJooqConfig {
+
+    @Bean
+    public DSLContext dslContext(ConnectionFactory connectionFactory) {
+        return DSL.using(
+            new TransactionAwareConnectionFactoryProxy(connectionFactory),
+            SQLDialect.MARIADB,
+            new Settings()
+                .withRenderFormatted(true) // 로그에 쿼리 예쁘게 출력하기
+                .withRenderSchema(false)); // 로그에 스키마 빼고 출력하기
+    }
+}
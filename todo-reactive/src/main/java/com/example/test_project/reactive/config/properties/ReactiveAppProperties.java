@@ -0,0 +1,42 @@
+package com.example.test_project.reactive.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.test_project.util.RateLimitAlgorithm;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app")
+public class ReactiveAppProperties {
+
+    // 비밀키 (메인 서버와 같은 값)
+    private String jwtSecret;
+
+    // TO-DO 생성 rate limit, 사용자별 60초 동안 30회 허용 (메인 서버와 같은 값이어야 허용량을 공유)
+    private int todoCreateMaxRequests = 30;
+    private long todoCreateWindowSeconds = 60;
+
+    // rate limit 알고리즘 (메인 서버와 같은 값)
+    private RateLimitAlgorithm redisRatelimitAlgorithm = RateLimitAlgorithm.GCRA;
+
+    // Redis 명령 타임아웃(ms), 넘으면 프로세스 내 저장소로 판정
+    private long redisKvCommandTimeoutMillis = 200;
+
+    // 프로세스 내 저장소 만료 정리 간격(ms)
+    private long kvStoreMemoryTickMillis = 100;
+
+    // Redis 회로 차단기
+    // 최근 호출 기록 수
+    private int redisCircuitWindowSize = 20;
+    // 판정에 필요한 최소 호출 수
+    private int redisCircuitMinCalls = 10;
+    // 회로를 여는 실패 비율
+    private double redisCircuitFailureRateThreshold = 0.5;
+    // 열린 상태 유지 시간(ms)
+    private long redisCircuitOpenMillis = 5000;
+    // 시험 호출 수
+    private int redisCircuitHalfOpenCalls = 3;
+}
@@ -0,0 +1,50 @@
+package com.example.test_project.reactive.config.security;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bearer Access Token 인증 필터
+ * 
+ * <p>전역 WebFilter로 중복 등록되지 않도록 빈이 아닌 보안 필터 체인에만 추가합니다.</p>
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final ReactiveJwtTokenProvider jwt;
+    private final ServerAuthenticationEntryPoint authenticationEntryPoint;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        // 토큰이 없는 경우 - 다음 필터로 진행 (Spring Security가 처리)
+        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        ReactiveUserPrincipal principal = jwt.parse(header.substring(7));
+        if (principal == null) {
+            return authenticationEntryPoint.commence(exchange, new BadCredentialsException("Invalid JWT token"));
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + principal.role())));
+
+        return chain.filter(exchange)
+            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+}
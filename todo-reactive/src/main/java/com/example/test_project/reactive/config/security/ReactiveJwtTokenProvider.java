@@ -0,0 +1,54 @@
+package com.example.test_project.reactive.config.security;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.reactive.config.properties.ReactiveAppProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인 서버가 발급한 Access Token 검증
+ * 
+ * <p>서명과 만료만 확인하며(메인 서버의 {@code JwtAuthenticationFilter}와 동일), 토큰은 한 번만 파싱합니다.</p>
+ */
+@Slf4j
+@Component
+public class ReactiveJwtTokenProvider {
+
+    private final SecretKey secretKey;
+
+    public ReactiveJwtTokenProvider(ReactiveAppProperties appProperties) {
+        this.secretKey = Keys.hmacShaKeyFor(appProperties.getJwtSecret().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 검증하고 사용자 정보를 반환합니다.
+     * 
+     * @param token Access Token
+     * @return 사용자 정보, 토큰이 올바르지 않으면 {@code null}
+     */
+    public ReactiveUserPrincipal parse(String token) {
+        try {
+            Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+
+            Object userNo = claims.get("userNo");
+            Object role = claims.get("role");
+            return new ReactiveUserPrincipal(
+                (userNo instanceof Number n) ? n.intValue() : Integer.parseInt(String.valueOf(userNo)),
+                claims.getSubject(),
+                role == null ? null : String.valueOf(role));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+}
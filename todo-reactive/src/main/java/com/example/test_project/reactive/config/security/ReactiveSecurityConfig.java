@@ -0,0 +1,83 @@
+package com.example.test_project.reactive.config.security;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import com.example.test_project.reactive.handler.ReactiveErrorResponseWriter;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final ReactiveJwtTokenProvider jwt;
+    private final ReactiveErrorResponseWriter errorResponseWriter;
+
+    @Bean
+    public SecurityWebFilterChain filterChain(ServerHttpSecurity http) {
+        ServerAuthenticationEntryPoint authenticationEntryPoint =
+            (exchange, e) -> errorResponseWriter.write(exchange, HttpStatus.UNAUTHORIZED, "인증되지 않은 요청입니다.");
+        ServerAccessDeniedHandler accessDeniedHandler =
+            (exchange, e) -> errorResponseWriter.write(exchange, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+
+        // http request 인증 설정 (ADMIN > USER)
+        http.authorizeExchange(auth -> auth
+                .pathMatchers("/actuator/health").permitAll()
+                .pathMatchers("/todos", "/todos/**").hasAnyRole("USER", "ADMIN")
+                .anyExchange().authenticated()
+        );
+
+        // http basic, form login, logout, csrf disable
+        http.httpBasic(ServerHttpSecurity.HttpBasicSpec::disable);
+        http.formLogin(ServerHttpSecurity.FormLoginSpec::disable);
+        http.logout(ServerHttpSecurity.LogoutSpec::disable);
+        http.csrf(ServerHttpSecurity.CsrfSpec::disable);
+
+        // cors
+        http.cors(Customizer.withDefaults());
+
+        // stateless
+        http.securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        // jwt filter
+        http.addFilterAt(new ReactiveJwtAuthenticationFilter(jwt, authenticationEntryPoint), SecurityWebFiltersOrder.AUTHENTICATION);
+
+        // exception handler
+        http.exceptionHandling(conf -> conf
+                .authenticationEntryPoint(authenticationEntryPoint)
+                .accessDeniedHandler(accessDeniedHandler)
+        );
+
+        return http.build();
+    }
+
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration c = new CorsConfiguration();
+        c.setAllowedOriginPatterns(Arrays.asList("*"));
+        c.setAllowedMethods(Arrays.asList("HEAD", "POST", "GET", "DELETE", "PUT", "PATCH"));
+        c.setAllowedHeaders(Arrays.asList("*"));
+        c.setAllowCredentials(true);
+        c.setExposedHeaders(List.of("Authorization"));
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", c);
+        return source;
+    }
+}
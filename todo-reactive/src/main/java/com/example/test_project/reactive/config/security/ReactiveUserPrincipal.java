@@ -0,0 +1,11 @@
+package com.example.test_project.reactive.config.security;
+
+/**
+ * Access Token에서 꺼낸 사용자 정보
+ * 
+ * @param userNo 사용자 번호
+ * @param email 사용자 이메일
+ * @param role 사용자 권한 (ADMIN, USER)
+ */
+public record ReactiveUserPrincipal(int userNo, String email, String role) {
+}
@@ -0,0 +1,176 @@
+package com.example.test_project.reactive.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.test_project.config.exception.UnauthorizedException;
+import com.example.test_project.dto.request.*;
+import com.example.test_project.dto.response.*;
+import com.example.test_project.reactive.config.properties.ReactiveAppProperties;
+import com.example.test_project.reactive.config.security.ReactiveUserPrincipal;
+import com.example.test_project.reactive.ratelimit.ReactiveRateLimiter;
+import com.example.test_project.reactive.service.ReactiveTodoService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * TO-DO 관련 REST API 컨트롤러 (논블로킹)
+ * 
+ * <p>{@code TodoController}와 같은 경로, 요청/응답 형식, 상태 코드를 제공합니다.
+ * 모든 엔드포인트는 USER 권한이 필요합니다.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/todos")
+@RequiredArgsConstructor
+public class ReactiveTodoController {
+
+    private final ReactiveTodoService todoService;
+    private final ReactiveRateLimiter rateLimiter;
+    private final ReactiveAppProperties appProperties;
+
+    /**
+     * TO-DO 목록을 페이징하여 조회합니다.
+     * 
+     * @param todoListRequest 페이징 요청 정보 (page, size)
+     * @return TO-DO 목록과 페이징 정보를 포함한 응답
+     */
+    @GetMapping("")
+    public Mono<ResponseEntity<TodoListResponse>> getTodos(@AuthenticationPrincipal ReactiveUserPrincipal principal, @Valid @ModelAttribute TodoListRequest todoListRequest) {
+        int userNo = requireUserNo(principal);
+
+        log.info("TO-DO 목록 조회 요청 - userNo: {}, page: {}, size: {}", userNo, todoListRequest.getPage(), todoListRequest.getSize());
+
+        return todoService.getTodos(userNo, todoListRequest)
+                .map(todoListResponse -> ResponseEntity.ok().body(todoListResponse));
+    }
+
+
+    /**
+     * 특정 TO-DO 항목의 상세 정보를 조회합니다.
+     * 
+     * @param todoId 조회할 TODO의 ID
+     * @return TO-DO 상세 정보
+     */
+    @GetMapping("/{todoId}")
+    public Mono<ResponseEntity<TodoDetailResponse>> getTodo(@AuthenticationPrincipal ReactiveUserPrincipal principal, @PathVariable String todoId) {
+        int userNo = requireUserNo(principal);
+
+        log.info("TO-DO 상세 조회 요청 - userNo: {}, todoId: {}", userNo, todoId);
+
+        return todoService.getTodo(userNo, todoId)
+                .map(todoDetailResponse -> ResponseEntity.ok().body(todoDetailResponse));
+    }
+
+
+    /**
+     * 새로운 TO-DO 항목을 생성합니다.
+     * 
+     * <p>사용자별 요청 속도 제한이 적용되며, 메인 서버의 TO-DO 생성과 허용량을 공유합니다. ({@code app.todo-create-max-requests}, {@code app.todo-create-window-seconds})</p>
+     * 
+     * @param todoCreateRequest TO-DO 생성 요청 정보
+     * @return 생성된 TODO의 ID를 포함한 응답
+     */
+    @PostMapping("")
+    public Mono<ResponseEntity<TodoCreateResponse>> createTodo(@AuthenticationPrincipal ReactiveUserPrincipal principal, @Valid @RequestBody TodoCreateRequest todoCreateRequest) {
+        int userNo = requireUserNo(principal);
+
+        log.info("TO-DO 생성 요청 - userNo: {}, title: {}", userNo, todoCreateRequest.getTitle());
+
+        return rateLimiter.acquire("todo.create", "user:" + userNo, appProperties.getTodoCreateMaxRequests(), appProperties.getTodoCreateWindowSeconds())
+                .then(Mono.defer(() -> todoService.createTodo(userNo, todoCreateRequest)))
+                .map(todoCreateResponse -> ResponseEntity.ok().body(todoCreateResponse));
+    }
+
+
+    /**
+     * TO-DO 항목을 전체 수정합니다.
+     * 
+     * @param todoId 수정할 TODO의 ID
+     * @param todoUpdateRequest TO-DO 수정 요청 정보
+     * @return 204 No Content
+     */
+    @PutMapping("/{todoId}")
+    public Mono<ResponseEntity<Void>> updateTodo(@AuthenticationPrincipal ReactiveUserPrincipal principal, @PathVariable String todoId, @Valid @RequestBody TodoUpdateRequest todoUpdateRequest) {
+        int userNo = requireUserNo(principal);
+
+        log.info("TO-DO 수정 요청 - userNo: {}, todoId: {}", userNo, todoId);
+
+        return todoService.updateTodo(userNo, todoId, todoUpdateRequest)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+
+    /**
+     * TO-DO 항목을 부분 수정합니다.
+     * 
+     * @param todoId 수정할 TODO의 ID
+     * @param todoPatchRequest 부분 수정 요청 정보
+     * @return 204 No Content
+     */
+    @PatchMapping("/{todoId}")
+    public Mono<ResponseEntity<Void>> patchTodo(@AuthenticationPrincipal ReactiveUserPrincipal principal, @PathVariable String todoId, @Valid @RequestBody TodoPatchRequest todoPatchRequest) {
+        int userNo = requireUserNo(principal);
+
+        log.info("TO-DO 부분 수정 요청 - userNo: {}, todoId: {}, sequence: {}, completed: {}", userNo, todoId, todoPatchRequest.getSequence(), todoPatchRequest.getCompleted());
+
+        return todoService.patchTodo(userNo, todoId, todoPatchRequest)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+
+    /**
+     * TO-DO 항목을 삭제합니다.
+     * 
+     * @param todoId 삭제할 TODO의 ID
+     * @return 204 No Content
+     */
+    @DeleteMapping("/{todoId}")
+    public Mono<ResponseEntity<Void>> deleteTodo(@AuthenticationPrincipal ReactiveUserPrincipal principal, @PathVariable String todoId) {
+        int userNo = requireUserNo(principal);
+
+        log.info("TO-DO 삭제 요청 - userNo: {}, todoId: {}", userNo, todoId);
+
+        return todoService.deleteTodo(userNo, todoId)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+
+    /**
+     * 사용자의 TO-DO 통계 정보를 조회합니다.
+     * 
+     * @return TO-DO 통계 정보
+     */
+    @GetMapping("/statistics")
+    public Mono<ResponseEntity<TodoStatisticsResponse>> getTodoStatistics(@AuthenticationPrincipal ReactiveUserPrincipal principal) {
+        int userNo = requireUserNo(principal);
+
+        log.info("TO-DO 통계 조회 요청 - userNo: {}", userNo);
+
+        return todoService.getTodoStatistics(userNo)
+                .map(todoStatisticsResponse -> ResponseEntity.ok().body(todoStatisticsResponse));
+    }
+
+
+    private static int requireUserNo(ReactiveUserPrincipal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("인증 토큰이 잘못되었습니다.");
+        }
+        return principal.userNo();
+    }
+
+}
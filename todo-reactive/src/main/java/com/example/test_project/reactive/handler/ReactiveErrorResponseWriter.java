@@ -0,0 +1,50 @@
+package com.example.test_project.reactive.handler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.test_project.dto.response.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 보안 필터 단계(컨트롤러 밖)의 오류 응답 작성
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveErrorResponseWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> write(ServerWebExchange exchange, HttpStatus status, String message) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
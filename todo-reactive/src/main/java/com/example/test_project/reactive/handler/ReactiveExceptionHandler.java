@@ -0,0 +1,134 @@
+package com.example.test_project.reactive.handler;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import com.example.test_project.config.exception.*;
+import com.example.test_project.dto.response.ErrorResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인 서버의 {@code GlobalExceptionHandler}와 같은 형식으로 오류 응답을 작성합니다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    // 400 Bad Request
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequest(BadRequestException e, ServerWebExchange exchange) {
+        log.debug("BadRequestException: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, e.getMessage(), exchange);
+    }
+
+    // 401 Unauthorized
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ErrorResponse> handleUnauthorized(UnauthorizedException e, ServerWebExchange exchange) {
+        log.debug("UnauthorizedException: {}", e.getMessage());
+        return error(HttpStatus.UNAUTHORIZED, e.getMessage(), exchange);
+    }
+
+    // 403 Forbidden
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ErrorResponse> handleForbidden(ForbiddenException e, ServerWebExchange exchange) {
+        log.debug("ForbiddenException: {}", e.getMessage());
+        return error(HttpStatus.FORBIDDEN, e.getMessage(), exchange);
+    }
+
+    // 404 Not Found
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(NotFoundException e, ServerWebExchange exchange) {
+        log.debug("NotFoundException: {}", e.getMessage());
+        return error(HttpStatus.NOT_FOUND, e.getMessage(), exchange);
+    }
+
+    // 429 Too Many Request
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException e, ServerWebExchange exchange) {
+        log.debug("TooManyRequestsException: {}", e.getMessage());
+        ResponseEntity<ErrorResponse> response = error(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), exchange);
+        if (e.getRetryAfterSeconds() <= 0) {
+            return response;
+        }
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(response.getBody());
+    }
+
+    // 500 Internal Server Error
+    @ExceptionHandler(InternalServerException.class)
+    public ResponseEntity<ErrorResponse> handleInternalServer(InternalServerException e, ServerWebExchange exchange) {
+        log.error("InternalServerException: {}", e.getMessage());
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), exchange);
+    }
+
+    // Validation 에러 처리
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(WebExchangeBindException e, ServerWebExchange exchange) {
+        Map<String, String> errors = new HashMap<>();
+        e.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        log.debug("ValidationException: {}", errors);
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .body(ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Validation Failed")
+                .message("입력값이 올바르지 않습니다.")
+                .validation(errors)
+                .path(exchange.getRequest().getPath().value())
+                .build());
+    }
+
+    // 요청 본문/파라미터 오류 (400)
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInput(ServerWebInputException e, ServerWebExchange exchange) {
+        log.debug("ServerWebInputException: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "요청 본문을 읽을 수 없습니다. JSON 형식을 확인해주세요.", exchange);
+    }
+
+    // 500 DB 오류
+    @ExceptionHandler({DataAccessException.class, org.jooq.exception.DataAccessException.class})
+    public ResponseEntity<ErrorResponse> handleDataAccessException(RuntimeException e, ServerWebExchange exchange) {
+        log.error("DataAccessException: {}", e.getMessage());
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 처리 중 오류가 발생했습니다.", exchange);
+    }
+
+    // 기타 예외 처리
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception e, ServerWebExchange exchange) {
+        log.error("Unexpected error occurred", e);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.", exchange);
+    }
+
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String message, ServerWebExchange exchange) {
+        return ResponseEntity
+            .status(status)
+            .body(ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(exchange.getRequest().getPath().value())
+                .build());
+    }
+}
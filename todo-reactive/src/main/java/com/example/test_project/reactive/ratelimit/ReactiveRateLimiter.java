@@ -0,0 +1,153 @@
+package com.example.test_project.reactive.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.test_project.config.exception.TooManyRequestsException;
+import com.example.test_project.config.properties.AppProperties;
+import com.example.test_project.reactive.config.properties.ReactiveAppProperties;
+import com.example.test_project.util.CircuitBreaker;
+import com.example.test_project.util.InMemoryKeyValueStore;
+import com.example.test_project.util.RateLimitAlgorithm;
+import com.example.test_project.util.RateLimitResult;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Redis 기반 요청 속도 제한
+ * 
+ * <p>메인 서버({@code RateLimitUtil})와 같은 알고리즘 스크립트({@link RateLimitAlgorithm})와 같은 버킷 키
+ * ({@code 알고리즘 접두사 + 이름 + ":" + 윈도우 + "s:" + 식별자})를 사용하므로,
+ * 두 서버에 같은 이름과 윈도우로 선언한 제한은 허용량을 공유합니다.</p>
+ * 
+ * <p>Redis 호출은 짧은 타임아웃({@code app.redis-kv-command-timeout-millis})과 {@link CircuitBreaker}로 감싸며,
+ * Redis를 사용할 수 없으면(회로 열림, 연결 실패, 타임아웃) 메인 서버와 같이 같은 알고리즘을
+ * 프로세스 내 저장소로 판정합니다. 장애 중에는 노드마다 따로 제한됩니다.</p>
+ */
+@Slf4j
+@Component
+public class ReactiveRateLimiter {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RateLimitAlgorithm algorithm;
+    private final Duration commandTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final InMemoryKeyValueStore fallbackStore;
+
+    public ReactiveRateLimiter(ReactiveStringRedisTemplate redisTemplate, ReactiveAppProperties appProperties) {
+        this.redisTemplate = redisTemplate;
+        this.algorithm = appProperties.getRedisRatelimitAlgorithm();
+        this.commandTimeout = Duration.ofMillis(appProperties.getRedisKvCommandTimeoutMillis());
+        this.circuitBreaker = new CircuitBreaker(
+            "redis-ratelimit-reactive",
+            appProperties.getRedisCircuitWindowSize(),
+            appProperties.getRedisCircuitMinCalls(),
+            appProperties.getRedisCircuitFailureRateThreshold(),
+            appProperties.getRedisCircuitOpenMillis(),
+            appProperties.getRedisCircuitHalfOpenCalls());
+
+        // 프로세스 내 저장소는 만료 정리 간격만 사용
+        AppProperties fallbackProperties = new AppProperties();
+        fallbackProperties.setKvStoreMemoryTickMillis(appProperties.getKvStoreMemoryTickMillis());
+        this.fallbackStore = new InMemoryKeyValueStore(fallbackProperties);
+    }
+
+    /**
+     * 대체 저장소를 닫습니다.
+     */
+    @PreDestroy
+    public void close() {
+        fallbackStore.close();
+    }
+
+
+    /**
+     * 허용량을 1 차감하고, 초과한 경우 오류를 발생시킵니다.
+     * 
+     * @param name 제한 이름 (메인 서버의 {@code @RateLimited(name)}과 같은 값, 예: "todo.create")
+     * @param identifier 제한 대상 식별자 (예: "user:1")
+     * @param limit 윈도우당 허용 횟수
+     * @param windowSeconds 윈도우 길이(초)
+     * @return 허용되면 완료, 초과하면 {@link TooManyRequestsException}
+     */
+    public Mono<Void> acquire(String name, String identifier, int limit, long windowSeconds) {
+        List<String> keys = List.of(algorithm.getKeyPrefix() + name + ":" + windowSeconds + "s:" + identifier);
+        List<String> args = List.of(UUID.randomUUID().toString(), String.valueOf(limit), String.valueOf(windowSeconds * 1000), "1");
+
+        return evaluate(keys, args)
+            .flatMap(reply -> {
+                RateLimitResult result = toResult(reply, limit);
+                if (result.allowed()) {
+                    return Mono.<Void>empty();
+                }
+                log.warn("요청 속도 제한 초과 - bucket: {}", keys.get(0));
+                return Mono.<Void>error(new TooManyRequestsException("요청 횟수 제한을 초과했습니다.", result.retryAfterSeconds()));
+            });
+    }
+
+
+    /**
+     * 회로 차단기를 거쳐 Redis에서 판정하고, 사용할 수 없으면 프로세스 내 저장소로 판정합니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private Mono<List> evaluate(List<String> keys, List<String> args) {
+        Mono<List> fallback = Mono.fromCallable(() -> fallbackStore.execute(algorithm.getScript(), keys, args.toArray(String[]::new)));
+        if (!circuitBreaker.tryAcquire()) {
+            return fallback;
+        }
+
+        return redisTemplate.execute(algorithm.getScript().redisScript(), keys, args)
+            .next()
+            .timeout(commandTimeout)
+            .doOnSuccess(reply -> circuitBreaker.onSuccess())
+            .onErrorResume(e -> {
+                if (!isUnavailable(e)) {
+                    circuitBreaker.onSuccess();
+                    return Mono.error(e);
+                }
+                circuitBreaker.onFailure();
+                log.warn("Redis 요청 속도 제한 판정 실패, 프로세스 내 저장소로 판정 - key: {}, error: {}", keys.get(0), e.getMessage());
+                return fallback;
+            })
+            // 구독이 취소되면 결과 없이 끝나므로 시험 호출 허용만 반납
+            .doOnCancel(circuitBreaker::release);
+    }
+
+
+    private boolean isUnavailable(Throwable e) {
+        if (e instanceof TimeoutException || e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException) {
+            return true;
+        }
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return cause instanceof RedisCommandTimeoutException
+            || cause instanceof RedisConnectionException
+            || cause instanceof TimeoutException;
+    }
+
+
+    @SuppressWarnings("rawtypes")
+    private RateLimitResult toResult(List reply, int limit) {
+        if (reply == null || reply.size() != 4) {
+            throw new IllegalStateException("Unexpected rate limit script reply: " + reply);
+        }
+        return new RateLimitResult(toLong(reply.get(0)) == 1L, limit, toLong(reply.get(1)), toLong(reply.get(2)), toLong(reply.get(3)));
+    }
+
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+}
@@ -0,0 +1,288 @@
+package com.example.test_project.reactive.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import com.example.jooq.tables.JTodos;
+import com.example.jooq.tables.pojos.Todos;
+import com.example.jooq.tables.records.TodosRecord;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@code TodosRepository}의 R2DBC 버전
+ * 
+ * <p>같은 jOOQ 쿼리를 Publisher로 실행하며, 결과는 생성된 {@link Todos} POJO로 변환합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTodosRepository {
+
+    private final DSLContext dslContext;
+    private final JTodos TODOS = JTodos.TODOS;
+
+    /**
+     * Todo ID로 할 일 정보를 조회합니다.
+     * 
+     * @param todoId 조회할 Todo ID
+     * @return Todo 정보, 존재하지 않을 경우 빈 Mono
+     */
+    public Mono<Todos> find(String todoId) {
+        return Mono.from(dslContext.selectFrom(TODOS)
+                .where(TODOS.TODO_ID.eq(todoId)))
+                .map(record -> record.into(Todos.class));
+    }
+
+
+    private Condition buildFilter(int userNo, String status, String searchType, String keyword) {
+        Condition condition = TODOS.USER_NO.eq(userNo);
+
+        // 상태 필터
+        if (StringUtils.hasText(status)) {
+            switch (status) {
+                case "complete"   -> condition = condition.and(TODOS.COMPLETED_AT.isNotNull());
+                case "incomplete" -> condition = condition.and(TODOS.COMPLETED_AT.isNull());
+            }
+        }
+
+        // 검색 필터
+        if (StringUtils.hasText(keyword) && StringUtils.hasText(searchType)) {
+            String pattern = "%" + keyword.trim() + "%";
+            switch (searchType) {
+                case "title"   -> condition = condition.and(TODOS.TITLE.likeIgnoreCase(pattern));
+                case "content" -> condition = condition.and(TODOS.CONTENT.likeIgnoreCase(pattern));
+            }
+        }
+
+        return condition;
+    }
+
+
+    /**
+     * 특정 회원의 Todo 목록을 페이징하여 조회합니다.
+     * 
+     * @param userNo 조회할 회원 번호
+     * @param offset 시작 위치 (0 기반)
+     * @param limit  조회할 데이터 개수
+     * @param status  조회할 상태(complete|incomplete)
+     * @param searchType  검색할 대상(title|content)
+     * @param keyword  검색어
+     * @return Todo 목록
+     */
+    public Flux<Todos> findPageByUserNo(int userNo, int offset, int limit, String status, String searchType, String keyword) {
+        Condition condition = buildFilter(userNo, status, searchType, keyword);
+
+        return Flux.from(dslContext.selectFrom(TODOS)
+                .where(condition)
+                .orderBy(TODOS.SEQUENCE.asc(), TODOS.CREATED_AT.asc())
+                .limit(offset * limit, limit))
+                .map(record -> record.into(Todos.class));
+    }
+
+
+    /**
+     * 특정 회원의 Todo 특정 개수를 조회합니다.
+     * 
+     * @param userNo 조회할 회원 번호
+     * @param status  조회할 상태(complete|incomplete)
+     * @param searchType  검색할 대상(title|content)
+     * @param keyword  검색어
+     * @return 총 Todo 개수
+     */
+    public Mono<Integer> countPageByUserNo(int userNo, String status, String searchType, String keyword) {
+        Condition condition = buildFilter(userNo, status, searchType, keyword);
+
+        return Mono.from(dslContext.selectCount()
+                .from(TODOS)
+                .where(condition))
+                .map(Record1::value1);
+    }
+
+
+    /**
+     * 특정 회원의 Todo 전체 개수를 조회합니다.
+     * 
+     * @param userNo 조회할 회원 번호
+     * @return 총 Todo 개수
+     */
+    public Mono<Integer> countByUserNo(int userNo) {
+        return Mono.from(dslContext.selectCount()
+                .from(TODOS)
+                .where(TODOS.USER_NO.eq(userNo)))
+                .map(Record1::value1);
+    }
+
+
+    /**
+     * 특정 회원의 완료된 Todo 개수를 조회합니다.
+     * completedAt이 null이 아닌 Todo를 완료된 것으로 간주합니다.
+     * 
+     * @param userNo 조회할 회원 번호
+     * @return 완료된 Todo 개수
+     */
+    public Mono<Integer> countCompletedByUserNo(int userNo) {
+        return Mono.from(dslContext.selectCount()
+                .from(TODOS)
+                .where(TODOS.USER_NO.eq(userNo))
+                .and(TODOS.COMPLETED_AT.isNotNull()))
+                .map(Record1::value1);
+    }
+
+
+    /**
+     * 특정 회원의 오늘 완료한 Todo 개수를 조회합니다.
+     * completedAt이 오늘 날짜인 Todo를 조회합니다.
+     * 
+     * @param userNo 조회할 회원 번호
+     * @return 오늘 완료한 Todo 개수
+     */
+    public Mono<Integer> countTodayCompletedByUserNo(int userNo) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime startOfDay = today.atStartOfDay();
+        LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
+
+        return Mono.from(dslContext.selectCount()
+                .from(TODOS)
+                .where(TODOS.USER_NO.eq(userNo))
+                .and(TODOS.COMPLETED_AT.isNotNull())
+                .and(TODOS.COMPLETED_AT.between(startOfDay, endOfDay)))
+                .map(Record1::value1);
+    }
+
+
+    /**
+     * 새로운 할 일을 저장합니다.
+     * sequence가 null인 경우 해당 사용자의 최대 sequence + 1로 자동 설정됩니다.
+     * 
+     * @param todoPojo 저장할 Todo 정보 객체 (필수 필드는 {@code TodosRepository#save}와 동일)
+     * @return 저장된 레코드 수
+     */
+    public Mono<Integer> save(Todos todoPojo) {
+        Mono<Integer> sequence = todoPojo.getSequence() != null
+                ? Mono.just(todoPojo.getSequence())
+                : getNextSequence(todoPojo.getUserNo());
+
+        return sequence.flatMap(next -> Mono.from(dslContext.insertInto(TODOS)
+                .set(TODOS.TODO_ID, todoPojo.getTodoId())
+                .set(TODOS.USER_NO, todoPojo.getUserNo())
+                .set(TODOS.TITLE, todoPojo.getTitle())
+                .set(TODOS.CONTENT, todoPojo.getContent())
+                .set(TODOS.COLOR, todoPojo.getColor())
+                .set(TODOS.SEQUENCE, next)
+                .set(TODOS.DUE_AT, todoPojo.getDueAt())
+                .set(TODOS.CREATED_AT, todoPojo.getCreatedAt())));
+    }
+
+
+    /**
+     * 기존 할 일 정보를 업데이트합니다.
+     * 값이 null이거나 빈 문자열인 필드는 업데이트하지 않습니다.
+     * 
+     * @param todoId 업데이트할 Todo ID
+     * @param todoPojo 업데이트할 Todo 정보 객체 (업데이트 가능한 필드는 {@code TodosRepository#update}와 동일)
+     * @return 업데이트된 레코드 수 (0: 변경사항 없음, 1: 업데이트 성공)
+     */
+    public Mono<Integer> update(String todoId, Todos todoPojo) {
+        TodosRecord todosRecord = dslContext.newRecord(TODOS);
+
+        if (StringUtils.hasText(todoPojo.getTitle())) {
+            todosRecord.setTitle(todoPojo.getTitle());
+        }
+
+        if (StringUtils.hasText(todoPojo.getContent())) {
+            todosRecord.setContent(todoPojo.getContent());
+        }
+
+        if (StringUtils.hasText(todoPojo.getColor())) {
+            todosRecord.setColor(todoPojo.getColor());
+        }
+
+        if (todoPojo.getSequence() != null) {
+            todosRecord.setSequence(todoPojo.getSequence());
+        }
+
+        if (todoPojo.getDueAt() != null) {
+            todosRecord.setDueAt(todoPojo.getDueAt());
+        }
+
+        if (todoPojo.getUpdatedAt() != null) {
+            todosRecord.setUpdatedAt(todoPojo.getUpdatedAt());
+        }
+
+        if (!todosRecord.changed()) {
+            return Mono.just(0);
+        }
+
+        return Mono.from(dslContext.update(TODOS)
+                .set(todosRecord)
+                .where(TODOS.TODO_ID.eq(todoId)));
+    }
+
+
+    /**
+     * 기존 할 일 순서를 업데이트합니다.
+     * 
+     * @param todoId 업데이트할 Todo ID
+     * @param sequence 업데이트할 순서
+     * @return 업데이트된 레코드 수 (0: 변경사항 없음, 1: 업데이트 성공)
+     */
+    public Mono<Integer> updateSequence(String todoId, int sequence) {
+        return Mono.from(dslContext.update(TODOS)
+                .set(TODOS.SEQUENCE, sequence)
+                .where(TODOS.TODO_ID.eq(todoId)));
+    }
+
+
+    /**
+     * 기존 할 일 완료 날짜(=유무)를 업데이트합니다.
+     * 
+     * @param todoId 업데이트할 Todo ID
+     * @param completedAt 업데이트 완료 날짜(=유무)
+     * @return 업데이트된 레코드 수 (0: 변경사항 없음, 1: 업데이트 성공)
+     */
+    public Mono<Integer> updateCompletedAt(String todoId, LocalDateTime completedAt) {
+        return Mono.from(dslContext.update(TODOS)
+                .set(TODOS.COMPLETED_AT, completedAt)
+                .where(TODOS.TODO_ID.eq(todoId)));
+    }
+
+
+    /**
+     * 할 일을 물리적으로 삭제합니다.
+     * 
+     * @param todoId 삭제할 Todo ID
+     * @return 삭제된 레코드 수 (0: 해당 Todo 없음, 1: 삭제 성공)
+     */
+    public Mono<Integer> delete(String todoId) {
+        return Mono.from(dslContext.deleteFrom(TODOS)
+                .where(TODOS.TODO_ID.eq(todoId)));
+    }
+
+
+    /**
+     * 특정 사용자의 다음 시퀀스 번호를 가져옵니다.
+     * 
+     * @param userNo 사용자 번호
+     * @return 다음 시퀀스 번호 (기존 Todo가 없으면 1 반환)
+     */
+    private Mono<Integer> getNextSequence(int userNo) {
+        return Mono.from(dslContext
+                .select(DSL.max(TODOS.SEQUENCE))
+                .from(TODOS)
+                .where(TODOS.USER_NO.eq(userNo)))
+                .mapNotNull(Record1::value1)
+                .map(maxSequence -> maxSequence + 1)
+                .defaultIfEmpty(1);
+    }
+
+}
@@ -0,0 +1,311 @@
+package com.example.test_project.reactive.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.jooq.tables.pojos.Todos;
+import com.example.test_project.config.exception.*;
+import com.example.test_project.dto.request.*;
+import com.example.test_project.dto.response.*;
+import com.example.test_project.reactive.repository.ReactiveTodosRepository;
+import com.example.test_project.util.UuidUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * {@code TodoService}의 논블로킹 버전
+ * 
+ * <p>같은 검증과 권한 확인을 거치며, 트랜잭션은 R2DBC 트랜잭션 매니저가 관리합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveTodoService {
+
+    private final ReactiveTodosRepository todosRepository;
+
+    /**
+     * 사용자의 TO-DO 목록을 페이징하여 조회합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @param todoListRequest 페이징 요청 정보 (page, size)
+     * @return TO-DO 목록과 페이징 정보
+     */
+    @Transactional(readOnly = true)
+    public Mono<TodoListResponse> getTodos(int userNo, TodoListRequest todoListRequest) {
+        log.debug("TO-DO 목록 조회 시작 - userNo: {}, page: {}, size: {}, status: {}, searchType: {}, keyword: {}",
+                userNo,
+                todoListRequest.getPage(),
+                todoListRequest.getSize(),
+                todoListRequest.getStatus(),
+                todoListRequest.getSearchType(),
+                todoListRequest.getKeyword()
+        );
+
+        // 페이징된 TO-DO 목록 조회 (page는 0부터 시작하므로 -1)
+        Mono<List<TodoDetailResponse>> list = todosRepository.findPageByUserNo(userNo,
+                todoListRequest.getPage() - 1,
+                todoListRequest.getSize(),
+                todoListRequest.getStatus(),
+                todoListRequest.getSearchType(),
+                todoListRequest.getKeyword()
+        ).map(ReactiveTodoService::toDetailResponse).collectList();
+
+        // 개수 조회
+        Mono<Integer> totalCount = todosRepository.countPageByUserNo(
+            userNo,
+            todoListRequest.getStatus(),
+            todoListRequest.getSearchType(),
+            todoListRequest.getKeyword()
+        );
+
+        return list.zipWith(totalCount, (dtoList, count) -> {
+            log.debug("TO-DO 목록 조회 완료 - userNo: {}, 조회된 항목 수: {}, 전체 개수: {}", userNo, dtoList.size(), count);
+
+            return TodoListResponse.builder()
+                    .page(todoListRequest.getPage())
+                    .size(todoListRequest.getSize())
+                    .totalCount(count)
+                    .list(dtoList)
+                    .build();
+        });
+    }
+
+
+    /**
+     * 특정 TO-DO 항목의 상세 정보를 조회합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @param todoId TO-DO ID
+     * @return TO-DO 상세 정보
+     * @throws NotFoundException TODO를 찾을 수 없는 경우
+     * @throws ForbiddenException TO-DO 조회 권한이 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public Mono<TodoDetailResponse> getTodo(int userNo, String todoId) {
+        log.debug("TO-DO 상세 조회 시작 - userNo: {}, todoId: {}", userNo, todoId);
+
+        return findOwnedTodo(userNo, todoId, "TO-DO 조회 실패", "TO-DO 조회 권한이 없습니다.")
+            .map(todoPojo -> {
+                log.debug("TO-DO 상세 조회 완료 - userNo: {}, todoId: {}, title: {}", userNo, todoId, todoPojo.getTitle());
+                return toDetailResponse(todoPojo);
+            });
+    }
+
+
+    /**
+     * 새로운 TO-DO 항목을 생성합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @param todoCreateRequest TO-DO 생성 요청 정보
+     * @return 생성된 TODO의 ID
+     * @throws InternalServerException TO-DO 생성에 실패한 경우
+     */
+    @Transactional
+    public Mono<TodoCreateResponse> createTodo(int userNo, TodoCreateRequest todoCreateRequest) {
+        log.debug("TO-DO 생성 시작 - userNo: {}, title: {}", userNo, todoCreateRequest.getTitle());
+
+        // UUID v7 생성
+        String todoId = UuidUtil.generateUuidV7();
+
+        // TO-DO 엔티티 생성
+        Todos todoPojo = new Todos();
+        todoPojo.setTodoId(todoId);
+        todoPojo.setUserNo(userNo);
+        todoPojo.setTitle(todoCreateRequest.getTitle());
+        todoPojo.setContent(todoCreateRequest.getContent());
+        todoPojo.setColor(todoCreateRequest.getColor());
+        todoPojo.setDueAt(todoCreateRequest.getDueAt());
+        todoPojo.setCreatedAt(LocalDateTime.now());
+
+        // TO-DO 저장
+        return todosRepository.save(todoPojo)
+            .flatMap(saved -> {
+                if (saved == 0) {
+                    log.error("TO-DO 생성 실패 - userNo: {}, title: {}", userNo, todoCreateRequest.getTitle());
+                    return Mono.<TodoCreateResponse>error(new InternalServerException("TO-DO 생성에 실패했습니다."));
+                }
+
+                log.info("TO-DO 생성 성공 - userNo: {}, todoId: {}, title: {}", userNo, todoId, todoCreateRequest.getTitle());
+                return Mono.just(TodoCreateResponse.builder()
+                        .todoId(todoId)
+                        .build());
+            });
+    }
+
+
+    /**
+     * TO-DO 항목을 전체 수정합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @param todoId 수정할 TO-DO ID
+     * @param todoUpdateRequest TO-DO 수정 요청 정보
+     * @throws NotFoundException TODO를 찾을 수 없는 경우
+     * @throws ForbiddenException TO-DO 수정 권한이 없는 경우
+     * @throws InternalServerException TO-DO 수정에 실패한 경우
+     */
+    @Transactional
+    public Mono<Void> updateTodo(int userNo, String todoId, TodoUpdateRequest todoUpdateRequest) {
+        log.debug("TO-DO 수정 시작 - userNo: {}, todoId: {}, title: {}", userNo, todoId, todoUpdateRequest.getTitle());
+
+        // 수정할 데이터 설정
+        Todos updateTodoPojo = new Todos();
+        updateTodoPojo.setTitle(todoUpdateRequest.getTitle());
+        updateTodoPojo.setContent(todoUpdateRequest.getContent());
+        updateTodoPojo.setColor(todoUpdateRequest.getColor());
+        updateTodoPojo.setDueAt(todoUpdateRequest.getDueAt());
+        updateTodoPojo.setSequence(todoUpdateRequest.getSequence());
+        updateTodoPojo.setUpdatedAt(LocalDateTime.now());
+
+        return findOwnedTodo(userNo, todoId, "TO-DO 수정 실패", "TO-DO 수정 권한이 없습니다.")
+            .flatMap(todoPojo -> todosRepository.update(todoId, updateTodoPojo))
+            .flatMap(updated -> {
+                if (updated == 0) {
+                    log.error("TO-DO 수정 실패 - todoId: {}", todoId);
+                    return Mono.<Void>error(new InternalServerException("TO-DO 수정에 실패했습니다."));
+                }
+
+                log.info("TO-DO 수정 성공 - userNo: {}, todoId: {}", userNo, todoId);
+                return Mono.<Void>empty();
+            });
+    }
+
+
+    /**
+     * TO-DO 항목을 부분 수정합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @param todoId 수정할 TO-DO ID
+     * @param todoPatchRequest 부분 수정 요청 정보
+     * @throws NotFoundException TODO를 찾을 수 없는 경우
+     * @throws ForbiddenException TO-DO 수정 권한이 없는 경우
+     * @throws InternalServerException TO-DO 수정에 실패한 경우
+     */
+    @Transactional
+    public Mono<Void> patchTodo(int userNo, String todoId, TodoPatchRequest todoPatchRequest) {
+        log.debug("TO-DO 부분 수정 시작 - userNo: {}, todoId: {}, sequence: {}, completed: {}",
+                userNo, todoId, todoPatchRequest.getSequence(), todoPatchRequest.getCompleted());
+
+        return findOwnedTodo(userNo, todoId, "TO-DO 부분 수정 실패", "TO-DO 수정 권한이 없습니다.")
+            .flatMap(todoPojo -> {
+                // 순서 수정
+                Mono<Integer> sequenceCount = todoPatchRequest.getSequence() != null
+                        ? todosRepository.updateSequence(todoId, todoPatchRequest.getSequence())
+                        : Mono.just(0);
+
+                // 완료 상태 수정
+                Mono<Integer> completedCount = Mono.just(0);
+                if (todoPatchRequest.getCompleted() != null) {
+                    LocalDateTime completedAt = todoPatchRequest.getCompleted() ? LocalDateTime.now() : null;
+                    completedCount = todosRepository.updateCompletedAt(todoId, completedAt);
+                }
+
+                return sequenceCount.concatWith(completedCount).reduce(0, Integer::sum);
+            })
+            .flatMap(resultCount -> {
+                // 수정 결과 확인
+                if (resultCount == 0) {
+                    log.error("TO-DO 부분 수정 실패 - 수정된 항목 없음 - todoId: {}", todoId);
+                    return Mono.<Void>error(new InternalServerException("TO-DO 수정에 실패했습니다."));
+                }
+
+                log.info("TO-DO 부분 수정 성공 - userNo: {}, todoId: {}, 수정된 항목 수: {}", userNo, todoId, resultCount);
+                return Mono.<Void>empty();
+            });
+    }
+
+
+    /**
+     * TO-DO 항목을 삭제합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @param todoId 삭제할 TO-DO ID
+     * @throws NotFoundException TODO를 찾을 수 없는 경우
+     * @throws ForbiddenException TO-DO 삭제 권한이 없는 경우
+     * @throws InternalServerException TO-DO 삭제에 실패한 경우
+     */
+    @Transactional
+    public Mono<Void> deleteTodo(int userNo, String todoId) {
+        log.debug("TO-DO 삭제 시작 - userNo: {}, todoId: {}", userNo, todoId);
+
+        return findOwnedTodo(userNo, todoId, "TO-DO 삭제 실패", "TO-DO 삭제 권한이 없습니다.")
+            .flatMap(todoPojo -> todosRepository.delete(todoId))
+            .flatMap(deleted -> {
+                if (deleted == 0) {
+                    log.error("TO-DO 삭제 실패 - todoId: {}", todoId);
+                    return Mono.<Void>error(new InternalServerException("TO-DO 삭제에 실패했습니다."));
+                }
+
+                log.info("TO-DO 삭제 성공 - userNo: {}, todoId: {}", userNo, todoId);
+                return Mono.<Void>empty();
+            });
+    }
+
+
+    /**
+     * 사용자의 TO-DO 통계 정보를 조회합니다.
+     * 
+     * <p>세 개수 쿼리를 동시에 실행합니다.</p>
+     * 
+     * @param userNo 사용자 번호
+     * @return TO-DO 통계 정보
+     */
+    public Mono<TodoStatisticsResponse> getTodoStatistics(int userNo) {
+        log.debug("TO-DO 통계 조회 시작 - userNo: {}", userNo);
+
+        return Mono.zip(
+                todosRepository.countByUserNo(userNo),
+                todosRepository.countCompletedByUserNo(userNo),
+                todosRepository.countTodayCompletedByUserNo(userNo))
+            .map(counts -> {
+                log.debug("TO-DO 통계 조회 완료 - userNo: {}, total: {}, completed: {}, todayCompleted: {}",
+                        userNo, counts.getT1(), counts.getT2(), counts.getT3());
+
+                return TodoStatisticsResponse.builder()
+                        .totalCount(counts.getT1())
+                        .completedCount(counts.getT2())
+                        .todayCompletedCount(counts.getT3())
+                        .build();
+            });
+    }
+
+
+    /**
+     * TO-DO를 조회하고 본인 소유인지 확인합니다.
+     */
+    private Mono<Todos> findOwnedTodo(int userNo, String todoId, String failureLog, String forbiddenMessage) {
+        return todosRepository.find(todoId)
+            .switchIfEmpty(Mono.defer(() -> {
+                log.warn("{} - TODO를 찾을 수 없음 - todoId: {}", failureLog, todoId);
+                return Mono.<Todos>error(new NotFoundException("TODO를 찾을 수 없습니다."));
+            }))
+            .flatMap(todoPojo -> {
+                if (todoPojo.getUserNo() != userNo) {
+                    log.warn("{} - 권한 없음 - userNo: {}, todoUserNo: {}, todoId: {}", failureLog, userNo, todoPojo.getUserNo(), todoId);
+                    return Mono.<Todos>error(new ForbiddenException(forbiddenMessage));
+                }
+                return Mono.just(todoPojo);
+            });
+    }
+
+    private static TodoDetailResponse toDetailResponse(Todos row) {
+        return TodoDetailResponse.builder()
+                .todoId(row.getTodoId())
+                .title(row.getTitle())
+                .content(row.getContent())
+                .color(row.getColor())
+                .sequence(row.getSequence())
+                .dueAt(row.getDueAt())
+                .completedAt(row.getCompletedAt())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+}